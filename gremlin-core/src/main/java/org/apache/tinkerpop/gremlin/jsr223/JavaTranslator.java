@@ -33,9 +33,9 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -52,7 +52,8 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
 
     private final S traversalSource;
     private final Class anonymousTraversal;
-    private static final Map<Class<?>, Map<String, List<Method>>> GLOBAL_METHOD_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, List<MethodInvoker>>> GLOBAL_METHOD_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Method> ANONYMOUS_TRAVERSAL_START_CACHE = new ConcurrentHashMap<>();
 
 
     private JavaTranslator(final S traversalSource) {
@@ -104,7 +105,7 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
             return translateObject(((Bytecode.Binding) object).value());
         else if (object instanceof Bytecode) {
             try {
-                final Traversal.Admin<?, ?> traversal = (Traversal.Admin) this.anonymousTraversal.getMethod("start").invoke(null);
+                final Traversal.Admin<?, ?> traversal = (Traversal.Admin) getAnonymousTraversalStart(this.anonymousTraversal).invoke(null);
                 for (final Bytecode.Instruction instruction : ((Bytecode) object).getStepInstructions()) {
                     invokeMethod(traversal, Traversal.class, instruction.getOperator(), instruction.getArguments());
                 }
@@ -159,8 +160,7 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
 
     private Object invokeMethod(final Object delegate, final Class returnType, final String methodName, final Object... arguments) {
         // populate method cache for fast access to methods in subsequent calls
-        final Map<String, List<Method>> methodCache = GLOBAL_METHOD_CACHE.getOrDefault(delegate.getClass(), new HashMap<>());
-        if (methodCache.isEmpty()) buildMethodCache(delegate, methodCache);
+        final Map<String, List<MethodInvoker>> methodCache = getMethodCache(delegate.getClass());
 
         // create a copy of the argument array so as not to mutate the original bytecode
         final Object[] argumentsCopy = new Object[arguments.length];
@@ -168,15 +168,15 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
             argumentsCopy[i] = translateObject(arguments[i]);
         }
         try {
-            for (final Method method : methodCache.get(methodName)) {
-                if (returnType.isAssignableFrom(method.getReturnType())) {
-                    if (method.getParameterCount() == argumentsCopy.length || (method.getParameterCount() > 0 && method.getParameters()[method.getParameters().length - 1].isVarArgs())) {
-                        final Parameter[] parameters = method.getParameters();
-                        final Object[] newArguments = new Object[parameters.length];
+            for (final MethodInvoker invoker : methodCache.getOrDefault(methodName, Collections.emptyList())) {
+                if (returnType.isAssignableFrom(invoker.returnType)) {
+                    if (invoker.parameterTypes.length == argumentsCopy.length || invoker.varArgs) {
+                        final Class<?>[] parameterTypes = invoker.parameterTypes;
+                        final Object[] newArguments = new Object[parameterTypes.length];
                         boolean found = true;
-                        for (int i = 0; i < parameters.length; i++) {
-                            if (parameters[i].isVarArgs()) {
-                                final Class<?> parameterClass = parameters[i].getType().getComponentType();
+                        for (int i = 0; i < parameterTypes.length; i++) {
+                            if (invoker.varArgs && i == parameterTypes.length - 1) {
+                                final Class<?> parameterClass = parameterTypes[i].getComponentType();
                                 if (argumentsCopy.length > i && !parameterClass.isAssignableFrom(argumentsCopy[i].getClass())) {
                                     found = false;
                                     break;
@@ -190,8 +190,8 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
                                 break;
                             } else {
                                 if (i < argumentsCopy.length &&
-                                        (parameters[i].getType().isAssignableFrom(argumentsCopy[i].getClass()) ||
-                                                (parameters[i].getType().isPrimitive() &&
+                                        (parameterTypes[i].isAssignableFrom(argumentsCopy[i].getClass()) ||
+                                                (parameterTypes[i].isPrimitive() &&
                                                         (Number.class.isAssignableFrom(argumentsCopy[i].getClass()) ||
                                                                 argumentsCopy[i].getClass().equals(Boolean.class) ||
                                                                 argumentsCopy[i].getClass().equals(Byte.class) ||
@@ -204,7 +204,7 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
                             }
                         }
                         if (found) {
-                            return 0 == newArguments.length ? method.invoke(delegate) : method.invoke(delegate, newArguments);
+                            return 0 == newArguments.length ? invoker.method.invoke(delegate) : invoker.method.invoke(delegate, newArguments);
                         }
                     }
                 }
@@ -215,19 +215,46 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
         throw new IllegalStateException("Could not locate method: " + delegate.getClass().getSimpleName() + "." + methodName + "(" + Arrays.toString(argumentsCopy) + ")");
     }
 
-    private synchronized static void buildMethodCache(final Object delegate, final Map<String, List<Method>> methodCache) {
-        if (methodCache.isEmpty()) {
-            for (final Method method : delegate.getClass().getMethods()) {
-                if (!(method.getName().equals("addV") && method.getParameterCount() == 1 && method.getParameters()[0].getType().equals(Object[].class))) { // hack cause its hard to tell Object[] vs. String :|
-                    List<Method> list = methodCache.get(method.getName());
-                    if (null == list) {
-                        list = new ArrayList<>();
-                        methodCache.put(method.getName(), list);
-                    }
-                    list.add(method);
-                }
+    private static Map<String, List<MethodInvoker>> getMethodCache(final Class<?> delegateClass) {
+        final Map<String, List<MethodInvoker>> methodCache = GLOBAL_METHOD_CACHE.get(delegateClass);
+        return null == methodCache ? GLOBAL_METHOD_CACHE.computeIfAbsent(delegateClass, JavaTranslator::buildMethodCache) : methodCache;
+    }
+
+    private static Map<String, List<MethodInvoker>> buildMethodCache(final Class<?> delegateClass) {
+        final Map<String, List<MethodInvoker>> methodCache = new HashMap<>();
+        for (final Method method : delegateClass.getMethods()) {
+            if (!(method.getName().equals("addV") && method.getParameterCount() == 1 && method.getParameters()[0].getType().equals(Object[].class))) { // hack cause its hard to tell Object[] vs. String :|
+                methodCache.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(new MethodInvoker(method));
             }
-            GLOBAL_METHOD_CACHE.put(delegate.getClass(), methodCache);
+        }
+        return methodCache;
+    }
+
+    private static Method getAnonymousTraversalStart(final Class<?> anonymousTraversal) {
+        return ANONYMOUS_TRAVERSAL_START_CACHE.computeIfAbsent(anonymousTraversal, c -> {
+            try {
+                return c.getMethod("start");
+            } catch (final NoSuchMethodException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * A {@link Method} along with the parts of its signature that are needed to match it to the arguments of an
+     * instruction, so that they do not have to be copied out of the {@link Method} for each instruction translated.
+     */
+    private static final class MethodInvoker {
+        private final Method method;
+        private final Class<?> returnType;
+        private final Class<?>[] parameterTypes;
+        private final boolean varArgs;
+
+        private MethodInvoker(final Method method) {
+            this.method = method;
+            this.returnType = method.getReturnType();
+            this.parameterTypes = method.getParameterTypes();
+            this.varArgs = method.isVarArgs();
         }
     }
 }
@@ -22,8 +22,14 @@ import org.apache.tinkerpop.gremlin.process.remote.RemoteConnection;
 import org.apache.tinkerpop.gremlin.process.remote.traversal.step.map.RemoteStep;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A {@link RemoteTraversal} is returned from {@link RemoteConnection#submitAsync(Bytecode)}. It is iterated from
  * within {@link RemoteStep} using {@link #nextTraverser()}. Implementations should typically be given a "result" from
@@ -44,4 +50,27 @@ public interface RemoteTraversal<S,E> extends Traversal.Admin<S,E> {
      */
     @Override
     public RemoteTraversalSideEffects getSideEffects();
+
+    /**
+     * Gets up to the specified number of traversers without waiting on them to be available. The returned list is
+     * only smaller than the amount when the results are exhausted, so an empty list marks the end of the results.
+     * Implementations that receive their results asynchronously should override this method as the default pulls
+     * the traversers with {@link #nextTraverser()}. This method should not be mixed with {@link #nextTraverser()}
+     * when iterating the same results.
+     */
+    public default CompletableFuture<List<Traverser.Admin<E>>> nextTraversers(final int amount) {
+        final List<Traverser.Admin<E>> traversers = new ArrayList<>(amount);
+        try {
+            while (traversers.size() < amount) {
+                traversers.add(this.nextTraverser());
+            }
+        } catch (final NoSuchElementException ignored) {
+            // the results are exhausted
+        } catch (final Exception ex) {
+            final CompletableFuture<List<Traverser.Admin<E>>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            return failed;
+        }
+        return CompletableFuture.completedFuture(traversers);
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -98,4 +99,12 @@ public final class RemoteStep<S, E> extends AbstractStep<S, E> {
             throw new IllegalStateException(rce);
         }
     }
+
+    /**
+     * Submits the traversal if it was not already and gets the next batch of its results with
+     * {@link RemoteTraversal#nextTraversers(int)}, so that they can be consumed without blocking.
+     */
+    public CompletableFuture<List<Traverser.Admin<E>>> nextTraversers(final int amount) {
+        return promise().thenCompose(t -> this.remoteTraversal.nextTraversers(amount));
+    }
 }
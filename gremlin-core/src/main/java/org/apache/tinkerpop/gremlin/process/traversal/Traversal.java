@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequire
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalExplanation;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalPublisher;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
 import java.io.Serializable;
@@ -162,6 +163,24 @@ public interface Traversal<S, E> extends Iterator<E>, Serializable, Cloneable, A
         }
     }
 
+    /**
+     * Gets a {@link TraversalPublisher} that sends the results of the {@code Traversal} to a subscriber as it requests
+     * them, using batches of up to {@link TraversalPublisher#DEFAULT_BATCH_SIZE} traversers. When the
+     * {@code Traversal} is constructed using {@link TraversalSource#withRemote(Configuration)} the results are
+     * consumed without blocking any thread.
+     */
+    public default TraversalPublisher<E> publish() {
+        return this.publish(TraversalPublisher.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Gets a {@link TraversalPublisher} that sends the results of the {@code Traversal} to a subscriber as it requests
+     * them, using batches of up to the specified number of traversers.
+     */
+    public default TraversalPublisher<E> publish(final int batchSize) {
+        return new TraversalPublisher<>(this.asAdmin(), batchSize);
+    }
+
     /**
      * Add all the results of the traversal to the provided collection.
      *
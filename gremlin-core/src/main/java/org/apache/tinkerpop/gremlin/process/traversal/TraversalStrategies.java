@@ -52,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -200,6 +201,7 @@ public interface TraversalStrategies extends Serializable, Cloneable {
 
         private static final Map<Class<? extends Graph>, TraversalStrategies> GRAPH_CACHE = new HashMap<>();
         private static final Map<Class<? extends GraphComputer>, TraversalStrategies> GRAPH_COMPUTER_CACHE = new HashMap<>();
+        private static final Set<Class> LOADED_CLASSES = ConcurrentHashMap.newKeySet();
 
         static {
             final TraversalStrategies graphStrategies = new DefaultTraversalStrategies();
@@ -242,15 +244,20 @@ public interface TraversalStrategies extends Serializable, Cloneable {
         }
 
         public static TraversalStrategies getStrategies(final Class graphOrGraphComputerClass) {
-            try {
-                // be sure to load the class so that its static{} traversal strategy registration component is loaded.
-                // this is more important for GraphComputer classes as they are typically not instantiated prior to strategy usage like Graph classes.
-                final String graphComputerClassName = null != graphOrGraphComputerClass.getDeclaringClass() ?
-                        graphOrGraphComputerClass.getCanonicalName().replace("." + graphOrGraphComputerClass.getSimpleName(), "$" + graphOrGraphComputerClass.getSimpleName()) :
-                        graphOrGraphComputerClass.getCanonicalName();
-                Class.forName(graphComputerClassName);
-            } catch (final ClassNotFoundException e) {
-                throw new IllegalStateException(e.getMessage(), e);
+            // this is called for every traversal that is constructed (including anonymous ones) so only do the
+            // expensive class name resolution the first time a class is seen
+            if (!LOADED_CLASSES.contains(graphOrGraphComputerClass)) {
+                try {
+                    // be sure to load the class so that its static{} traversal strategy registration component is loaded.
+                    // this is more important for GraphComputer classes as they are typically not instantiated prior to strategy usage like Graph classes.
+                    final String graphComputerClassName = null != graphOrGraphComputerClass.getDeclaringClass() ?
+                            graphOrGraphComputerClass.getCanonicalName().replace("." + graphOrGraphComputerClass.getSimpleName(), "$" + graphOrGraphComputerClass.getSimpleName()) :
+                            graphOrGraphComputerClass.getCanonicalName();
+                    Class.forName(graphComputerClassName);
+                } catch (final ClassNotFoundException e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+                LOADED_CLASSES.add(graphOrGraphComputerClass);
             }
             if (Graph.class.isAssignableFrom(graphOrGraphComputerClass)) {
                 final TraversalStrategies traversalStrategies = GRAPH_CACHE.get(graphOrGraphComputerClass);
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+
+/**
+ * A {@code Batching} step can process its starts an array at a time rather than one traverser at a time. When the
+ * batch size of a step is greater than zero, it pulls batches of starts from the previous step and a following step
+ * that is batched as well pulls its ends the same way. Steps that are not batched are still pulled one traverser at a
+ * time, so batched and unbatched steps can be mixed in a traversal.
+ *
+ * @see org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.BatchingStrategy
+ */
+public interface Batching<E> {
+
+    /**
+     * Sets the number of traversers the step processes at a time where zero means the step is not batched.
+     */
+    public void setBatchSize(final int batchSize);
+
+    public int getBatchSize();
+
+    /**
+     * Moves the next ends of the step into the batch starting at the offset, which must be less than the length of
+     * the batch.
+     *
+     * @return the number of ends moved which is zero only once the step has no more ends
+     */
+    public int nextBatch(final Traverser.Admin<E>[] batch, final int offset);
+}
@@ -20,12 +20,15 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class FilterStep<S> extends AbstractStep<S, S> {
+public abstract class FilterStep<S> extends AbstractStep<S, S> implements Batching<S> {
+
+    private int batchSize = 0;
 
     public FilterStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -33,6 +36,8 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
 
     @Override
     protected Traverser.Admin<S> processNextStart() {
+        if (this.batchSize > 0)
+            return this.processNextBatchedStart(this.batchSize);
         while (true) {
             final Traverser.Admin<S> traverser = this.starts.next();
             if (this.filter(traverser))
@@ -40,5 +45,35 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
         }
     }
 
+    @Override
+    protected int processNextBatch(final Traverser.Admin<S>[] batch, final int offset) {
+        if (0 == this.batchSize)
+            return super.processNextBatch(batch, offset);
+        while (true) {
+            final int added = this.starts.nextBatch(batch, offset);
+            if (0 == added)
+                return 0;
+            int size = offset;
+            for (int i = offset; i < offset + added; i++) {
+                final Traverser.Admin<S> traverser = batch[i];
+                batch[i] = null;
+                if (this.filter(traverser))
+                    batch[size++] = traverser;
+            }
+            if (size > offset)
+                return size - offset;
+        }
+    }
+
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return this.batchSize;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
@@ -32,10 +33,12 @@ import java.util.function.BinaryOperator;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> {
+public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> implements Batching<Long> {
 
     private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.BULK);
 
+    private int batchSize = 0;
+
     public CountGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>(0L));
@@ -47,6 +50,34 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> {
         return traverser.bulk();
     }
 
+    @Override
+    public void processAllStarts() {
+        if (this.batchSize > 0 && this.starts.hasNext()) {
+            // sum the bulks of whole batches as primitives and reduce them into the seed once
+            final Traverser.Admin<S>[] batch = new Traverser.Admin[this.batchSize];
+            long count = 0L;
+            int size;
+            while (0 != (size = this.starts.nextBatch(batch, 0))) {
+                for (int i = 0; i < size; i++) {
+                    count = count + batch[i].bulk();
+                    batch[i] = null;
+                }
+            }
+            this.addBarrier(count);
+        }
+        super.processAllStarts();
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return REQUIREMENTS;
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
@@ -29,10 +30,15 @@ import java.util.Iterator;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
+public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> implements Batching<E> {
 
     private Traverser.Admin<S> head = null;
     private Iterator<E> iterator = EmptyIterator.instance();
+    private boolean recycleTraversers = false;
+    private int batchSize = 0;
+    private Traverser.Admin<S>[] startBatch = null;
+    private int startBatchIndex = 0;
+    private int startBatchSize = 0;
 
     public FlatMapStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -40,9 +46,11 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
 
     @Override
     protected Traverser.Admin<E> processNextStart() {
+        if (this.batchSize > 0)
+            return this.processNextBatchedStart(this.batchSize);
         while (true) {
             if (this.iterator.hasNext()) {
-                return this.head.split(this.iterator.next(), this);
+                return this.nextHeadEnd();
             } else {
                 closeIterator();
                 this.head = this.starts.next();
@@ -51,13 +59,77 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
         }
     }
 
+    @Override
+    protected int processNextBatch(final Traverser.Admin<E>[] batch, final int offset) {
+        if (0 == this.batchSize)
+            return super.processNextBatch(batch, offset);
+        int size = offset;
+        while (size < batch.length) {
+            if (this.iterator.hasNext()) {
+                batch[size++] = this.nextHeadEnd();
+            } else {
+                closeIterator();
+                this.iterator = EmptyIterator.instance();
+                if (this.startBatchIndex == this.startBatchSize) {
+                    if (null == this.startBatch || this.startBatch.length != this.batchSize)
+                        this.startBatch = new Traverser.Admin[this.batchSize];
+                    this.startBatchIndex = 0;
+                    this.startBatchSize = this.starts.nextBatch(this.startBatch, 0);
+                    if (0 == this.startBatchSize)
+                        break;
+                }
+                this.head = this.startBatch[this.startBatchIndex];
+                this.startBatch[this.startBatchIndex++] = null;
+                this.iterator = this.flatMap(this.head);
+            }
+        }
+        return size - offset;
+    }
+
+    private Traverser.Admin<E> nextHeadEnd() {
+        final E end = this.iterator.next();
+        if (this.recycleTraversers && !this.iterator.hasNext()) {
+            // the head is no longer referenced once its iterator is exhausted so it carries the last end
+            final Traverser.Admin<E> traverser = (Traverser.Admin<E>) (Traverser.Admin) this.head;
+            traverser.set(end);
+            return traverser;
+        }
+        return this.head.split(end, this);
+    }
+
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
+    /**
+     * Determines if the last end of each start reuses the start traverser rather than a split of it. This is only
+     * safe when the traverser does not carry a path or a sack and is set by {@code TraverserRecyclingStrategy}.
+     */
+    public void setRecycleTraversers(final boolean recycleTraversers) {
+        this.recycleTraversers = recycleTraversers;
+    }
+
+    public boolean recyclesTraversers() {
+        return this.recycleTraversers;
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
     @Override
     public void reset() {
         super.reset();
         closeIterator();
         this.iterator = EmptyIterator.instance();
+        // dropped rather than cleared as a clone shares the array until it is reset
+        this.startBatch = null;
+        this.startBatchIndex = 0;
+        this.startBatchSize = 0;
     }
 
     protected void closeIterator() {
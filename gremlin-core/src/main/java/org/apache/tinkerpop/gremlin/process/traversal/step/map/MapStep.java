@@ -20,12 +20,16 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class MapStep<S, E> extends AbstractStep<S, E> {
+public abstract class MapStep<S, E> extends AbstractStep<S, E> implements Batching<E> {
+
+    private boolean recycleTraversers = false;
+    private int batchSize = 0;
 
     public MapStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -33,11 +37,57 @@ public abstract class MapStep<S, E> extends AbstractStep<S, E> {
 
     @Override
     protected Traverser.Admin<E> processNextStart() {
-        final Traverser.Admin<S> traverser = this.starts.next();
+        if (this.batchSize > 0)
+            return this.processNextBatchedStart(this.batchSize);
+        return this.mapStart(this.starts.next());
+    }
+
+    @Override
+    protected int processNextBatch(final Traverser.Admin<E>[] batch, final int offset) {
+        if (0 == this.batchSize)
+            return super.processNextBatch(batch, offset);
+        // the starts are mapped in place so the batch holds starts before it holds ends
+        final Traverser.Admin[] starts = batch;
+        final int added = this.starts.nextBatch(starts, offset);
+        for (int i = offset; i < offset + added; i++) {
+            batch[i] = this.mapStart(starts[i]);
+        }
+        return added;
+    }
+
+    private Traverser.Admin<E> mapStart(final Traverser.Admin<S> traverser) {
+        if (this.recycleTraversers) {
+            final E end = this.map(traverser);
+            final Traverser.Admin<E> recycled = (Traverser.Admin<E>) (Traverser.Admin) traverser;
+            recycled.set(end);
+            return recycled;
+        }
         return traverser.split(this.map(traverser), this);
     }
 
     protected abstract E map(final Traverser.Admin<S> traverser);
 
+    /**
+     * Determines if the start traverser is reused to carry the mapped end rather than a split of it. This is only
+     * safe when the traverser does not carry a path or a sack and is set by {@code TraverserRecyclingStrategy}.
+     */
+    public void setRecycleTraversers(final boolean recycleTraversers) {
+        this.recycleTraversers = recycleTraversers;
+    }
+
+    public boolean recyclesTraversers() {
+        return this.recycleTraversers;
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
 }
 
@@ -22,9 +22,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -44,6 +46,11 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     protected Traverser.Admin<E> nextEnd = null;
     protected boolean traverserStepIdAndLabelsSetByChild = false;
 
+    // ends produced a batch at a time by a batched step that is pulled one traverser at a time
+    private Traverser.Admin<E>[] batchEnds = null;
+    private int batchEndsIndex = 0;
+    private int batchEndsSize = 0;
+
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
 
@@ -82,6 +89,10 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public void reset() {
         this.starts.clear();
         this.nextEnd = null;
+        if (null != this.batchEnds)
+            Arrays.fill(this.batchEnds, null);
+        this.batchEndsIndex = 0;
+        this.batchEndsSize = 0;
     }
 
     @Override
@@ -164,6 +175,78 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected abstract Traverser.Admin<E> processNextStart() throws NoSuchElementException;
 
+    /**
+     * Moves the next ends of this step into the batch starting at the offset, which must be less than the length of
+     * the batch, and prepares them for the next step just as {@link #next()} does. This is how steps that implement
+     * {@link org.apache.tinkerpop.gremlin.process.traversal.step.Batching} hand their ends to a following batched step.
+     *
+     * @return the number of ends moved which is zero only once the step has no more ends
+     */
+    public int nextBatch(final Traverser.Admin<E>[] batch, final int offset) {
+        int size = offset;
+        if (null != this.nextEnd) {
+            batch[size++] = this.prepareTraversalForNextStep(this.nextEnd);
+            this.nextEnd = null;
+        }
+        while (size < batch.length && this.batchEndsIndex < this.batchEndsSize) {
+            final Traverser.Admin<E> end = this.batchEnds[this.batchEndsIndex];
+            this.batchEnds[this.batchEndsIndex++] = null;
+            if (null != end.get() && 0 != end.bulk())
+                batch[size++] = this.prepareTraversalForNextStep(end);
+        }
+        while (size == offset) {
+            if (Thread.interrupted()) throw new TraversalInterruptedException();
+            final int added = this.processNextBatch(batch, offset);
+            if (0 == added)
+                break;
+            for (int i = offset; i < offset + added; i++) {
+                final Traverser.Admin<E> end = batch[i];
+                batch[i] = null;
+                if (null != end.get() && 0 != end.bulk())
+                    batch[size++] = this.prepareTraversalForNextStep(end);
+            }
+        }
+        return size - offset;
+    }
+
+    /**
+     * Produces the next ends of this step into the batch starting at the offset without preparing them for the next
+     * step. Batched steps override this to process their starts an array at a time and the default simply calls
+     * {@link #processNextStart()} until the batch is full.
+     *
+     * @return the number of ends produced which is zero only once the step has no more ends
+     */
+    protected int processNextBatch(final Traverser.Admin<E>[] batch, final int offset) {
+        int size = offset;
+        try {
+            while (size < batch.length) {
+                batch[size] = this.processNextStart();
+                size++;
+            }
+        } catch (final NoSuchElementException e) {
+            // the step is out of ends for now
+        }
+        return size - offset;
+    }
+
+    /**
+     * Gets the next end of a batched step that is pulled one traverser at a time, producing the ends a batch at a
+     * time with {@link #processNextBatch}.
+     */
+    protected final Traverser.Admin<E> processNextBatchedStart(final int batchSize) {
+        if (this.batchEndsIndex == this.batchEndsSize) {
+            if (null == this.batchEnds || this.batchEnds.length != batchSize)
+                this.batchEnds = new Traverser.Admin[batchSize];
+            this.batchEndsIndex = 0;
+            this.batchEndsSize = this.processNextBatch(this.batchEnds, 0);
+            if (0 == this.batchEndsSize)
+                throw FastNoSuchElementException.instance();
+        }
+        final Traverser.Admin<E> end = this.batchEnds[this.batchEndsIndex];
+        this.batchEnds[this.batchEndsIndex++] = null;
+        return end;
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this);
@@ -178,6 +261,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             clone.previousStep = EmptyStep.instance();
             clone.nextStep = EmptyStep.instance();
             clone.nextEnd = null;
+            clone.batchEnds = null;
             clone.traversal = EmptyTraversal.instance();
             clone.labels = new LinkedHashSet<>(this.labels);
             clone.reset();
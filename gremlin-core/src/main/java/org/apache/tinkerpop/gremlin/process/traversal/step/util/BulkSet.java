@@ -18,20 +18,19 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
+import org.apache.tinkerpop.gremlin.util.tools.OrderedObjectLongMap;
+
 import java.io.Serializable;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 
 /**
  * BulkSet is a weighted set (i.e. a multi-set). Objects are added along with a bulk counter the denotes how many times the object was added to the set.
@@ -40,7 +39,7 @@ import java.util.stream.Collectors;
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
-    private final Map<S, Long> map = new LinkedHashMap<>();
+    private final OrderedObjectLongMap<S> map = new OrderedObjectLongMap<>();
 
     @Override
     public int size() {
@@ -52,7 +51,7 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     }
 
     public long longSize() {
-        return this.map.values().stream().collect(Collectors.summingLong(Long::longValue));
+        return this.map.sumValues();
     }
 
     @Override
@@ -81,27 +80,19 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     }
 
     public void forEach(final BiConsumer<S, Long> consumer) {
-        this.map.forEach(consumer);
+        this.map.forEach(consumer::accept);
     }
 
     public Map<S, Long> asBulk() {
-        return Collections.unmodifiableMap(map);
+        return this.map.asMap();
     }
 
     public boolean add(final S s, final long bulk) {
-        final Long current = this.map.get(s);
-        if (current != null) {
-            this.map.put(s, current + bulk);
-            return false;
-        } else {
-            this.map.put(s, bulk);
-            return true;
-        }
+        return this.map.add(s, bulk);
     }
 
     public long get(final S s) {
-        final Long bulk = this.map.get(s);
-        return null == bulk ? 0 : bulk;
+        return this.map.getOrDefault(s, 0);
     }
 
     /*public void set(final S s, final long bulk) {
@@ -111,7 +102,7 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
 
     @Override
     public boolean remove(final Object s) {
-        return this.map.remove(s) != null;
+        return this.map.remove(s);
     }
 
     @Override
@@ -129,7 +120,7 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
         Objects.requireNonNull(collection);
         boolean modified = false;
         for (final Object object : collection) {
-            if (null != this.map.remove(object))
+            if (this.map.remove(object))
                 modified = true;
         }
         return modified;
@@ -137,17 +128,17 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
 
     @Override
     public int hashCode() {
-        return this.map.hashCode();
+        return this.asBulk().hashCode();
     }
 
     @Override
     public boolean equals(final Object object) {
-        return object instanceof BulkSet && this.map.equals(((BulkSet) object).map);
+        return object instanceof BulkSet && this.asBulk().equals(((BulkSet) object).asBulk());
     }
 
     @Override
     public String toString() {
-        return this.map.toString();
+        return this.asBulk().toString();
     }
 
     private List<S> toList() {
@@ -163,7 +154,7 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     @Override
     public Iterator<S> iterator() {
         return new Iterator<S>() {
-            final Iterator<Map.Entry<S, Long>> entryIterator = map.entrySet().iterator();
+            final OrderedObjectLongMap<S>.EntryIterator entryIterator = map.iterator();
             S lastObject = null;
             long lastCount = 0l;
 
@@ -177,12 +168,13 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
                     this.lastCount--;
                     return this.lastObject;
                 }
-                final Map.Entry<S, Long> entry = entryIterator.next();
-                if (entry.getValue() == 1) {
-                    return entry.getKey();
+                final S object = this.entryIterator.next();
+                final long count = this.entryIterator.value();
+                if (count == 1) {
+                    return object;
                 } else {
-                    this.lastObject = entry.getKey();
-                    this.lastCount = entry.getValue() - 1;
+                    this.lastObject = object;
+                    this.lastCount = count - 1;
                     return this.lastObject;
                 }
             }
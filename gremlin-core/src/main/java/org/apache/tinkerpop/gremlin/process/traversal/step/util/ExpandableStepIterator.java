@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 
 import java.io.Serializable;
@@ -53,6 +54,29 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
         return this.traverserSet.remove();
     }
 
+    /**
+     * Moves the next starts into the batch starting at the offset, which must be less than the length of the batch.
+     * Starts are pulled a batch at a time from a previous step that is batched and one at a time otherwise.
+     *
+     * @return the number of starts moved which is zero only once there are no more starts
+     */
+    public int nextBatch(final Traverser.Admin<S>[] batch, final int offset) {
+        int size = offset;
+        while (size < batch.length && !this.traverserSet.isEmpty()) {
+            batch[size++] = this.traverserSet.remove();
+        }
+        final Step<?, S> previousStep = this.hostStep.getPreviousStep();
+        if (previousStep instanceof Batching && ((Batching) previousStep).getBatchSize() > 0) {
+            if (size < batch.length)
+                size = size + ((Batching<S>) previousStep).nextBatch(batch, size);
+        } else {
+            while (size < batch.length && previousStep.hasNext()) {
+                batch[size++] = previousStep.next();
+            }
+        }
+        return size - offset;
+    }
+
     public void add(final Iterator<Traverser.Admin<S>> iterator) {
         iterator.forEachRemaining(this.traverserSet::add);
     }
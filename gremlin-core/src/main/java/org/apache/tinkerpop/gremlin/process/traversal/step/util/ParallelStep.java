@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * Executes its child traversal on partitions of its starts in an {@code ExecutorService}, which defaults to a pool
+ * dedicated to parallel traversals. The starts are split into contiguous partitions, each of which is processed by its
+ * own clone of the child traversal. If the child ends with a {@link ReducingBarrierStep} each partition is reduced on
+ * its own and the partial results are merged in partition order with {@link Barrier#addBarrier(Object)}, otherwise the
+ * traversers of the partitions are emitted in partition order.
+ * <p/>
+ * If the calling thread is interrupted or a partition fails, the remaining partitions are cancelled. Their worker
+ * threads are interrupted, which the steps of the partitions detect as a {@link TraversalInterruptedException}.
+ *
+ * @see org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ParallelStrategy
+ */
+public final class ParallelStep<S, E> extends AbstractStep<S, E> implements TraversalParent {
+
+    private Traversal.Admin<S, E> parallelTraversal;
+    private final int parallelism;
+    // executors are not serializable, so a deserialized step falls back to the default pool
+    private transient ExecutorService executor;
+    private boolean executed = false;
+    private Iterator<Traverser.Admin<E>> results = EmptyIterator.instance();
+
+    public ParallelStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> parallelTraversal, final int parallelism) {
+        this(traversal, parallelTraversal, parallelism, null);
+    }
+
+    /**
+     * @param executor the {@code ExecutorService} to run the partitions in or {@code null} to use the default pool
+     */
+    public ParallelStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> parallelTraversal, final int parallelism,
+                        final ExecutorService executor) {
+        super(traversal);
+        this.parallelTraversal = this.integrateChild(parallelTraversal);
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public ExecutorService getExecutor() {
+        return null == this.executor ? DefaultPool.POOL : this.executor;
+    }
+
+    @Override
+    public List<Traversal.Admin<S, E>> getGlobalChildren() {
+        return Collections.singletonList(this.parallelTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements();
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        while (true) {
+            if (this.results.hasNext())
+                return this.results.next();
+            // a reducing child yields a result even without starts, just as the barrier itself would
+            if (this.executed && !this.starts.hasNext())
+                throw FastNoSuchElementException.instance();
+            this.executed = true;
+            this.results = this.execute();
+        }
+    }
+
+    private Iterator<Traverser.Admin<E>> execute() {
+        final List<Traverser.Admin<S>> starts = new ArrayList<>();
+        this.starts.forEachRemaining(starts::add);
+        this.parallelTraversal.reset();
+        final boolean reducing = this.parallelTraversal.getEndStep() instanceof ReducingBarrierStep;
+
+        final int partitions = Math.min(this.parallelism, starts.size());
+        final List<Partition> tasks = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            final Traversal.Admin<S, E> partition = this.parallelTraversal.clone();
+            partition.addStarts(starts.subList(starts.size() * i / partitions, starts.size() * (i + 1) / partitions).iterator());
+            tasks.add(new Partition(partition, reducing));
+        }
+        final List<Object> partials = this.join(tasks);
+
+        if (reducing) {
+            final Barrier<Object> barrier = (Barrier<Object>) this.parallelTraversal.getEndStep();
+            for (final Object partial : partials) {
+                if (null != partial)
+                    barrier.addBarrier(partial);
+            }
+            // the barrier has no starts of its own so it emits the merged result
+            return (Iterator) this.parallelTraversal.getEndStep();
+        } else {
+            final List<Traverser.Admin<E>> traversers = new ArrayList<>();
+            for (final Object partial : partials) {
+                traversers.addAll((List<Traverser.Admin<E>>) partial);
+            }
+            return traversers.iterator();
+        }
+    }
+
+    private List<Object> join(final List<Partition> tasks) {
+        final List<Future<Object>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (int i = 1; i < tasks.size(); i++) {
+                futures.add(this.getExecutor().submit(tasks.get(i)));
+            }
+            final List<Object> partials = new ArrayList<>(tasks.size());
+            // the calling thread works on the first partition rather than wait for the others
+            if (!tasks.isEmpty())
+                partials.add(tasks.get(0).call());
+            for (final Future<Object> future : futures) {
+                partials.add(future.get());
+            }
+            return partials;
+        } catch (final InterruptedException ie) {
+            cancel(tasks, futures);
+            throw new TraversalInterruptedException();
+        } catch (final ExecutionException ee) {
+            cancel(tasks, futures);
+            if (ee.getCause() instanceof RuntimeException)
+                throw (RuntimeException) ee.getCause();
+            else if (ee.getCause() instanceof Error)
+                throw (Error) ee.getCause();
+            else
+                throw new IllegalStateException(ee.getCause().getMessage(), ee.getCause());
+        } catch (final RuntimeException | Error e) {
+            cancel(tasks, futures);
+            throw e;
+        }
+    }
+
+    private static void cancel(final List<Partition> tasks, final List<Future<Object>> futures) {
+        // not every executor interrupts a running task when its future is cancelled (a ForkJoinPool does not), so the
+        // partitions interrupt their worker threads themselves
+        tasks.forEach(Partition::cancel);
+        futures.forEach(future -> future.cancel(false));
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.parallelTraversal.reset();
+        this.executed = false;
+        this.results = EmptyIterator.instance();
+    }
+
+    @Override
+    public ParallelStep<S, E> clone() {
+        final ParallelStep<S, E> clone = (ParallelStep<S, E>) super.clone();
+        clone.parallelTraversal = this.parallelTraversal.clone();
+        clone.executed = false;
+        clone.results = EmptyIterator.instance();
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.parallelTraversal);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.parallelism, this.parallelTraversal);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.parallelTraversal.hashCode() ^ this.parallelism;
+    }
+
+    /**
+     * Processes a single partition and lets the thread that created it cancel it while it runs on another thread.
+     */
+    private static final class Partition implements Callable<Object> {
+
+        private final Traversal.Admin<?, ?> traversal;
+        private final boolean reducing;
+        private final Thread owner = Thread.currentThread();
+        private boolean cancelled = false;
+        private Thread runner = null;
+
+        private Partition(final Traversal.Admin<?, ?> traversal, final boolean reducing) {
+            this.traversal = traversal;
+            this.reducing = reducing;
+        }
+
+        @Override
+        public Object call() {
+            synchronized (this) {
+                if (this.cancelled)
+                    throw new TraversalInterruptedException();
+                this.runner = Thread.currentThread();
+            }
+            try {
+                return this.reducing ? this.reduce() : this.drain();
+            } finally {
+                synchronized (this) {
+                    this.runner = null;
+                    // a worker thread must not carry the interrupt that cancelled this partition into its next task
+                    if (this.cancelled && Thread.currentThread() != this.owner)
+                        Thread.interrupted();
+                }
+            }
+        }
+
+        private synchronized void cancel() {
+            this.cancelled = true;
+            if (null != this.runner && this.runner != this.owner)
+                this.runner.interrupt();
+        }
+
+        private synchronized boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        private Object reduce() {
+            final Barrier<?> barrier = (Barrier<?>) this.traversal.getEndStep();
+            return barrier.hasNextBarrier() ? barrier.nextBarrier() : null;
+        }
+
+        private List<Traverser.Admin<?>> drain() {
+            final List<Traverser.Admin<?>> traversers = new ArrayList<>();
+            while (this.traversal.hasNext()) {
+                if (this.isCancelled())
+                    throw new TraversalInterruptedException();
+                traversers.add(this.traversal.nextTraverser());
+            }
+            return traversers;
+        }
+    }
+
+    /**
+     * The pool that runs the partitions when no {@code ExecutorService} is given. It is kept apart from the common
+     * {@code ForkJoinPool} so that parallel traversals neither starve nor are starved by other users of that pool.
+     */
+    private static final class DefaultPool {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("gremlin-parallel-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+}
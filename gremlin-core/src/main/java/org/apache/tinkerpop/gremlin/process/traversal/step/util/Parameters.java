@@ -225,8 +225,8 @@ public final class Parameters implements Cloneable, Serializable {
                         values.add(value);
                 }
                 if (entry.getKey() instanceof Traversal.Admin) {
+                    // keys are not tracked as traversals by set() so neither are their clones
                     final Traversal.Admin<?, ?> traversalClone = ((Traversal.Admin) entry.getKey()).clone();
-                    clone.traversals.add(traversalClone);
                     clone.parameters.put(traversalClone, values);
                 } else
                     clone.parameters.put(entry.getKey(), values);
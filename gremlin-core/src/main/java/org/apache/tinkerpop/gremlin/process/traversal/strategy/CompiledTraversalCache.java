@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+
+import java.util.Optional;
+
+/**
+ * A {@link TraversalStrategy} that keeps root traversals after their strategies were applied so that a traversal
+ * which compiles the same way can take over their steps instead of applying the strategies again. A root traversal
+ * asks the first of its strategies that implements this interface for its compiled form before it applies its
+ * strategies, and hands itself to that strategy once they are applied.
+ */
+public interface CompiledTraversalCache {
+
+    /**
+     * Gets a compiled traversal whose steps can replace those of the specified root traversal, which has not had its
+     * strategies applied. The returned traversal is owned by the caller, which takes over its steps.
+     */
+    public Optional<Traversal.Admin<?, ?>> getCompiled(final Traversal.Admin<?, ?> traversal);
+
+    /**
+     * Offers a root traversal that just had its strategies applied and has not been iterated yet. The traversal
+     * itself must not be kept as it is about to be executed.
+     */
+    public void putCompiled(final Traversal.Admin<?, ?> traversal);
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.VertexProgramStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.CompiledTraversalCache;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CostBasedFilterStrategy;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.javatuples.Pair;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code CompilationCacheStrategy} remembers the outcome of applying the strategies to a root traversal, including
+ * those applied to all of its child traversals, so that a traversal with the same {@link Bytecode} on the same
+ * {@link Graph} and with the same strategy instances starts from a clone of the compiled traversal instead of being
+ * compiled again. This is worthwhile where the same traversals are submitted over and over and have many
+ * {@code union()}, {@code choose()} or {@code coalesce()} branches, as applying the strategies to those can take longer
+ * than executing them. Child traversals are only cached as part of their root because how they are optimized depends
+ * on the steps and labels of the traversals that contain them.
+ * <p/>
+ * Only use this strategy for traversals that are fully described by their bytecode, which is the case for those
+ * written with the Gremlin language, but not for those that add steps directly through {@link Traversal.Admin}.
+ * Bytecode arguments are compared with {@code equals()}, so a lambda only matches itself. The strategy holds the cache,
+ * so it should be added once to the {@code TraversalSource} that the traversals are spawned from rather than to each
+ * traversal. OLAP traversals are not cached and neither are those spawned from a source with {@code withSideEffect()}
+ * or {@code withSack()}. Traversals compiled with the {@link CostBasedFilterStrategy} are compiled
+ * again once the {@link Graph.Statistics} of their graph change and are not cached at all for graphs that cannot tell
+ * when their statistics change.
+ * <p/>
+ * Gremlin Server's {@code TraversalOpProcessor} keeps a cache of its own for bytecode requests, which also saves
+ * translating the bytecode to a traversal. This strategy is meant for traversals that are not submitted as bytecode
+ * to Gremlin Server, such as those of an embedded graph or those spawned in scripts.
+ *
+ * @example <pre>
+ * g = graph.traversal().withStrategies(CompilationCacheStrategy.build().maxSize(500).create())
+ * g.V().union(out(), in()).count()   // compiled and cached
+ * g.V().union(out(), in()).count()   // a clone of the cached traversal
+ * </pre>
+ */
+public final class CompilationCacheStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy>
+        implements TraversalStrategy.DecorationStrategy, CompiledTraversalCache {
+
+    public static final String MAX_SIZE = "maxSize";
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final int maxSize;
+    // the compiled traversals with the version of the statistics they were compiled with
+    private final Map<CompilationKey, Pair<Traversal.Admin<?, ?>, Long>> cache;
+
+    private CompilationCacheStrategy(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size must be greater than zero: " + maxSize);
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<CompilationKey, Pair<Traversal.Admin<?, ?>, Long>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CompilationKey, Pair<Traversal.Admin<?, ?>, Long>> eldest) {
+                return this.size() > CompilationCacheStrategy.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        // do nothing as the compiled traversals are looked up and cached by the traversal itself
+    }
+
+    /**
+     * Gets a clone of the compiled traversal cached for a traversal that is not yet compiled. The steps of the clone
+     * are ready to be executed, but its child traversals still refer to the side-effects of the cached traversal.
+     * A compiled traversal that depends on statistics which changed since it was cached is evicted.
+     */
+    @Override
+    public Optional<Traversal.Admin<?, ?>> getCompiled(final Traversal.Admin<?, ?> traversal) {
+        if (!isCacheable(traversal))
+            return Optional.empty();
+        final CompilationKey key = new CompilationKey(traversal);
+        final Pair<Traversal.Admin<?, ?>, Long> compiled;
+        synchronized (this.cache) {
+            compiled = this.cache.get(key);
+        }
+        if (null == compiled)
+            return Optional.empty();
+        if (compiled.getValue1() != CostBasedFilterStrategy.getStatisticsVersion(traversal)) {
+            synchronized (this.cache) {
+                this.cache.remove(key, compiled);
+            }
+            return Optional.empty();
+        }
+        return Optional.of(compiled.getValue0().clone());
+    }
+
+    /**
+     * Caches a clone of a traversal that was just compiled.
+     */
+    @Override
+    public void putCompiled(final Traversal.Admin<?, ?> traversal) {
+        if (!isCacheable(traversal))
+            return;
+        // the statistics are read after the compilation, so a change while it ran is only noticed on the next change
+        final long statisticsVersion = CostBasedFilterStrategy.getStatisticsVersion(traversal);
+        if (Graph.Statistics.UNKNOWN == statisticsVersion)
+            return;
+        final Traversal.Admin<?, ?> compiled = traversal.clone();
+        final CompilationKey key = new CompilationKey(compiled);
+        synchronized (this.cache) {
+            this.cache.put(key, Pair.with(compiled, statisticsVersion));
+        }
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Gets the number of compiled traversals that are currently cached.
+     */
+    public int size() {
+        synchronized (this.cache) {
+            return this.cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (this.cache) {
+            this.cache.clear();
+        }
+    }
+
+    /**
+     * A cached traversal only brings along its steps, so traversals whose source sets up side-effects or a sack while
+     * the strategies are applied are not cached, as a clone would not have them.
+     */
+    private static boolean isCacheable(final Traversal.Admin<?, ?> traversal) {
+        final TraversalStrategies strategies = traversal.getStrategies();
+        return traversal.getParent() instanceof EmptyStep &&
+                !traversal.getBytecode().getStepInstructions().isEmpty() &&
+                !strategies.getStrategy(VertexProgramStrategy.class).isPresent() &&
+                !strategies.getStrategy(SideEffectStrategy.class).isPresent() &&
+                !strategies.getStrategy(SackStrategy.class).isPresent() &&
+                traversal.getSideEffects().keys().isEmpty() &&
+                null == traversal.getSideEffects().getSackInitialValue();
+    }
+
+    public static CompilationCacheStrategy create(final Configuration configuration) {
+        return new CompilationCacheStrategy(configuration.getInt(MAX_SIZE, DEFAULT_MAX_SIZE));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, CompilationCacheStrategy.class.getCanonicalName());
+        map.put(MAX_SIZE, this.maxSize);
+        return new MapConfiguration(map);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int maxSize = DEFAULT_MAX_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of compiled traversals to cache, beyond which the least recently used ones are evicted.
+         */
+        public Builder maxSize(final int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public CompilationCacheStrategy create() {
+            return new CompilationCacheStrategy(this.maxSize);
+        }
+    }
+
+    /**
+     * Identifies the compilation of a traversal. Strategies compare equal by class, but instances of the same class
+     * may be configured differently, so they are compared by identity here, as is the graph.
+     */
+    private static final class CompilationKey {
+
+        private final Graph graph;
+        private final List<TraversalStrategy<?>> strategies;
+        private final Bytecode bytecode;
+        private final int hashCode;
+
+        private CompilationKey(final Traversal.Admin<?, ?> traversal) {
+            this.graph = traversal.getGraph().orElse(null);
+            this.strategies = new ArrayList<>(traversal.getStrategies().toList());
+            this.bytecode = traversal.getBytecode();
+            int hashCode = System.identityHashCode(this.graph);
+            for (final TraversalStrategy<?> strategy : this.strategies) {
+                hashCode = 31 * hashCode + System.identityHashCode(strategy);
+            }
+            this.hashCode = 31 * hashCode + this.bytecode.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof CompilationKey))
+                return false;
+            final CompilationKey other = (CompilationKey) object;
+            if (this.hashCode != other.hashCode || this.graph != other.graph || this.strategies.size() != other.strategies.size())
+                return false;
+            for (int i = 0; i < this.strategies.size(); i++) {
+                if (this.strategies.get(i) != other.strategies.get(i))
+                    return false;
+            }
+            return this.bytecode.equals(other.bytecode);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.VertexProgramStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FoldStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.util.function.ArrayListSupplier;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * {@code ParallelStrategy} executes the part of an OLTP traversal that leads from its start {@link GraphStep} to its
+ * first {@link ReducingBarrierStep} or {@link OrderGlobalStep} on several threads. The steps in between are moved into
+ * a {@link ParallelStep} which splits the start set into partitions and processes each partition in a pool dedicated to
+ * parallel traversals or in the {@code ExecutorService} given to the {@link Builder}. A reducing barrier is moved along with them so that every partition is reduced on its own
+ * thread and the partial results are merged just as they are on a {@code GraphComputer}, while {@code order()} sorts
+ * the traversers of all partitions on the calling thread. Partitions are merged in order, so the results are the same
+ * as those of the sequential traversal.
+ * <p/>
+ * The traversal is left unchanged if the steps to parallelize mutate the graph, write side-effects, hold lambdas or
+ * rely on seeing every traverser (e.g. {@code dedup()}, {@code limit()} or {@code aggregate()}). It is also left
+ * unchanged for graphs that support transactions, as those are typically bound to the thread that opened them, and
+ * {@code has()}-steps that directly follow the start step stay in place so that they can still be folded into it.
+ * This strategy is not registered by default and must be added with {@code withStrategies()}. The executor is not part
+ * of the {@link #getConfiguration() configuration}, so a strategy that is sent to a remote server uses its default pool.
+ *
+ * @example <pre>
+ * g.withStrategies(ParallelStrategy.instance()).V().out().values("weight").sum()          // out().values().sum() is parallel
+ * g.withStrategies(ParallelStrategy.instance()).V().hasLabel("person").out().groupCount() // hasLabel() stays with V()
+ * g.withStrategies(ParallelStrategy.instance()).V().out().dedup().count()                 // unchanged as dedup() is global
+ * </pre>
+ */
+public final class ParallelStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    public static final String PARALLELISM = "parallelism";
+
+    private static final ParallelStrategy INSTANCE = new ParallelStrategy(Runtime.getRuntime().availableProcessors());
+    // the other decorations modify the steps of a traversal, so they are applied after the steps are moved in order to
+    // be applied only once to each of them
+    private static final Set<Class<? extends DecorationStrategy>> POSTS = new HashSet<>(Arrays.asList(
+            ConnectiveStrategy.class,
+            ElementIdStrategy.class,
+            EventStrategy.class,
+            HaltedTraverserStrategy.class,
+            PartitionStrategy.class,
+            RequirementsStrategy.class,
+            SackStrategy.class,
+            SideEffectStrategy.class,
+            SubgraphStrategy.class,
+            VertexProgramStrategy.class));
+
+    private int parallelism;
+    private transient ExecutorService executor;
+
+    private ParallelStrategy() {
+        // for serialization
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    private ParallelStrategy(final int parallelism) {
+        this(parallelism, null);
+    }
+
+    private ParallelStrategy(final int parallelism, final ExecutorService executor) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (this.parallelism < 2 ||
+                !(traversal.getParent() instanceof EmptyStep) ||
+                TraversalHelper.onGraphComputer(traversal) ||
+                traversal.getStrategies().getStrategy(VertexProgramStrategy.class).isPresent() ||
+                !traversal.getGraph().isPresent() ||
+                traversal.getGraph().get().features().graph().supportsTransactions() ||
+                !GraphStep.isStartStep(traversal.getStartStep()) ||
+                TraversalHelper.hasStepOfAssignableClass(ProfileSideEffectStep.class, traversal))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        int start = 1;
+        while (start < steps.size() && steps.get(start) instanceof HasStep) {
+            start++;
+        }
+        int end = start;
+        while (end < steps.size() && !(steps.get(end) instanceof ReducingBarrierStep) && !(steps.get(end) instanceof OrderGlobalStep)) {
+            if (!isParallelizable(steps.get(end), true))
+                return;
+            end++;
+        }
+        if (end == steps.size())
+            return;
+
+        final Step<?, ?> barrier = steps.get(end);
+        if (barrier instanceof ReducingBarrierStep) {
+            // the partial results of a fold() with an arbitrary seed and function may not be mergeable
+            if (barrier instanceof FoldStep && !(((FoldStep) barrier).getSeedSupplier() instanceof ArrayListSupplier))
+                return;
+            if (!areChildrenParallelizable(barrier, false) || (start == end && !(barrier instanceof TraversalParent)))
+                return;
+            end++;
+        } else if (start == end)
+            return;
+
+        final Traversal.Admin<?, ?> parallelTraversal = __.start().asAdmin();
+        for (int i = start; i < end; i++) {
+            final Step<?, ?> step = traversal.getSteps().get(start);
+            traversal.removeStep(step);
+            parallelTraversal.addStep(step);
+        }
+        traversal.addStep(start, new ParallelStep<>(traversal, parallelTraversal, this.parallelism, this.executor));
+    }
+
+    private static boolean isParallelizable(final Step<?, ?> step, final boolean global) {
+        // steps that see the whole stream of traversers can only run in global scope if they see a single partition
+        if (global && step instanceof Barrier && !(step instanceof NoOpBarrierStep))
+            return false;
+        // infix and() and or() are only turned into steps by ConnectiveStrategy which runs later
+        if (step instanceof ConnectiveStep && ((ConnectiveStep<?>) step).getLocalChildren().isEmpty())
+            return false;
+        if (step instanceof Mutating || step instanceof SideEffectCapable || step instanceof LambdaHolder ||
+                step instanceof MatchStep || (step instanceof StartStep && null != ((StartStep) step).getStart()))
+            return false;
+        return areChildrenParallelizable(step, global);
+    }
+
+    private static boolean areChildrenParallelizable(final Step<?, ?> step, final boolean global) {
+        if (step instanceof TraversalParent) {
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                for (final Step<?, ?> childStep : child.getSteps()) {
+                    if (!isParallelizable(childStep, global))
+                        return false;
+                }
+            }
+            // local children are processed one traverser at a time so their barriers only see that traverser
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                for (final Step<?, ?> childStep : child.getSteps()) {
+                    if (!isParallelizable(childStep, false))
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Gets the {@code ExecutorService} that runs the partitions or {@code null} if the default pool is used.
+     */
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    @Override
+    public Set<Class<? extends DecorationStrategy>> applyPost() {
+        return POSTS;
+    }
+
+    public static ParallelStrategy create(final Configuration configuration) {
+        return new ParallelStrategy(configuration.getInt(PARALLELISM, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, ParallelStrategy.class.getCanonicalName());
+        map.put(PARALLELISM, this.parallelism);
+        return new MapConfiguration(map);
+    }
+
+    public static ParallelStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private ExecutorService executor = null;
+
+        private Builder() {
+        }
+
+        public Builder parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Runs the partitions in the given {@code ExecutorService} rather than in the default pool. The executor is
+         * not shut down by the strategy.
+         */
+        public Builder executor(final ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelStrategy create() {
+            return new ParallelStrategy(this.parallelism, this.executor);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.MapConfiguration;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.IdStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code BatchingStrategy} switches the {@link VertexStep}, {@link HasStep}, {@link PropertiesStep}, {@link IdStep}
+ * and {@link CountGlobalStep} instances of an OLTP traversal to batched execution, where they pass arrays of
+ * traversers between each other instead of pulling one traverser at a time. Any other step keeps its per-traverser
+ * execution and hands its ends to a batched step one at a time. As a batched step fills a whole batch before its
+ * first end is emitted, a {@code limit()} no longer stops the steps in front of it early, so only the root traversal
+ * is batched and child traversals, which are often only tested for a first result, are left alone. This strategy is
+ * not registered by default and must be added with {@code withStrategies()}.
+ *
+ * @example <pre>
+ * g.withStrategies(BatchingStrategy.instance()).V().out().has("age", gt(30)).count()        // out(), has() and count() are batched
+ * g.withStrategies(BatchingStrategy.build().batchSize(64).create()).V().out().values("name") // batches of 64 traversers
+ * </pre>
+ */
+public final class BatchingStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    public static final String BATCH_SIZE = "batchSize";
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final BatchingStrategy INSTANCE = new BatchingStrategy(DEFAULT_BATCH_SIZE);
+    private static final Set<Class<? extends Step>> BATCHED_STEPS = new HashSet<>(Arrays.asList(
+            VertexStep.class,
+            HasStep.class,
+            PropertiesStep.class,
+            IdStep.class,
+            CountGlobalStep.class));
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            AdjacentToIncidentStrategy.class,
+            CountStrategy.class,
+            FilterRankingStrategy.class,
+            IdentityRemovalStrategy.class,
+            IncidentToAdjacentStrategy.class,
+            InlineFilterStrategy.class,
+            LazyBarrierStrategy.class,
+            MatchPredicateStrategy.class,
+            OrderLimitStrategy.class,
+            PathProcessorStrategy.class,
+            PathRetractionStrategy.class,
+            RepeatUnrollStrategy.class));
+
+    private int batchSize;
+
+    private BatchingStrategy() {
+        // for serialization
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    private BatchingStrategy(final int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep) || TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            // exact classes as subclasses of these steps may not produce their ends in processNextStart()
+            if (BATCHED_STEPS.contains(step.getClass()))
+                ((Batching) step).setBatchSize(this.batchSize);
+        }
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static BatchingStrategy create(final Configuration configuration) {
+        return new BatchingStrategy(configuration.getInt(BATCH_SIZE, DEFAULT_BATCH_SIZE));
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put(STRATEGY, BatchingStrategy.class.getCanonicalName());
+        map.put(BATCH_SIZE, this.batchSize);
+        return new MapConfiguration(map);
+    }
+
+    public static BatchingStrategy instance() {
+        return INSTANCE;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder() {
+        }
+
+        public Builder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public BatchingStrategy create() {
+            return new BatchingStrategy(this.batchSize);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ClassFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.OrStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code CostBasedFilterStrategy} reorders filters by their estimated cost and selectivity using the
+ * {@link Graph.Statistics} of the graph. The {@link HasContainer} objects of a {@link HasStep} are ordered so that the
+ * most selective is tested first, and after a {@link GraphStep} the ones that can use an index come first. Runs
+ * of adjacent {@code has()}, {@code is()}, {@code filter()}, {@code where()}, {@code not()}, {@code and()} and
+ * {@code or()} steps, as well as the branches of {@code and()} and {@code or()}, are ordered so that the cheapest
+ * filter that removes the most traversers is evaluated first. Where the graph does not supply a statistic a fixed
+ * estimate is used in its place. Steps that are labeled or that hold lambdas or side-effects are never moved. This
+ * strategy is not registered by default and must be added with {@code withStrategies()}.
+ *
+ * @example <pre>
+ * __.has("name", "marko").hasLabel("person")          // becomes __.hasLabel("person").has("name", "marko") when few vertices are persons
+ * __.where(out("created")).where(out("knows"))        // becomes __.where(out("knows")).where(out("created")) when there are fewer knows edges
+ * __.or(out().out(), has("age", gt(30)))              // becomes __.or(has("age", gt(30)), out().out())
+ * </pre>
+ */
+public final class CostBasedFilterStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final CostBasedFilterStrategy INSTANCE = new CostBasedFilterStrategy();
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            AdjacentToIncidentStrategy.class,
+            CountStrategy.class,
+            FilterRankingStrategy.class,
+            IdentityRemovalStrategy.class,
+            IncidentToAdjacentStrategy.class,
+            InlineFilterStrategy.class,
+            MatchPredicateStrategy.class));
+
+    static final double DEFAULT_SELECTIVITY = 0.5d;
+    static final double EQUALITY_SELECTIVITY = 0.1d;
+    static final double RANGE_SELECTIVITY = 1.0d / 3.0d;
+    static final double DEFAULT_DEGREE = 3.0d;
+    private static final double UNKNOWN = -1.0d;
+
+    private CostBasedFilterStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        final Graph graph = TraversalHelper.getRootTraversal(traversal).getGraph().orElse(EmptyGraph.instance());
+        final Estimator estimator = new Estimator(graph.statistics());
+
+        for (final HasStep hasStep : TraversalHelper.getStepsOfAssignableClass(HasStep.class, traversal)) {
+            estimator.orderHasContainers(hasStep);
+        }
+        for (final ConnectiveStep connectiveStep : TraversalHelper.getStepsOfAssignableClass(ConnectiveStep.class, traversal)) {
+            if (isReorderable(connectiveStep))
+                estimator.orderBranches(connectiveStep);
+        }
+
+        final List<Step> steps = new ArrayList<>(traversal.getSteps());
+        int start = 0;
+        while (start < steps.size()) {
+            int end = start;
+            while (end < steps.size() && isReorderable(steps.get(end))) {
+                end++;
+            }
+            if (end - start > 1)
+                estimator.orderFilters(traversal, steps.subList(start, end));
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Determines if the position of the step among the filters that surround it does not matter.
+     */
+    private static boolean isReorderable(final Step<?, ?> step) {
+        if (!step.getLabels().isEmpty() || step instanceof LambdaHolder)
+            return false;
+        if (!(step instanceof HasStep || step instanceof IsStep || step instanceof ClassFilterStep ||
+                step instanceof TraversalFilterStep || step instanceof NotStep ||
+                step instanceof WhereTraversalStep || step instanceof ConnectiveStep))
+            return false;
+        return !(step instanceof TraversalParent) || !TraversalHelper.anyStepRecursively(s ->
+                s instanceof LambdaHolder || s instanceof SideEffectCapable ||
+                        s instanceof SideEffectStep || s instanceof Mutating, (TraversalParent) step);
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static CostBasedFilterStrategy instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the {@link Graph.Statistics#version() version} of the statistics that a root traversal is compiled with,
+     * so that a cache of compiled traversals can tell when one of them is out of date. It is {@code 0} for a traversal
+     * that does not use this strategy or has no graph, as its compilation does not depend on the statistics, and
+     * {@link Graph.Statistics#UNKNOWN} for a graph that cannot tell when its statistics change, in which case the
+     * compiled traversal should not be cached.
+     */
+    public static long getStatisticsVersion(final Traversal.Admin<?, ?> traversal) {
+        if (!traversal.getGraph().isPresent() || !traversal.getStrategies().getStrategy(CostBasedFilterStrategy.class).isPresent())
+            return 0L;
+        return traversal.getGraph().get().statistics().version();
+    }
+
+    /**
+     * Estimates the cost of steps as the number of elements touched per traverser and their selectivity as the
+     * fraction of traversers they let pass. Lookups of the statistics are cached as a graph may compute them.
+     */
+    private static final class Estimator {
+
+        private final Graph.Statistics statistics;
+        private final Map<List<Object>, Double> cache = new HashMap<>();
+
+        private Estimator(final Graph.Statistics statistics) {
+            this.statistics = statistics;
+        }
+
+        private void orderHasContainers(final HasStep<?> hasStep) {
+            final List<HasContainer> hasContainers = new ArrayList<>(hasStep.getHasContainers());
+            if (hasContainers.size() < 2)
+                return;
+
+            final Class<? extends Element> elementClass = elementClass(hasStep);
+            final boolean lookup = hasStep.getPreviousStep() instanceof GraphStep;
+            final String label = hasContainers.stream()
+                    .filter(c -> c.getKey().equals(T.label.getAccessor()) && Compare.eq == c.getBiPredicate() && null != c.getValue())
+                    .map(c -> c.getValue().toString()).findFirst().orElse(null);
+            final List<HasContainer> ordered = new ArrayList<>(hasContainers);
+            ordered.sort(Comparator.<HasContainer>comparingInt(c -> lookup && this.isIndexLookup(elementClass, label, c) ? 0 : 1)
+                    .thenComparingDouble(c -> this.selectivity(elementClass, c.getKey(), c.getPredicate())));
+            if (!ordered.equals(hasContainers)) {
+                hasContainers.forEach(hasStep::removeHasContainer);
+                ordered.forEach(hasStep::addHasContainer);
+            }
+        }
+
+        private void orderBranches(final ConnectiveStep<?> connectiveStep) {
+            final boolean and = connectiveStep instanceof AndStep;
+            // an and() is left as soon as a branch fails and an or() as soon as a branch passes
+            connectiveStep.getLocalChildren().sort(Comparator.comparingDouble(branch -> {
+                final double[] estimate = this.estimate(branch);
+                final double selectivity = this.existence(branch, estimate[1]);
+                return rank(estimate[0], and ? selectivity : 1.0d - selectivity);
+            }));
+        }
+
+        private void orderFilters(final Traversal.Admin<?, ?> traversal, final List<Step> filters) {
+            final Step<?, ?> previous = filters.get(0).getPreviousStep();
+            // has() steps that follow a GraphStep are kept first as providers fold them into it to use their indices
+            final boolean lookup = previous instanceof GraphStep;
+            final List<Step> ordered = new ArrayList<>(filters);
+            ordered.sort(Comparator.<Step>comparingInt(step -> lookup && step instanceof HasStep ? 0 : 1)
+                    .thenComparingDouble(step -> {
+                        final double[] estimate = this.estimate(step);
+                        return rank(estimate[0], estimate[1]);
+                    }));
+            if (!ordered.equals(filters)) {
+                int index = traversal.getSteps().indexOf(previous) + 1;
+                for (final Step step : ordered) {
+                    traversal.removeStep(step);
+                    traversal.addStep(index++, step);
+                }
+            }
+        }
+
+        /**
+         * Ranks a filter by its cost per traverser that it removes, so that filters with a lower rank go first.
+         */
+        private static double rank(final double cost, final double selectivity) {
+            return selectivity >= 1.0d ? Double.MAX_VALUE : cost / (1.0d - selectivity);
+        }
+
+        /**
+         * The probability that a branch which is expected to produce the given number of results produces any. A
+         * branch that is a single hop uses the share of vertices that have such edges where the graph knows it.
+         */
+        private double existence(final Traversal.Admin<?, ?> branch, final double results) {
+            if (1 == branch.getSteps().size() && branch.getStartStep() instanceof VertexStep) {
+                final VertexStep<?> vertexStep = (VertexStep<?>) branch.getStartStep();
+                final String[] edgeLabels = 0 == vertexStep.getEdgeLabels().length ?
+                        new String[]{null} : vertexStep.getEdgeLabels();
+                double none = 1.0d;
+                for (final String edgeLabel : edgeLabels) {
+                    final double connected = this.connected(vertexStep.getDirection(), edgeLabel);
+                    if (connected < 0.0d)
+                        return 1.0d - Math.exp(-results);
+                    none = none * (1.0d - connected);
+                }
+                return 1.0d - none;
+            }
+            return 1.0d - Math.exp(-results);
+        }
+
+        /**
+         * Gets the cost of a traversal for a single start and the number of results it is expected to produce.
+         */
+        private double[] estimate(final Traversal.Admin<?, ?> traversal) {
+            double cost = 0.0d;
+            double size = 1.0d;
+            for (final Step<?, ?> step : traversal.getSteps()) {
+                final double[] estimate = this.estimate(step);
+                cost = cost + size * estimate[0];
+                size = size * estimate[1];
+            }
+            return new double[]{cost, size};
+        }
+
+        /**
+         * Gets the cost of a step for a single start and the number of ends it is expected to produce for it, which
+         * is the selectivity for a filter.
+         */
+        private double[] estimate(final Step<?, ?> step) {
+            if (step instanceof HasStep) {
+                final Class<? extends Element> elementClass = elementClass(step);
+                double selectivity = 1.0d;
+                for (final HasContainer hasContainer : ((HasStep<?>) step).getHasContainers()) {
+                    selectivity = selectivity * this.selectivity(elementClass, hasContainer.getKey(), hasContainer.getPredicate());
+                }
+                return new double[]{((HasStep<?>) step).getHasContainers().size(), selectivity};
+            } else if (step instanceof ConnectiveStep) {
+                final boolean and = step instanceof AndStep;
+                double cost = 0.0d;
+                // the probability that the next branch is evaluated
+                double reached = 1.0d;
+                for (final Traversal.Admin<?, ?> branch : ((ConnectiveStep<?>) step).getLocalChildren()) {
+                    final double[] estimate = this.estimate(branch);
+                    final double selectivity = this.existence(branch, estimate[1]);
+                    cost = cost + reached * estimate[0];
+                    reached = reached * (and ? selectivity : 1.0d - selectivity);
+                }
+                return new double[]{cost, and ? reached : 1.0d - reached};
+            } else if (step instanceof TraversalFilterStep || step instanceof WhereTraversalStep || step instanceof NotStep) {
+                final Traversal.Admin<?, ?> branch = ((TraversalParent) step).getLocalChildren().get(0);
+                final double[] estimate = this.estimate(branch);
+                final double selectivity = this.existence(branch, estimate[1]);
+                return new double[]{estimate[0], step instanceof NotStep ? 1.0d - selectivity : selectivity};
+            } else if (step instanceof VertexStep) {
+                final VertexStep<?> vertexStep = (VertexStep<?>) step;
+                final double degree = this.degree(vertexStep.getDirection(), vertexStep.getEdgeLabels());
+                return new double[]{degree, degree};
+            } else if (step instanceof EdgeVertexStep) {
+                return new double[]{1.0d, Direction.BOTH == ((EdgeVertexStep) step).getDirection() ? 2.0d : 1.0d};
+            } else if (step instanceof FilterStep) {
+                return new double[]{1.0d, DEFAULT_SELECTIVITY};
+            } else {
+                return new double[]{1.0d, 1.0d};
+            }
+        }
+
+        private double degree(final Direction direction, final String... edgeLabels) {
+            if (0 == edgeLabels.length)
+                return this.degree(direction, (String) null);
+            double degree = 0.0d;
+            for (final String edgeLabel : edgeLabels) {
+                degree = degree + this.degree(direction, edgeLabel);
+            }
+            return degree;
+        }
+
+        private double degree(final Direction direction, final String edgeLabel) {
+            final double degree = this.cache.computeIfAbsent(Arrays.asList(direction, edgeLabel),
+                    k -> this.statistics.averageDegree(direction, edgeLabel));
+            return degree < 0.0d ? DEFAULT_DEGREE : degree;
+        }
+
+        /**
+         * Gets the share of vertices that have at least one edge with the label in the direction or a negative value
+         * if the degree distribution is not known.
+         */
+        private double connected(final Direction direction, final String edgeLabel) {
+            return this.cache.computeIfAbsent(Arrays.asList("connected", direction, edgeLabel), k -> {
+                final Map<Long, Long> distribution = this.statistics.degreeDistribution(direction, edgeLabel);
+                long all = 0L;
+                long connected = 0L;
+                for (final Map.Entry<Long, Long> entry : distribution.entrySet()) {
+                    all = all + entry.getValue();
+                    if (entry.getKey() > 0L)
+                        connected = connected + entry.getValue();
+                }
+                return all > 0L ? (double) connected / all : UNKNOWN;
+            });
+        }
+
+        /**
+         * Gets the share of elements that have one of the values for the property key or a negative value if the
+         * graph does not keep a histogram of the key.
+         */
+        private double share(final Class<? extends Element> elementClass, final String key, final Collection<?> values) {
+            final Map<Object, Long> histogram = this.statistics.histogram(elementClass, key);
+            final long all = this.count(elementClass, null);
+            if (histogram.isEmpty() || all <= 0L)
+                return UNKNOWN;
+            long some = 0L;
+            for (final Object value : values) {
+                some = some + histogram.getOrDefault(value, 0L);
+            }
+            return Math.min(1.0d, (double) some / all);
+        }
+
+        private double fraction(final Class<? extends Element> elementClass, final String label, final double otherwise) {
+            final long all = this.count(elementClass, null);
+            final long some = this.count(elementClass, label);
+            return all <= 0L || some < 0L ? otherwise : Math.min(1.0d, (double) some / all);
+        }
+
+        private long count(final Class<? extends Element> elementClass, final String label) {
+            return this.cache.computeIfAbsent(Arrays.asList(elementClass, label),
+                    k -> (double) this.statistics.count(elementClass, label)).longValue();
+        }
+
+        private boolean isIndexLookup(final Class<? extends Element> elementClass, final String label, final HasContainer hasContainer) {
+            return (Compare.eq == hasContainer.getBiPredicate() || Contains.within == hasContainer.getBiPredicate()) &&
+                    (hasContainer.getKey().equals(T.id.getAccessor()) || this.statistics.isIndexed(elementClass, label, hasContainer.getKey()));
+        }
+
+        private double selectivity(final Class<? extends Element> elementClass, final String key, final P<?> predicate) {
+            if (predicate instanceof ConnectiveP) {
+                final boolean or = predicate instanceof OrP;
+                double selectivity = 1.0d;
+                for (final P<?> p : ((ConnectiveP<?>) predicate).getPredicates()) {
+                    final double s = this.selectivity(elementClass, key, p);
+                    selectivity = selectivity * (or ? 1.0d - s : s);
+                }
+                return or ? 1.0d - selectivity : selectivity;
+            }
+
+            final Object biPredicate = predicate.getBiPredicate();
+            final Collection<?> values = predicate.getValue() instanceof Collection ? (Collection<?>) predicate.getValue() : null;
+            final double equality;
+            if (key.equals(T.label.getAccessor())) {
+                double sum = 0.0d;
+                for (final Object label : null == values ? Arrays.asList(predicate.getValue()) : values) {
+                    sum = sum + this.fraction(elementClass, null == label ? null : label.toString(), EQUALITY_SELECTIVITY);
+                }
+                equality = Math.min(1.0d, sum);
+            } else if (key.equals(T.id.getAccessor())) {
+                final long all = this.count(elementClass, null);
+                final double one = all > 0L ? 1.0d / all : EQUALITY_SELECTIVITY / 10.0d;
+                equality = Math.min(1.0d, (null == values ? 1 : values.size()) * one);
+            } else {
+                final double share = this.share(elementClass, key, null == values ? Collections.singletonList(predicate.getValue()) : values);
+                equality = share < 0.0d ? Math.min(1.0d, (null == values ? 1 : values.size()) * EQUALITY_SELECTIVITY) : share;
+            }
+
+            if (Compare.eq == biPredicate || Contains.within == biPredicate)
+                return equality;
+            else if (Compare.neq == biPredicate || Contains.without == biPredicate)
+                return 1.0d - equality;
+            else if (biPredicate instanceof Compare)
+                return RANGE_SELECTIVITY;
+            else
+                return DEFAULT_SELECTIVITY;
+        }
+
+        /**
+         * Determines whether the step filters vertices or edges from the steps that come before it.
+         */
+        private static Class<? extends Element> elementClass(final Step<?, ?> step) {
+            Step<?, ?> previous = step.getPreviousStep();
+            while (previous instanceof FilterStep) {
+                previous = previous.getPreviousStep();
+            }
+            if (previous instanceof GraphStep)
+                return ((GraphStep<?, ?>) previous).returnsVertex() ? Vertex.class : Edge.class;
+            else if (previous instanceof VertexStep)
+                return ((VertexStep<?>) previous).returnsVertex() ? Vertex.class : Edge.class;
+            else
+                return Vertex.class;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@code TraverserRecyclingStrategy} lowers the allocation rate of OLTP traversals by letting {@link MapStep} and
+ * {@link FlatMapStep} instances reuse the traverser they consume for the traverser they emit. A map step reuses every
+ * start and a flatMap step reuses each start for its last end, as neither is referenced again once it is processed.
+ * Traversers that carry a path or a sack are always split as splitting them is not a plain copy. Steps that hold
+ * lambdas or child traversals are also left alone as they may retain or look ahead at traversers, and only the steps
+ * of the root traversal are changed. This strategy is not registered by default and must be added with
+ * {@code withStrategies()}.
+ *
+ * @example <pre>
+ * g.withStrategies(TraverserRecyclingStrategy.instance()).V().out().out().id()   // out(), out() and id() recycle traversers
+ * g.withStrategies(TraverserRecyclingStrategy.instance()).V().local(out().id())   // local() is unchanged as id() is in a child
+ * g.withStrategies(TraverserRecyclingStrategy.instance()).V().as("a").out()      // unchanged as traversers carry a path
+ * </pre>
+ */
+public final class TraverserRecyclingStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final TraverserRecyclingStrategy INSTANCE = new TraverserRecyclingStrategy();
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            AdjacentToIncidentStrategy.class,
+            CountStrategy.class,
+            FilterRankingStrategy.class,
+            IdentityRemovalStrategy.class,
+            IncidentToAdjacentStrategy.class,
+            InlineFilterStrategy.class,
+            LazyBarrierStrategy.class,
+            MatchPredicateStrategy.class,
+            OrderLimitStrategy.class,
+            PathProcessorStrategy.class,
+            PathRetractionStrategy.class,
+            RepeatUnrollStrategy.class));
+
+    private TraverserRecyclingStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        // parent steps may hand their own traverser to a child traversal and read it again afterwards
+        if (!(traversal.getParent() instanceof EmptyStep) || TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        final Set<TraverserRequirement> requirements = traversal.getTraverserRequirements();
+        if (requirements.contains(TraverserRequirement.PATH) ||
+                requirements.contains(TraverserRequirement.LABELED_PATH) ||
+                requirements.contains(TraverserRequirement.SACK))
+            return;
+
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof LambdaHolder || step instanceof TraversalParent)
+                continue;
+            if (step instanceof MapStep)
+                ((MapStep) step).setRecycleTraversers(true);
+            else if (step instanceof FlatMapStep)
+                ((FlatMapStep) step).setRecycleTraversers(true);
+        }
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static TraverserRecyclingStrategy instance() {
+        return INSTANCE;
+    }
+}
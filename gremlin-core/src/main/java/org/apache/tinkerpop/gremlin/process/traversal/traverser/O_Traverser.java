@@ -64,9 +64,11 @@ public abstract class O_Traverser<T> extends AbstractTraverser<T> {
 
     @Override
     public void merge(final Traverser.Admin<?> other) {
-        if (!other.getTags().isEmpty()) {
+        // read the tags directly where possible as getTags() creates them and merging is on the hot path of barriers
+        final Set<String> otherTags = other instanceof O_Traverser ? ((O_Traverser<?>) other).tags : other.getTags();
+        if (null != otherTags && !otherTags.isEmpty()) {
             if (this.tags == null) this.tags = new HashSet<>();
-            this.tags.addAll(other.getTags());
+            this.tags.addAll(otherTags);
         }
     }
 
@@ -20,7 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
-import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.gremlin.util.tools.OrderedObjectLongMap;
 
 import java.io.Serializable;
 import java.util.AbstractSet;
@@ -28,35 +28,35 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements Set<Traverser.Admin<S>>, Queue<Traverser.Admin<S>>, Serializable {
 
-    private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = new LinkedHashMap<>();
+    // the traversers are the keys and the values are not used
+    private final OrderedObjectLongMap<Traverser.Admin<S>> map = new OrderedObjectLongMap<>();
 
     public TraverserSet() {
 
     }
 
     public TraverserSet(final Traverser.Admin<S> traverser) {
-        this.map.put(traverser, traverser);
+        this.map.put(traverser, 0L);
     }
 
     @Override
     public Iterator<Traverser.Admin<S>> iterator() {
-        return this.map.values().iterator();
+        return this.map.iterator();
     }
 
     public Traverser.Admin<S> get(final Traverser.Admin<S> traverser) {
-        return this.map.get(traverser);
+        return this.map.getKey(traverser);
     }
 
     @Override
@@ -66,7 +66,7 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     public long bulkSize() {
         long bulk = 0L;
-        for (final Traverser.Admin<S> traverser : this.map.values()) {
+        for (final Traverser.Admin<S> traverser : this) {
             bulk = bulk + traverser.bulk();
         }
         return bulk;
@@ -84,9 +84,8 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public boolean add(final Traverser.Admin<S> traverser) {
-        final Traverser.Admin<S> existing = this.map.get(traverser);
+        final Traverser.Admin<S> existing = this.map.putIfAbsent(traverser, 0L);
         if (null == existing) {
-            this.map.put(traverser, traverser);
             return true;
         } else {
             existing.merge(traverser);
@@ -101,17 +100,14 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public Traverser.Admin<S> remove() {  // pop, exception if empty
-        final Iterator<Traverser.Admin<S>> iterator = this.map.values().iterator();
-        if (!iterator.hasNext())
+        if (this.map.isEmpty())
             throw FastNoSuchElementException.instance();
-        final Traverser.Admin<S> next = iterator.next();
-        iterator.remove();
-        return next;
+        return this.map.removeFirst();
     }
 
     @Override
     public Traverser.Admin<S> poll() {  // pop, null if empty
-        return this.map.isEmpty() ? null : this.remove();
+        return this.map.isEmpty() ? null : this.map.removeFirst();
     }
 
     @Override
@@ -121,12 +117,12 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public Traverser.Admin<S> peek() { // peek, null if empty
-        return this.map.isEmpty() ? null : this.iterator().next();
+        return this.map.isEmpty() ? null : this.map.firstKey();
     }
 
     @Override
     public boolean remove(final Object traverser) {
-        return this.map.remove(traverser) != null;
+        return this.map.remove(traverser);
     }
 
     @Override
@@ -136,28 +132,26 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public Spliterator<Traverser.Admin<S>> spliterator() {
-        return this.map.values().spliterator();
-    }
-
-    @Override
-    public String toString() {
-        return this.map.values().toString();
+        return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.DISTINCT);
     }
 
     public void sort(final Comparator<Traverser<S>> comparator) {
-        final List<Traverser.Admin<S>> list = new ArrayList<>(this.map.size());
-        IteratorUtils.removeOnNext(this.map.values().iterator()).forEachRemaining(list::add);
+        final List<Traverser.Admin<S>> list = this.drain();
         Collections.sort(list, comparator);
-        this.map.clear();
-        list.forEach(traverser -> this.map.put(traverser, traverser));
+        list.forEach(traverser -> this.map.put(traverser, 0L));
     }
 
     public void shuffle() {
-        final List<Traverser.Admin<S>> list = new ArrayList<>(this.map.size());
-        IteratorUtils.removeOnNext(this.map.values().iterator()).forEachRemaining(list::add);
+        final List<Traverser.Admin<S>> list = this.drain();
         Collections.shuffle(list);
+        list.forEach(traverser -> this.map.put(traverser, 0L));
+    }
+
+    private List<Traverser.Admin<S>> drain() {
+        final List<Traverser.Admin<S>> list = new ArrayList<>(this.map.size());
+        this.map.iterator().forEachRemaining(list::add);
         this.map.clear();
-        list.forEach(traverser -> this.map.put(traverser, traverser));
+        return list;
     }
 
 }
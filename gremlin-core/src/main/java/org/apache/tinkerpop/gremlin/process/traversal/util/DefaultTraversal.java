@@ -24,10 +24,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.CompiledTraversalCache;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.DefaultTraverserGeneratorFactory;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
@@ -115,6 +117,39 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     @Override
     public void applyStrategies() throws IllegalStateException {
         if (this.locked) throw Traversal.Exceptions.traversalIsLocked();
+        final CompiledTraversalCache compilationCache = this.getCompiledTraversalCache();
+        final Optional<Traversal.Admin<?, ?>> compiled = null == compilationCache ?
+                Optional.empty() : compilationCache.getCompiled(this);
+        if (compiled.isPresent())
+            this.setCompiledSteps(compiled.get());
+        else
+            this.applyStrategiesToSteps();
+        this.finalEndStep = this.getEndStep();
+        // finalize requirements as strategies may have changed the steps since they were last computed, which child
+        // traversals are subject to as their strategies are applied after those of their parent
+        this.requirements = null;
+        if (this.getParent() instanceof EmptyStep)
+            this.getTraverserRequirements();
+        this.locked = true;
+        if (null != compilationCache && !compiled.isPresent())
+            compilationCache.putCompiled(this);
+    }
+
+    /**
+     * Gets the first strategy that caches compiled traversals if this is a root traversal. Child traversals are only
+     * cached as part of their root, as how they compile depends on the traversals that contain them.
+     */
+    private CompiledTraversalCache getCompiledTraversalCache() {
+        if (!(this.parent instanceof EmptyStep))
+            return null;
+        for (final TraversalStrategy<?> strategy : this.strategies.toList()) {
+            if (strategy instanceof CompiledTraversalCache)
+                return (CompiledTraversalCache) strategy;
+        }
+        return null;
+    }
+
+    private void applyStrategiesToSteps() {
         TraversalHelper.reIdSteps(this.stepPosition, this);
         this.strategies.applyStrategies(this);
         boolean hasGraph = null != this.graph;
@@ -135,13 +170,27 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
                 }
             }
         }
-        this.finalEndStep = this.getEndStep();
-        // finalize requirements
-        if (this.getParent() instanceof EmptyStep) {
-            this.requirements = null;
-            this.getTraverserRequirements();
+    }
+
+    /**
+     * Replaces the steps of this traversal with those of a clone of its compiled form, which are already optimized, and
+     * points the child traversals of those steps at the strategies, side-effects and graph of this traversal.
+     */
+    private void setCompiledSteps(final Traversal.Admin<?, ?> compiled) {
+        this.steps.clear();
+        for (final Step<?, ?> step : compiled.getSteps()) {
+            step.setTraversal(this);
+            final Step previousStep = this.steps.isEmpty() ? EmptyStep.instance() : this.steps.get(this.steps.size() - 1);
+            step.setPreviousStep(previousStep);
+            previousStep.setNextStep(step);
+            this.steps.add(step);
         }
-        this.locked = true;
+        final boolean hasGraph = null != this.graph;
+        TraversalHelper.applyTraversalRecursively(child -> {
+            child.setStrategies(this.strategies);
+            child.setSideEffects(this.sideEffects);
+            if (hasGraph) child.setGraph(this.graph);
+        }, this);
     }
 
     @Override
@@ -25,14 +25,25 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class DefaultTraversalStrategies implements TraversalStrategies {
 
+    /**
+     * The order of a sort only depends on the classes of the strategies as their dependencies are declared per class,
+     * so the order is remembered for each set of classes to save re-sorting on every {@code withStrategies()}.
+     */
+    private static final Map<Set<Class<? extends TraversalStrategy>>, List<Class<? extends TraversalStrategy>>> SORTED_CLASSES = new ConcurrentHashMap<>();
+    private static final int MAX_SORTED_CLASSES = 1000;
+
     protected List<TraversalStrategy<?>> traversalStrategies = new ArrayList<>();
 
     @Override
@@ -46,7 +57,7 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
             }
         }
         Collections.addAll(this.traversalStrategies, strategies);
-        this.traversalStrategies = TraversalStrategies.sortStrategies(this.traversalStrategies);
+        this.traversalStrategies = sortStrategies(this.traversalStrategies);
         return this;
     }
 
@@ -62,7 +73,7 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
             }
         }
         if (removed)
-            this.traversalStrategies = TraversalStrategies.sortStrategies(this.traversalStrategies);
+            this.traversalStrategies = sortStrategies(this.traversalStrategies);
         return this;
     }
 
@@ -99,6 +110,41 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
         }
     }
 
+    /**
+     * Sorts the strategies as {@link TraversalStrategies#sortStrategies(List)} does, reusing the order of an earlier
+     * sort of the same set of strategy classes where there was one.
+     */
+    private static List<TraversalStrategy<?>> sortStrategies(final List<TraversalStrategy<?>> strategies) {
+        final Set<Class<? extends TraversalStrategy>> strategyClasses = new HashSet<>(strategies.size());
+        for (final TraversalStrategy<?> strategy : strategies) {
+            strategyClasses.add(strategy.getClass());
+        }
+
+        List<Class<? extends TraversalStrategy>> sortedClasses = SORTED_CLASSES.get(strategyClasses);
+        if (null == sortedClasses) {
+            final List<TraversalStrategy<?>> sortedStrategies = TraversalStrategies.sortStrategies(strategies);
+            sortedClasses = new ArrayList<>(sortedStrategies.size());
+            for (final TraversalStrategy<?> strategy : sortedStrategies) {
+                if (!sortedClasses.contains(strategy.getClass()))
+                    sortedClasses.add(strategy.getClass());
+            }
+            // the sets in use are few so rather than evicting in order the cache is simply dropped if it ever fills
+            if (SORTED_CLASSES.size() >= MAX_SORTED_CLASSES)
+                SORTED_CLASSES.clear();
+            SORTED_CLASSES.put(strategyClasses, Collections.unmodifiableList(sortedClasses));
+            return sortedStrategies;
+        }
+
+        final List<TraversalStrategy<?>> sortedStrategies = new ArrayList<>(strategies.size());
+        for (final Class<? extends TraversalStrategy> strategyClass : sortedClasses) {
+            for (final TraversalStrategy<?> strategy : strategies) {
+                if (strategy.getClass().equals(strategyClass))
+                    sortedStrategies.add(strategy);
+            }
+        }
+        return sortedStrategies;
+    }
+
     @Override
     public String toString() {
         return StringFactory.traversalStrategiesString(this);
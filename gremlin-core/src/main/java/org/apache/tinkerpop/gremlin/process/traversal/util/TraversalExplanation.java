@@ -19,22 +19,37 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.javatuples.Pair;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
  * A TraversalExplanation takes a {@link Traversal} and, for each registered {@link TraversalStrategy}, it creates a
  * mapping reflecting how each strategy alters the traversal. This is useful for understanding how each traversal
  * strategy mutates the traversal. This is useful in debugging and analysis of traversal compilation. The
+ * {@link Graph.Statistics} that strategies can consult to plan the final traversal are gathered as well. The
  * {@link TraversalExplanation#toString()} has a pretty-print representation that is useful in the Gremlin Console.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -43,6 +58,7 @@ public class TraversalExplanation implements Serializable {
 
     private Traversal.Admin<?, ?> traversal;
     private List<Pair<TraversalStrategy, Traversal.Admin<?, ?>>> strategyTraversals = new ArrayList<>();
+    private Map<String, Object> statistics = new LinkedHashMap<>();
 
     private TraversalExplanation() {
         // no arg constructor for serialization
@@ -58,6 +74,9 @@ public class TraversalExplanation implements Serializable {
             mutatingTraversal.applyStrategies();
             this.strategyTraversals.add(Pair.with(strategy, mutatingTraversal));
         }
+        this.statistics = gatherStatistics(this.strategyTraversals.isEmpty() ?
+                this.traversal :
+                this.strategyTraversals.get(this.strategyTraversals.size() - 1).getValue1());
     }
 
     /**
@@ -78,6 +97,16 @@ public class TraversalExplanation implements Serializable {
         return this.traversal;
     }
 
+    /**
+     * Get the {@link Graph.Statistics} that relate to the steps of the final {@link Traversal}, keyed by the method
+     * and arguments that supplied them. Statistics that the graph does not know are left out.
+     *
+     * @return the statistics of the graph of the traversal
+     */
+    public Map<String, Object> getStatistics() {
+        return Collections.unmodifiableMap(this.statistics);
+    }
+
     @Override
     public String toString() {
         return this.prettyPrint(Integer.MAX_VALUE);
@@ -147,9 +176,101 @@ public class TraversalExplanation implements Serializable {
         builder.append(wordWrap((this.strategyTraversals.size() > 0 ?
                 this.strategyTraversals.get(this.strategyTraversals.size() - 1).getValue1().toString() :
                 this.traversal.toString()), maxTraversalColumn, newLineIndent));
+        if (!this.statistics.isEmpty()) {
+            final int maxStatisticColumnLength = Math.max(maxStrategyColumnLength + 6,
+                    this.statistics.keySet().stream().map(String::length).max(Comparator.naturalOrder()).get());
+            builder.append("\n\nGraph Statistics");
+            for (final Map.Entry<String, Object> entry : this.statistics.entrySet()) {
+                builder.append("\n").append(entry.getKey());
+                for (int i = 0; i < maxStatisticColumnLength - entry.getKey().length() + 1; i++) {
+                    builder.append(" ");
+                }
+                builder.append(entry.getValue());
+            }
+        }
         return builder.toString();
     }
 
+    /**
+     * Looks up the statistics that relate to the {@code V()}, {@code E()} and {@code has()} steps that start the
+     * traversal and to the hops it takes, which are the statistics that strategies can base their choices on.
+     */
+    private static Map<String, Object> gatherStatistics(final Traversal.Admin<?, ?> traversal) {
+        final Map<String, Object> statistics = new LinkedHashMap<>();
+        if (!traversal.getGraph().isPresent())
+            return statistics;
+
+        final Graph.Statistics graphStatistics = traversal.getGraph().get().statistics();
+        for (final Step<?, ?> step : TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, traversal)) {
+            if (step instanceof GraphStep) {
+                final Class<? extends Element> elementClass = ((GraphStep<?, ?>) step).getReturnClass();
+                final String name = elementClass.getSimpleName().toLowerCase();
+                putKnown(statistics, "count(" + name + ")", graphStatistics.count(elementClass, null));
+
+                final List<HasContainer> hasContainers = new ArrayList<>();
+                if (step instanceof HasContainerHolder)
+                    hasContainers.addAll(((HasContainerHolder) step).getHasContainers());
+                for (Step<?, ?> next = step.getNextStep(); next instanceof HasStep; next = next.getNextStep()) {
+                    hasContainers.addAll(((HasStep<?>) next).getHasContainers());
+                }
+                final List<String> labels = new ArrayList<>();
+                for (final HasContainer hasContainer : hasContainers) {
+                    if (hasContainer.getKey().equals(T.label.getAccessor()))
+                        values(hasContainer).forEach(label -> labels.add(String.valueOf(label)));
+                }
+                for (final String label : labels) {
+                    putKnown(statistics, "count(" + name + ", " + label + ")", graphStatistics.count(elementClass, label));
+                }
+                for (final HasContainer hasContainer : hasContainers) {
+                    final String key = hasContainer.getKey();
+                    if (key.equals(T.label.getAccessor()) || key.equals(T.id.getAccessor()))
+                        continue;
+                    for (final String label : labels.isEmpty() ? Collections.<String>singletonList(null) : labels) {
+                        if (graphStatistics.isIndexed(elementClass, label, key))
+                            statistics.put("isIndexed(" + name + ", " + (null == label ? "" : label + ", ") + key + ")", true);
+                    }
+                    final Map<Object, Long> histogram = graphStatistics.histogram(elementClass, key);
+                    if (!histogram.isEmpty()) {
+                        for (final Object value : values(hasContainer)) {
+                            statistics.put("histogram(" + name + ", " + key + ")[" + value + "]", histogram.getOrDefault(value, 0L));
+                        }
+                    }
+                }
+            } else if (step instanceof VertexStep) {
+                final VertexStep<?> vertexStep = (VertexStep<?>) step;
+                final String[] edgeLabels = 0 == vertexStep.getEdgeLabels().length ?
+                        new String[]{null} : vertexStep.getEdgeLabels();
+                for (final String edgeLabel : edgeLabels) {
+                    final String arguments = vertexStep.getDirection() + (null == edgeLabel ? "" : ", " + edgeLabel);
+                    final double degree = graphStatistics.averageDegree(vertexStep.getDirection(), edgeLabel);
+                    if (degree >= 0.0d)
+                        statistics.put("averageDegree(" + arguments + ")", degree);
+                    final Map<Long, Long> distribution = graphStatistics.degreeDistribution(vertexStep.getDirection(), edgeLabel);
+                    if (!distribution.isEmpty())
+                        statistics.put("degreeDistribution(" + arguments + ")", new LinkedHashMap<>(distribution));
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Gets the values that an equality or {@code within()} container looks up, which are none for other predicates.
+     */
+    private static Collection<?> values(final HasContainer hasContainer) {
+        if (Compare.eq == hasContainer.getBiPredicate())
+            return Collections.singletonList(hasContainer.getValue());
+        else if (Contains.within == hasContainer.getBiPredicate() && hasContainer.getValue() instanceof Collection)
+            return (Collection<?>) hasContainer.getValue();
+        else
+            return Collections.emptyList();
+    }
+
+    private static void putKnown(final Map<String, Object> statistics, final String key, final long count) {
+        if (count != Graph.Statistics.UNKNOWN)
+            statistics.put(key, count);
+    }
+
     private String wordWrap(final String longString, final int maxLengthPerLine, final int newLineIndent) {
         if (longString.length() <= maxLengthPerLine)
             return longString;
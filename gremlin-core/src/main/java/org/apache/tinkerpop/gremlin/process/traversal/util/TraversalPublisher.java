@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.remote.traversal.RemoteTraversal;
+import org.apache.tinkerpop.gremlin.process.remote.traversal.step.map.RemoteStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Publishes the results of a {@link Traversal} to a {@link Subscriber} as the subscriber signals demand for them. The
+ * {@link Subscriber} and {@link Subscription} follow the Reactive Streams protocol, so they adapt to the interfaces
+ * of any reactive library with a lambda. Results are fetched a batch of traversers at a time where a batch is never
+ * larger than the outstanding demand or the batch size of the publisher. When the traversal was created with
+ * {@code withRemote()} the batches are requested from the {@link RemoteStep} with
+ * {@link RemoteTraversal#nextTraversers(int)}, so no thread waits on the results to arrive. Otherwise the batches are
+ * computed on the thread that requests them. A traversal can only be published to a single subscriber.
+ */
+public final class TraversalPublisher<E> {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * Receives the results published by a {@link TraversalPublisher}. No results are sent until they are requested
+     * with {@link Subscription#request(long)}.
+     */
+    public interface Subscriber<E> {
+
+        public void onSubscribe(final Subscription subscription);
+
+        public void onNext(final E result);
+
+        public void onError(final Throwable throwable);
+
+        public void onComplete();
+    }
+
+    /**
+     * Signals demand for results from a {@link TraversalPublisher}. Both methods may be called from any thread,
+     * including from within the methods of the {@link Subscriber}.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the number of results to the demand which must be greater than zero.
+         */
+        public void request(final long n);
+
+        /**
+         * Stops sending results and closes the traversal.
+         */
+        public void cancel();
+    }
+
+    private final Traversal.Admin<?, E> traversal;
+    private final int batchSize;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    public TraversalPublisher(final Traversal.Admin<?, E> traversal, final int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        this.traversal = traversal;
+        this.batchSize = batchSize;
+    }
+
+    public void subscribe(final Subscriber<? super E> subscriber) {
+        if (null == subscriber)
+            throw new NullPointerException("The subscriber cannot be null");
+        if (this.subscribed.compareAndSet(false, true)) {
+            final TraversalSubscription subscription = new TraversalSubscription(subscriber);
+            subscriber.onSubscribe(subscription);
+        } else {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("A traversal can only be published to a single subscriber"));
+        }
+    }
+
+    private IntFunction<CompletableFuture<List<Traverser.Admin<E>>>> batches() {
+        if (!this.traversal.isLocked()) this.traversal.applyStrategies();
+        final Step<?, E> endStep = this.traversal.getEndStep();
+        if (endStep instanceof RemoteStep)
+            return ((RemoteStep<?, E>) endStep)::nextTraversers;
+
+        return amount -> {
+            final List<Traverser.Admin<E>> batch = new ArrayList<>(amount);
+            while (batch.size() < amount && endStep.hasNext()) {
+                batch.add(endStep.next());
+            }
+            return CompletableFuture.completedFuture(batch);
+        };
+    }
+
+    private final class TraversalSubscription implements Subscription {
+
+        private final Subscriber<? super E> subscriber;
+        private final AtomicLong requested = new AtomicLong(0L);
+        // serializes the signals to the subscriber as demand and batches may arrive on different threads
+        private final AtomicInteger work = new AtomicInteger(0);
+
+        private IntFunction<CompletableFuture<List<Traverser.Admin<E>>>> batches = null;
+        private Iterator<Traverser.Admin<E>> buffer = Collections.emptyIterator();
+        private Traverser.Admin<E> current = null;
+        private long remaining = 0L;
+        private boolean done = false;
+
+        private volatile boolean cancelled = false;
+        private volatile boolean fetching = false;
+        private volatile List<Traverser.Admin<E>> fetched = null;
+        private volatile boolean exhausted = false;
+        private volatile Throwable error = null;
+
+        private TraversalSubscription(final Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n < 1L) {
+                this.error = new IllegalArgumentException("The number of requested results must be greater than zero: " + n);
+            } else {
+                long before;
+                long after;
+                do {
+                    before = this.requested.get();
+                    after = before + n < 0L ? Long.MAX_VALUE : before + n;
+                } while (!this.requested.compareAndSet(before, after));
+            }
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.drain();
+        }
+
+        private void drain() {
+            if (0 != this.work.getAndIncrement())
+                return;
+
+            int missed = 1;
+            do {
+                if (!this.done) {
+                    if (null != this.fetched) {
+                        this.buffer = this.fetched.iterator();
+                        this.fetched = null;
+                    }
+
+                    long emitted = 0L;
+                    final long demand = this.requested.get();
+                    while (emitted < demand && !this.cancelled && null == this.error && this.hasBuffered()) {
+                        if (0L == this.remaining) {
+                            this.current = this.buffer.next();
+                            this.remaining = this.current.bulk();
+                        }
+                        this.remaining--;
+                        emitted++;
+                        this.subscriber.onNext(this.current.get());
+                    }
+                    if (0L != emitted)
+                        this.requested.addAndGet(-emitted);
+
+                    if (this.cancelled) {
+                        this.done = true;
+                        this.close();
+                    } else if (null != this.error) {
+                        this.done = true;
+                        this.subscriber.onError(this.error);
+                    } else if (!this.hasBuffered() && !this.fetching) {
+                        if (this.exhausted) {
+                            this.done = true;
+                            this.subscriber.onComplete();
+                        } else if (this.requested.get() > 0L) {
+                            this.fetch((int) Math.min(this.requested.get(), TraversalPublisher.this.batchSize));
+                        }
+                    }
+                }
+                missed = this.work.addAndGet(-missed);
+            } while (0 != missed);
+        }
+
+        private boolean hasBuffered() {
+            return this.remaining > 0L || this.buffer.hasNext();
+        }
+
+        private void fetch(final int amount) {
+            this.fetching = true;
+            final CompletableFuture<List<Traverser.Admin<E>>> batch;
+            try {
+                if (null == this.batches) this.batches = batches();
+                batch = this.batches.apply(amount);
+            } catch (final Throwable t) {
+                this.error = t;
+                this.fetching = false;
+                this.drain();
+                return;
+            }
+
+            // fetch() is called from the drain loop so a batch that is already complete only queues another pass of it
+            batch.whenComplete((traversers, t) -> {
+                if (null != t)
+                    this.error = t instanceof CompletionException && null != t.getCause() ? t.getCause() : t;
+                else if (traversers.isEmpty())
+                    this.exhausted = true;
+                else
+                    this.fetched = traversers;
+                this.fetching = false;
+                this.drain();
+            });
+        }
+
+        private void close() {
+            try {
+                TraversalPublisher.this.traversal.close();
+            } catch (final Exception ignored) {
+                // the subscriber has lost interest in the results so there is no one left to tell
+            }
+        }
+    }
+}
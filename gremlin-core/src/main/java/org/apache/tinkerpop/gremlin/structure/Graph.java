@@ -1101,6 +1101,109 @@ public interface Graph extends AutoCloseable, Host {
         }
     }
 
+    /**
+     * Gets the {@link Statistics} exposed by the underlying {@code Graph} implementation. By default nothing is known
+     * about the graph.
+     */
+    public default Statistics statistics() {
+        return new Statistics() {
+        };
+    }
+
+    /**
+     * An interface through which a {@code Graph} implementation advertises estimates about the data it holds, so
+     * that traversal strategies can estimate the cost of the steps of a traversal. The estimates need not be exact
+     * and every method has a default that says the value is unknown, so implementers only need to override the
+     * estimates they can supply cheaply.
+     */
+    public interface Statistics {
+
+        /**
+         * The value returned by a count that is not known.
+         */
+        public static final long UNKNOWN = -1L;
+
+        /**
+         * Gets the number of elements of the specified class that have the label or the number of all elements of
+         * that class if the label is {@code null}.
+         *
+         * @param elementClass either {@link Vertex} or {@link Edge}
+         * @return the count or {@link #UNKNOWN}
+         */
+        public default long count(final Class<? extends Element> elementClass, final String label) {
+            return UNKNOWN;
+        }
+
+        /**
+         * Gets the average number of edges with the label, or of all edges if the label is {@code null}, that a
+         * vertex has in the specified direction. The default derives it from {@link #count(Class, String)}.
+         *
+         * @return the degree or a negative value if it is not known
+         */
+        public default double averageDegree(final Direction direction, final String edgeLabel) {
+            final long vertices = this.count(Vertex.class, null);
+            final long edges = this.count(Edge.class, edgeLabel);
+            if (vertices <= 0L || edges < 0L)
+                return UNKNOWN;
+            return (Direction.BOTH == direction ? 2.0d : 1.0d) * edges / vertices;
+        }
+
+        /**
+         * Gets the number of vertices by the number of edges with the label, or of all edges if the label is
+         * {@code null}, that they have in the specified direction. An implementation may group degrees into ranges
+         * in which case the number of vertices of a range is held by the smallest degree of that range. The keys
+         * are in ascending order.
+         *
+         * @return the distribution or an empty map if it is not known
+         */
+        public default Map<Long, Long> degreeDistribution(final Direction direction, final String edgeLabel) {
+            return Collections.emptyMap();
+        }
+
+        /**
+         * Gets the number of elements of the specified class by the value they have for the property key. The map
+         * may be a live view of a structure the graph maintains, so callers should look up the values they need
+         * rather than iterate it.
+         *
+         * @return the histogram or an empty map if it is not known
+         */
+        public default Map<Object, Long> histogram(final Class<? extends Element> elementClass, final String key) {
+            return Collections.emptyMap();
+        }
+
+        /**
+         * Gets the property keys that the elements of the specified class are indexed by, grouped by the label of
+         * the elements the index holds. Indices that hold elements regardless of their label are grouped under the
+         * {@code null} label.
+         *
+         * @return the index catalog or an empty map if the graph has no indices or does not expose them
+         */
+        public default Map<String, Set<String>> indexedKeys(final Class<? extends Element> elementClass) {
+            return Collections.emptyMap();
+        }
+
+        /**
+         * Determines if the elements of the specified class can be looked up by the value of the property key
+         * without scanning them. The label is that of the elements being looked up or {@code null} if they are not
+         * limited to a label, which matters for graphs that index properties by label. The default derives it from
+         * {@link #indexedKeys(Class)}.
+         */
+        public default boolean isIndexed(final Class<? extends Element> elementClass, final String label, final String key) {
+            final Map<String, Set<String>> indexedKeys = this.indexedKeys(elementClass);
+            return indexedKeys.getOrDefault(null, Collections.emptySet()).contains(key) ||
+                    (null != label && indexedKeys.getOrDefault(label, Collections.emptySet()).contains(key));
+        }
+
+        /**
+         * Gets a number that changes whenever the statistics change, so that anything derived from them, such as a
+         * compiled traversal, can tell that it is out of date. Only the change matters, not the value itself. The
+         * default is {@link #UNKNOWN} which means that the graph cannot tell when its statistics change.
+         */
+        public default long version() {
+            return UNKNOWN;
+        }
+    }
+
     /**
      * Common exceptions to use with a graph.
      */
@@ -37,10 +37,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.Connec
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ElementIdStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ParallelStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.BatchingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.FilterRankingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IncidentToAdjacentStrategy;
@@ -50,8 +52,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.Matc
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderLimitStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathProcessorStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CostBasedFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.RepeatUnrollStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.TraverserRecyclingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ComputerVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.LambdaRestrictionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
@@ -163,6 +167,7 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             HaltedTraverserStrategy.class,
                             PartitionStrategy.class,
                             SubgraphStrategy.class,
+                            ParallelStrategy.class,
                             LazyBarrierStrategy.class,
                             MatchAlgorithmStrategy.class,
                             AdjacentToIncidentStrategy.class,
@@ -176,6 +181,9 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             PathRetractionStrategy.class,
                             CountStrategy.class,
                             RepeatUnrollStrategy.class,
+                            TraverserRecyclingStrategy.class,
+                            BatchingStrategy.class,
+                            CostBasedFilterStrategy.class,
                             ComputerVerificationStrategy.class,
                             LambdaRestrictionStrategy.class,
                             ReadOnlyStrategy.class,
@@ -279,6 +287,7 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     HaltedTraverserStrategy.class,
                     PartitionStrategy.class,
                     SubgraphStrategy.class,
+                    ParallelStrategy.class,
                     LazyBarrierStrategy.class,
                     MatchAlgorithmStrategy.class,
                     AdjacentToIncidentStrategy.class,
@@ -292,6 +301,9 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     PathRetractionStrategy.class,
                     CountStrategy.class,
                     RepeatUnrollStrategy.class,
+                    TraverserRecyclingStrategy.class,
+                    BatchingStrategy.class,
+                    CostBasedFilterStrategy.class,
                     ComputerVerificationStrategy.class,
                     LambdaRestrictionStrategy.class,
                     ReadOnlyStrategy.class,
@@ -377,6 +389,7 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             HaltedTraverserStrategy.class,
                             PartitionStrategy.class,
                             SubgraphStrategy.class,
+                            ParallelStrategy.class,
                             LazyBarrierStrategy.class,
                             MatchAlgorithmStrategy.class,
                             AdjacentToIncidentStrategy.class,
@@ -390,6 +403,9 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             PathRetractionStrategy.class,
                             CountStrategy.class,
                             RepeatUnrollStrategy.class,
+                            TraverserRecyclingStrategy.class,
+                            BatchingStrategy.class,
+                            CostBasedFilterStrategy.class,
                             ComputerVerificationStrategy.class,
                             LambdaRestrictionStrategy.class,
                             ReadOnlyStrategy.class,
@@ -485,6 +501,7 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     HaltedTraverserStrategy.class,
                     PartitionStrategy.class,
                     SubgraphStrategy.class,
+                    ParallelStrategy.class,
                     LazyBarrierStrategy.class,
                     MatchAlgorithmStrategy.class,
                     AdjacentToIncidentStrategy.class,
@@ -498,6 +515,9 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     PathRetractionStrategy.class,
                     CountStrategy.class,
                     RepeatUnrollStrategy.class,
+                    TraverserRecyclingStrategy.class,
+                    BatchingStrategy.class,
+                    CostBasedFilterStrategy.class,
                     ComputerVerificationStrategy.class,
                     LambdaRestrictionStrategy.class,
                     ReadOnlyStrategy.class,
@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.tools;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * An insertion ordered hash map of objects to primitive {@code long} values. Entries are stored in parallel arrays in
+ * the order they were added and are located through an open-addressing table of positions into those arrays. This
+ * avoids the entry objects of a {@code LinkedHashMap} and the boxing of its values. Removing the first entry takes
+ * constant time so that the map can also back a queue.
+ */
+public final class OrderedObjectLongMap<K> implements Serializable {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final Object REMOVED = new Object();
+
+    private transient Object[] keys;
+    private transient long[] values;
+    private transient int[] hashes;
+    // positions into the entry arrays plus one so that zero marks an empty slot
+    private transient int[] table;
+    private transient int head;
+    private transient int tail;
+    private transient int size;
+    private transient int modCount;
+
+    public OrderedObjectLongMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public OrderedObjectLongMap(final int expectedSize) {
+        this.allocate(Math.max(MIN_CAPACITY, expectedSize));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    public boolean containsKey(final Object key) {
+        return -1 != this.position(key, hash(key));
+    }
+
+    public long getOrDefault(final Object key, final long defaultValue) {
+        final int position = this.position(key, hash(key));
+        return -1 == position ? defaultValue : this.values[position];
+    }
+
+    /**
+     * Gets the key held by the map that is equal to the supplied key or {@code null} if there is no such key.
+     */
+    public K getKey(final Object key) {
+        final int position = this.position(key, hash(key));
+        return -1 == position ? null : (K) this.keys[position];
+    }
+
+    /**
+     * Adds the value to the value of the key, inserting the key at the end of the map if it is not present.
+     *
+     * @return {@code true} if the key was inserted
+     */
+    public boolean add(final K key, final long value) {
+        final int hash = hash(key);
+        final int position = this.position(key, hash);
+        if (-1 == position) {
+            this.insert(key, hash, value);
+            return true;
+        } else {
+            this.values[position] = this.values[position] + value;
+            return false;
+        }
+    }
+
+    /**
+     * Inserts the key with the value at the end of the map if it is not already present.
+     *
+     * @return the key held by the map if one was present or {@code null} if the key was inserted
+     */
+    public K putIfAbsent(final K key, final long value) {
+        final int hash = hash(key);
+        final int position = this.position(key, hash);
+        if (-1 == position) {
+            this.insert(key, hash, value);
+            return null;
+        } else
+            return (K) this.keys[position];
+    }
+
+    public void put(final K key, final long value) {
+        final int hash = hash(key);
+        final int position = this.position(key, hash);
+        if (-1 == position)
+            this.insert(key, hash, value);
+        else
+            this.values[position] = value;
+    }
+
+    public boolean remove(final Object key) {
+        final int position = this.position(key, hash(key));
+        if (-1 == position)
+            return false;
+        this.removeAt(position);
+        return true;
+    }
+
+    public K firstKey() {
+        if (0 == this.size)
+            throw new NoSuchElementException();
+        return (K) this.keys[this.head];
+    }
+
+    public K removeFirst() {
+        final K key = this.firstKey();
+        this.removeAt(this.head);
+        return key;
+    }
+
+    public long sumValues() {
+        long sum = 0L;
+        for (int i = this.head; i < this.tail; i++) {
+            if (REMOVED != this.keys[i])
+                sum = sum + this.values[i];
+        }
+        return sum;
+    }
+
+    public void clear() {
+        if (this.tail > 0) {
+            Arrays.fill(this.keys, 0, this.tail, null);
+            Arrays.fill(this.table, 0);
+            this.head = 0;
+            this.tail = 0;
+            this.size = 0;
+        }
+        this.modCount++;
+    }
+
+    public void forEach(final ObjLongConsumer<? super K> consumer) {
+        final int expectedModCount = this.modCount;
+        for (int i = this.head; i < this.tail; i++) {
+            if (REMOVED != this.keys[i])
+                consumer.accept((K) this.keys[i], this.values[i]);
+            if (expectedModCount != this.modCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    public EntryIterator iterator() {
+        return new EntryIterator();
+    }
+
+    /**
+     * Gets an unmodifiable {@code Map} view of the entries of this map with their values boxed.
+     */
+    public Map<K, Long> asMap() {
+        return new AbstractMap<K, Long>() {
+            @Override
+            public int size() {
+                return OrderedObjectLongMap.this.size;
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return OrderedObjectLongMap.this.containsKey(key);
+            }
+
+            @Override
+            public Long get(final Object key) {
+                final int position = OrderedObjectLongMap.this.position(key, hash(key));
+                return -1 == position ? null : OrderedObjectLongMap.this.values[position];
+            }
+
+            @Override
+            public Set<Entry<K, Long>> entrySet() {
+                return new AbstractSet<Entry<K, Long>>() {
+                    @Override
+                    public int size() {
+                        return OrderedObjectLongMap.this.size;
+                    }
+
+                    @Override
+                    public Iterator<Entry<K, Long>> iterator() {
+                        final EntryIterator iterator = OrderedObjectLongMap.this.iterator();
+                        return new Iterator<Entry<K, Long>>() {
+                            @Override
+                            public boolean hasNext() {
+                                return iterator.hasNext();
+                            }
+
+                            @Override
+                            public Entry<K, Long> next() {
+                                final K key = iterator.next();
+                                return new SimpleImmutableEntry<>(key, iterator.value());
+                            }
+                        };
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Iterates the keys of the map in insertion order and gives access to the value of the last key returned.
+     */
+    public final class EntryIterator implements Iterator<K> {
+        private int next = OrderedObjectLongMap.this.head;
+        private int last = -1;
+        private int expectedModCount = OrderedObjectLongMap.this.modCount;
+
+        private EntryIterator() {
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.next < OrderedObjectLongMap.this.tail && REMOVED == OrderedObjectLongMap.this.keys[this.next]) {
+                this.next++;
+            }
+            return this.next < OrderedObjectLongMap.this.tail;
+        }
+
+        @Override
+        public K next() {
+            if (this.expectedModCount != OrderedObjectLongMap.this.modCount)
+                throw new ConcurrentModificationException();
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            this.last = this.next++;
+            return (K) OrderedObjectLongMap.this.keys[this.last];
+        }
+
+        public long value() {
+            if (-1 == this.last)
+                throw new IllegalStateException();
+            return OrderedObjectLongMap.this.values[this.last];
+        }
+
+        @Override
+        public void remove() {
+            if (-1 == this.last)
+                throw new IllegalStateException();
+            if (this.expectedModCount != OrderedObjectLongMap.this.modCount)
+                throw new ConcurrentModificationException();
+            // removal never moves the remaining entries so the position of the iterator stays valid
+            OrderedObjectLongMap.this.removeAt(this.last);
+            this.last = -1;
+            this.expectedModCount = OrderedObjectLongMap.this.modCount;
+        }
+    }
+
+    ///////////
+
+    private static int hash(final Object key) {
+        final int hash = (null == key ? 0 : key.hashCode()) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(final int capacity) {
+        // at least twice the capacity so that the table is never more than half full
+        return Integer.highestOneBit(capacity * 2 - 1) << 1;
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new Object[capacity];
+        this.values = new long[capacity];
+        this.hashes = new int[capacity];
+        this.table = new int[tableSizeFor(capacity)];
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+    }
+
+    private int position(final Object key, final int hash) {
+        final int mask = this.table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final int entry = this.table[slot];
+            if (0 == entry)
+                return -1;
+            final int position = entry - 1;
+            if (this.hashes[position] == hash && Objects.equals(this.keys[position], key))
+                return position;
+        }
+    }
+
+    private void insert(final K key, final int hash, final long value) {
+        if (this.tail == this.keys.length)
+            this.rebuild();
+        final int position = this.tail++;
+        this.keys[position] = key;
+        this.values[position] = value;
+        this.hashes[position] = hash;
+        this.link(position);
+        this.size++;
+        this.modCount++;
+    }
+
+    private void link(final int position) {
+        final int mask = this.table.length - 1;
+        int slot = this.hashes[position] & mask;
+        while (0 != this.table[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = position + 1;
+    }
+
+    /**
+     * Moves the entries to the front of the arrays dropping removed ones, growing the arrays if they are more than
+     * half full of entries.
+     */
+    private void rebuild() {
+        final Object[] oldKeys = this.keys;
+        final long[] oldValues = this.values;
+        final int[] oldHashes = this.hashes;
+        final int oldHead = this.head;
+        final int oldTail = this.tail;
+        final int oldSize = this.size;
+        this.allocate(oldSize > oldKeys.length >> 1 ? oldKeys.length << 1 : oldKeys.length);
+        int position = 0;
+        for (int i = oldHead; i < oldTail; i++) {
+            if (REMOVED != oldKeys[i]) {
+                this.keys[position] = oldKeys[i];
+                this.values[position] = oldValues[i];
+                this.hashes[position] = oldHashes[i];
+                this.link(position);
+                position++;
+            }
+        }
+        this.tail = position;
+        this.size = oldSize;
+        this.modCount++;
+    }
+
+    private void removeAt(final int position) {
+        final int mask = this.table.length - 1;
+        int gap = this.hashes[position] & mask;
+        while (position + 1 != this.table[gap]) {
+            gap = (gap + 1) & mask;
+        }
+        // shift back the entries that follow in the probe sequence so that no tombstones are needed
+        for (int slot = (gap + 1) & mask; 0 != this.table[slot]; slot = (slot + 1) & mask) {
+            final int home = this.hashes[this.table[slot] - 1] & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                this.table[gap] = this.table[slot];
+                gap = slot;
+            }
+        }
+        this.table[gap] = 0;
+        this.keys[position] = REMOVED;
+        this.size--;
+        this.modCount++;
+        if (0 == this.size) {
+            // start over at the front of the arrays which is common when the map is drained as a queue
+            this.head = 0;
+            this.tail = 0;
+        } else {
+            while (REMOVED == this.keys[this.head]) {
+                this.head++;
+            }
+        }
+    }
+
+    private void writeObject(final ObjectOutputStream outputStream) throws IOException {
+        outputStream.defaultWriteObject();
+        outputStream.writeInt(this.size);
+        for (int i = this.head; i < this.tail; i++) {
+            if (REMOVED != this.keys[i]) {
+                outputStream.writeObject(this.keys[i]);
+                outputStream.writeLong(this.values[i]);
+            }
+        }
+    }
+
+    private void readObject(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        final int size = inputStream.readInt();
+        this.allocate(Math.max(MIN_CAPACITY, size));
+        for (int i = 0; i < size; i++) {
+            final K key = (K) inputStream.readObject();
+            this.insert(key, hash(key), inputStream.readLong());
+        }
+    }
+}
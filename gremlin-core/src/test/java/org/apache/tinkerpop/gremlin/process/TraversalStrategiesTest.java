@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
@@ -47,6 +48,7 @@ import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -458,6 +460,41 @@ public class TraversalStrategiesTest {
         assertEquals(k, s.get(5));
     }
 
+    @Test
+    public void shouldReuseSortOrderOfSameStrategyClasses() {
+        final TraversalStrategy<?>
+                a = new StrategyA(),
+                b = new StrategyB(),
+                c = new StrategyC(),
+                d = new StrategyD(),
+                e = new StrategyE();
+
+        final TraversalStrategies first = new DefaultTraversalStrategies().addStrategies(d, c, a, e, b);
+        assertEquals(Arrays.asList(a, b, d, c, e), first.toList());
+
+        // the same classes added in another order and with other instances sort the same
+        final TraversalStrategy<?> otherA = new StrategyA();
+        final TraversalStrategies second = new DefaultTraversalStrategies().addStrategies(e, b);
+        second.addStrategies(c, d);
+        second.addStrategies(otherA);
+        assertEquals(5, second.toList().size());
+        assertSame(otherA, second.toList().get(0));
+        assertEquals(first.toList(), second.toList());
+
+        second.removeStrategies(StrategyD.class);
+        assertEquals(Arrays.asList(otherA, b, c, e), second.toList());
+
+        // a cyclic dependency fails every time rather than being remembered
+        for (int i = 0; i < 2; i++) {
+            try {
+                new DefaultTraversalStrategies().addStrategies(c, new StrategyK(), a, b);
+                fail();
+            } catch (IllegalStateException ex) {
+                assertTrue(ex.getMessage().toLowerCase().contains("cyclic"));
+            }
+        }
+    }
+
     public static class StrategyADecoration extends DummyStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
 
         @Override
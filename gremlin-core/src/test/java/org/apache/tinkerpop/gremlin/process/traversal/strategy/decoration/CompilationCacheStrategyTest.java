@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.InlineFilterStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompilationCacheStrategyTest {
+
+    @Test
+    public void shouldReuseCompiledTraversal() {
+        final CompilationCacheStrategy cache = CompilationCacheStrategy.build().create();
+        // the default strategies of a graph so that the cached traversal is actually optimized
+        final GraphTraversalSource g = new GraphTraversalSource(EmptyGraph.instance(),
+                TraversalStrategies.GlobalCache.getStrategies(Graph.class)).withStrategies(cache);
+
+        final Traversal.Admin<?, ?> first = nested(g).asAdmin();
+        first.applyStrategies();
+        assertEquals(1, cache.size());
+
+        final Traversal.Admin<?, ?> second = nested(g).asAdmin();
+        second.applyStrategies();
+        assertEquals(1, cache.size());
+        assertTrue(second.isLocked());
+        assertEquals(first.toString(), second.toString());
+        assertEquals(first.getTraverserRequirements(), second.getTraverserRequirements());
+
+        // the compiled steps are a copy that belongs to the new traversal
+        final List<Step> firstSteps = steps(first);
+        final List<Step> secondSteps = steps(second);
+        assertEquals(firstSteps.size(), secondSteps.size());
+        for (int i = 0; i < firstSteps.size(); i++) {
+            assertNotSame(firstSteps.get(i), secondSteps.get(i));
+            assertEquals(firstSteps.get(i).getId(), secondSteps.get(i).getId());
+        }
+        TraversalHelper.applyTraversalRecursively(t -> {
+            if (t instanceof DefaultTraversal) {
+                assertSame(second.getSideEffects(), t.getSideEffects());
+                assertSame(second.getStrategies(), t.getStrategies());
+            }
+            assertTrue(t.isLocked());
+            for (final Step<?, ?> step : t.getSteps()) {
+                assertSame(t, step.getTraversal());
+            }
+        }, second);
+        assertSame(second, second.getStartStep().getTraversal());
+        assertSame(second.getEndStep(), second.getSteps().get(second.getSteps().size() - 1));
+    }
+
+    @Test
+    public void shouldNotReuseCompiledTraversalOfOtherStrategiesOrBytecode() {
+        final CompilationCacheStrategy cache = CompilationCacheStrategy.build().create();
+        final GraphTraversalSource g = new GraphTraversalSource(EmptyGraph.instance(),
+                TraversalStrategies.GlobalCache.getStrategies(Graph.class)).withStrategies(cache);
+
+        nested(g).asAdmin().applyStrategies();
+        g.V().out().asAdmin().applyStrategies();
+        assertEquals(2, cache.size());
+
+        // strategies of the same class compare equal, but they may be configured differently
+        final GraphTraversalSource subgraph = g.withStrategies(SubgraphStrategy.build().vertices(__.has("name")).create());
+        final Traversal.Admin<?, ?> traversal = subgraph.V().out().asAdmin();
+        traversal.applyStrategies();
+        assertEquals(3, cache.size());
+        g.withStrategies(SubgraphStrategy.build().vertices(__.has("age")).create()).V().out().asAdmin().applyStrategies();
+        assertEquals(4, cache.size());
+
+        final GraphTraversalSource withoutInlining = g.withoutStrategies(InlineFilterStrategy.class);
+        final Traversal.Admin<?, ?> uninlined = withoutInlining.V().filter(__.has("name", "marko")).asAdmin();
+        uninlined.applyStrategies();
+        assertEquals(5, cache.size());
+        final Traversal.Admin<?, ?> inlined = g.V().filter(__.has("name", "marko")).asAdmin();
+        inlined.applyStrategies();
+        assertEquals(6, cache.size());
+        assertFalse(inlined.toString().equals(uninlined.toString()));
+    }
+
+    @Test
+    public void shouldNotCacheTraversalsWithoutBytecode() {
+        final CompilationCacheStrategy cache = CompilationCacheStrategy.build().create();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(cache);
+
+        final Traversal.Admin<?, ?> traversal = g.inject(1).asAdmin();
+        traversal.getBytecode().getStepInstructions().clear();
+        traversal.addStep(new IdentityStep<>(traversal));
+        traversal.applyStrategies();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheTraversalsWithSideEffectsOrSack() {
+        final CompilationCacheStrategy cache = CompilationCacheStrategy.build().create();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(cache);
+        final List<Object> x = new ArrayList<>();
+        final GraphTraversalSource withSideEffect = g.withSideEffect("x", x);
+        final GraphTraversalSource withSack = g.withSack(1.0d);
+
+        // the same source is used twice as each withSideEffect() and withSack() adds a new strategy instance
+        for (int i = 0; i < 2; i++) {
+            final Traversal.Admin<?, ?> sideEffectTraversal = withSideEffect.V().values("age").store("x").cap("x").asAdmin();
+            sideEffectTraversal.applyStrategies();
+            assertSame(x, sideEffectTraversal.getSideEffects().get("x"));
+
+            final Traversal.Admin<?, ?> sackTraversal = withSack.V().sack().asAdmin();
+            sackTraversal.applyStrategies();
+            assertEquals(1.0d, sackTraversal.getSideEffects().getSackInitialValue().get());
+        }
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        final CompilationCacheStrategy cache = CompilationCacheStrategy.build().maxSize(2).create();
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(cache);
+
+        g.V().out().asAdmin().applyStrategies();
+        g.V().in().asAdmin().applyStrategies();
+        g.V().out().asAdmin().applyStrategies();
+        g.V().both().asAdmin().applyStrategies();
+        assertEquals(2, cache.size());
+        assertTrue(cache.getCompiled(g.V().out().asAdmin()).isPresent());
+        assertFalse(cache.getCompiled(g.V().in().asAdmin()).isPresent());
+        assertTrue(cache.getCompiled(g.V().both().asAdmin()).isPresent());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequirePositiveMaxSize() {
+        CompilationCacheStrategy.build().maxSize(0).create();
+    }
+
+    @Test
+    public void shouldCreateFromConfiguration() {
+        final CompilationCacheStrategy strategy = CompilationCacheStrategy.create(CompilationCacheStrategy.build().maxSize(42).create().getConfiguration());
+        assertEquals(42, strategy.getMaxSize());
+    }
+
+    private static Traversal<?, ?> nested(final GraphTraversalSource g) {
+        final Traversal[] branches = {
+                __.out("knows").has("age", 29).values("name"),
+                __.choose(__.has("age"), __.values("age"), __.constant(0)),
+                __.coalesce(__.outE("created").inV(), __.identity()).values("name"),
+                __.repeat(__.out()).times(2).select("a").values("name"),
+                __.local(__.both().count()),
+                __.optional(__.in().where(__.out().count().is(1))).id()};
+        return g.V().hasLabel("person").as("a").union(branches).dedup().limit(10);
+    }
+
+    private static List<Step> steps(final Traversal.Admin<?, ?> traversal) {
+        final List<Step> steps = new ArrayList<>();
+        TraversalHelper.applyTraversalRecursively(t -> steps.addAll(t.getSteps()), traversal);
+        return steps;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class ParallelStrategyTest {
+
+    private static final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public Traversal parallel;
+
+    @Test
+    public void doTest() {
+        applyParallelStrategy(original, 4);
+        final Optional<ParallelStep> step = TraversalHelper.getFirstStepOfAssignableClass(ParallelStep.class, original.asAdmin());
+        if (null == parallel)
+            assertFalse(step.isPresent());
+        else {
+            assertTrue(step.isPresent());
+            applyParallelStrategy(parallel, 4);
+            assertEquals(parallel, step.get().getGlobalChildren().get(0));
+        }
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {g.V().out().count(), __.out().count()},
+                {g.V().hasLabel("person").out().values("age").sum(), __.out().values("age").sum()},
+                {g.V().out().order().by("name"), __.out()},
+                {g.V().out().fold(), __.out().fold()},
+                {g.V().groupCount().by("name"), __.groupCount().by("name")},
+                {g.V().local(__.out().limit(1)).count(), __.local(__.out().limit(1)).count()},
+                {g.V().where(__.out().count().is(gt(2))).values("name").max(), __.where(__.out().count().is(gt(2))).values("name").max()},
+                {g.V().count(), null},
+                {g.V().has("age", 29).count(), null},
+                {g.V().out().values("name"), null},
+                {g.V().out().dedup().count(), null},
+                {g.V().out().limit(10).count(), null},
+                {g.V().out().aggregate("x").count(), null},
+                {g.V().out().map(t -> t.get()).count(), null},
+                {g.V().union(__.out().dedup(), __.in()).count(), null},
+                {g.V().out().and().in().count(), null},
+                {g.V().out().values("age").fold(0, (BiFunction) Operator.sum), null},
+                {g.V().out().addV().count(), null},
+                {g.inject(1, 2).map(t -> t.get()).count(), null},
+        });
+    }
+
+    @Test
+    public void shouldNotApplyWithParallelismOfOne() {
+        final Traversal traversal = g.V().out().count();
+        applyParallelStrategy(traversal, 1);
+        assertFalse(TraversalHelper.hasStepOfAssignableClass(ParallelStep.class, traversal.asAdmin()));
+    }
+
+    @Test
+    public void shouldNotApplyToChildTraversals() {
+        final Traversal traversal = g.V().local(__.out().count());
+        applyParallelStrategy(traversal, 4);
+        assertFalse(TraversalHelper.hasStepOfAssignableClassRecursively(ParallelStep.class, traversal.asAdmin()));
+    }
+
+    @Test
+    public void shouldRoundTripConfiguration() {
+        final ParallelStrategy strategy = ParallelStrategy.create(ParallelStrategy.build().parallelism(8).create().getConfiguration());
+        assertEquals(8, strategy.getParallelism());
+        assertEquals(Runtime.getRuntime().availableProcessors(), ParallelStrategy.instance().getParallelism());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowZeroParallelism() {
+        ParallelStrategy.build().parallelism(0).create();
+    }
+
+    private static void applyParallelStrategy(final Traversal traversal, final int parallelism) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(ParallelStrategy.build().parallelism(parallelism).create());
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().applyStrategies();
+    }
+}
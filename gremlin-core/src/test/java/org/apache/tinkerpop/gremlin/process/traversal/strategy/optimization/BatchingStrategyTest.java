@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class BatchingStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public List<Integer> batchSizes;
+
+    @Test
+    public void doTest() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(BatchingStrategy.build().batchSize(16).create());
+        original.asAdmin().setStrategies(strategies);
+        original.asAdmin().applyStrategies();
+
+        final List<Integer> actual = new ArrayList<>();
+        for (final Step<?, ?> step : TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, original.asAdmin())) {
+            if (step instanceof Batching)
+                actual.add(((Batching) step).getBatchSize());
+        }
+        assertEquals(batchSizes, actual);
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {__.out().has("age", gt(30)).id(), Arrays.asList(16, 16, 16)},
+                {__.outE().inV().values("name").count(), Arrays.asList(16, 0, 16, 16)},
+                {__.out().label().dedup(), Arrays.asList(16, 0, 0)},
+                {__.out().where(__.out().count().is(gt(2))), Arrays.asList(16, 0, 0, 0, 0)},
+        });
+    }
+
+    @Test
+    public void shouldRoundTripConfiguration() {
+        final BatchingStrategy strategy = BatchingStrategy.create(BatchingStrategy.build().batchSize(64).create().getConfiguration());
+        assertEquals(64, strategy.getBatchSize());
+        assertEquals(BatchingStrategy.DEFAULT_BATCH_SIZE, BatchingStrategy.instance().getBatchSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowZeroBatchSize() {
+        BatchingStrategy.build().batchSize(0).create();
+    }
+}
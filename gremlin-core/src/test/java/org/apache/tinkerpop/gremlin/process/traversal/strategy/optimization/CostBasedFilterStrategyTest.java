@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(Parameterized.class)
+public class CostBasedFilterStrategyTest {
+
+    private static final Graph GRAPH = mock(Graph.class);
+
+    static {
+        final Map<String, Long> vertexCounts = new HashMap<>();
+        vertexCounts.put(null, 100L);
+        vertexCounts.put("person", 5L);
+        vertexCounts.put("software", 95L);
+        final Map<String, Long> edgeCounts = new HashMap<>();
+        edgeCounts.put(null, 300L);
+        edgeCounts.put("knows", 10L);
+        edgeCounts.put("created", 290L);
+        when(GRAPH.statistics()).thenReturn(new Graph.Statistics() {
+            @Override
+            public long count(final Class<? extends Element> elementClass, final String label) {
+                return (Vertex.class.equals(elementClass) ? vertexCounts : edgeCounts).getOrDefault(label, 0L);
+            }
+
+            @Override
+            public boolean isIndexed(final Class<? extends Element> elementClass, final String label, final String key) {
+                return Vertex.class.equals(elementClass) && "name".equals(key);
+            }
+        });
+    }
+
+    private static final Graph HISTOGRAM_GRAPH = mock(Graph.class);
+
+    static {
+        when(HISTOGRAM_GRAPH.statistics()).thenReturn(new Graph.Statistics() {
+            @Override
+            public long count(final Class<? extends Element> elementClass, final String label) {
+                return Vertex.class.equals(elementClass) ? 100L : (null == label ? 300L : 150L);
+            }
+
+            @Override
+            public Map<Long, Long> degreeDistribution(final Direction direction, final String edgeLabel) {
+                final Map<Long, Long> distribution = new LinkedHashMap<>();
+                // every vertex knows another while only a few have created anything
+                distribution.put(0L, "knows".equals(edgeLabel) ? 0L : 95L);
+                distribution.put(1L, "knows".equals(edgeLabel) ? 100L : 5L);
+                return distribution;
+            }
+
+            @Override
+            public Map<Object, Long> histogram(final Class<? extends Element> elementClass, final String key) {
+                return "age".equals(key) ? Collections.singletonMap(29, 1L) : Collections.emptyMap();
+            }
+        });
+    }
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public Traversal optimized;
+
+    @Parameterized.Parameter(value = 2)
+    public Graph graph;
+
+    @Test
+    public void doTest() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(CostBasedFilterStrategy.instance());
+        original.asAdmin().setStrategies(strategies);
+        original.asAdmin().setGraph(graph);
+        original.asAdmin().applyStrategies();
+        assertEquals(optimized.toString(), original.toString());
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {__.V().has("age", 29).has("name", "marko"), __.V().has("name", "marko").has("age", 29), GRAPH},
+                {__.out().has("name", "marko").hasLabel("person"), __.out().hasLabel("person").has("name", "marko"), GRAPH},
+                {__.out().has("name", "marko").hasLabel("software"), __.out().has("name", "marko").hasLabel("software"), GRAPH},
+                {__.outE().has("weight", 1.0d).hasLabel("knows"), __.outE().hasLabel("knows").has("weight", 1.0d), GRAPH},
+                {__.where(__.out("created")).where(__.out("knows")), __.where(__.out("knows")).where(__.out("created")), GRAPH},
+                {__.out().where(__.out().out()).is(1).has("age", P.gt(30)), __.out().has("age", P.gt(30)).is(1).where(__.out().out()), GRAPH},
+                {__.and(__.out("created"), __.out("knows")), __.and(__.out("knows"), __.out("created")), GRAPH},
+                {__.or(__.out().out(), __.has("age", P.gt(30))), __.or(__.has("age", P.gt(30)), __.out().out()), GRAPH},
+                {__.V().where(__.out("knows")).has("age", 29), __.V().has("age", 29).where(__.out("knows")), GRAPH},
+                {__.where(__.out("created")).as("a").where(__.out("knows")), __.where(__.out("created")).as("a").where(__.out("knows")), GRAPH},
+                {__.where(__.out("created").aggregate("x")).where(__.out("knows")), __.where(__.out("created").aggregate("x")).where(__.out("knows")), GRAPH},
+                {__.where(__.out("created")).filter(t -> true).where(__.out("knows")), __.where(__.out("created")).filter(t -> true).where(__.out("knows")), GRAPH},
+                {__.out().has("name", "marko").has("age", 29), __.out().has("age", 29).has("name", "marko"), HISTOGRAM_GRAPH},
+                {__.where(__.out("knows")).where(__.out("created")), __.where(__.out("created")).where(__.out("knows")), HISTOGRAM_GRAPH},
+                {__.where(__.out("knows")).where(__.out("created")), __.where(__.out("knows")).where(__.out("created")), GRAPH},
+                {__.out().has("name", "marko").hasLabel("person"), __.out().has("name", "marko").hasLabel("person"), EmptyGraph.instance()},
+                {__.where(__.out("created")).where(__.out("knows")), __.where(__.out("created")).where(__.out("knows")), EmptyGraph.instance()},
+        });
+    }
+}
@@ -24,14 +24,23 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -135,4 +144,52 @@ public class TraversalExplanationTest {
         }
         assertEquals(4, found);
     }
+
+    @Test
+    public void shouldIncludeGraphStatistics() {
+        final Graph graph = mock(Graph.class);
+        when(graph.statistics()).thenReturn(new Graph.Statistics() {
+            @Override
+            public long count(final Class<? extends Element> elementClass, final String label) {
+                if (Vertex.class.equals(elementClass))
+                    return null == label ? 5L : 2L;
+                return null == label ? 4L : 2L;
+            }
+
+            @Override
+            public Map<Long, Long> degreeDistribution(final Direction direction, final String edgeLabel) {
+                final Map<Long, Long> distribution = new LinkedHashMap<>();
+                distribution.put(0L, 3L);
+                distribution.put(1L, 2L);
+                return distribution;
+            }
+
+            @Override
+            public Map<Object, Long> histogram(final Class<? extends Element> elementClass, final String key) {
+                return Collections.singletonMap("marko", 1L);
+            }
+
+            @Override
+            public Map<String, Set<String>> indexedKeys(final Class<? extends Element> elementClass) {
+                return Collections.singletonMap("person", Collections.singleton("name"));
+            }
+        });
+
+        final Traversal.Admin<?, ?> traversal = __.V().hasLabel("person").has("name", "marko").out("knows").asAdmin();
+        traversal.setStrategies(TraversalStrategies.GlobalCache.getStrategies(Graph.class));
+        traversal.setGraph(graph);
+        final TraversalExplanation explanation = traversal.explain();
+        final Map<String, Object> statistics = explanation.getStatistics();
+        assertEquals(5L, statistics.get("count(vertex)"));
+        assertEquals(2L, statistics.get("count(vertex, person)"));
+        assertEquals(true, statistics.get("isIndexed(vertex, person, name)"));
+        assertEquals(1L, statistics.get("histogram(vertex, name)[marko]"));
+        assertEquals(0.4d, (double) statistics.get("averageDegree(OUT, knows)"), 0.0001d);
+        assertEquals("{0=3, 1=2}", statistics.get("degreeDistribution(OUT, knows)").toString());
+        assertEquals(6, statistics.size());
+        assertTrue(explanation.toString().contains("Graph Statistics"));
+
+        assertTrue(__.V().hasLabel("person").out("knows").explain().getStatistics().isEmpty());
+        assertFalse(__.V().hasLabel("person").out("knows").explain().toString().contains("Graph Statistics"));
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.remote.EmbeddedRemoteConnection;
+import org.apache.tinkerpop.gremlin.process.remote.RemoteConnection;
+import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
+import org.apache.tinkerpop.gremlin.process.remote.traversal.RemoteTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TraversalPublisherTest {
+
+    @Test
+    public void shouldPublishResultsOnDemand() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 2, 3, 4, 5).publish(2).subscribe(subscriber);
+        assertTrue(subscriber.results.isEmpty());
+
+        subscriber.subscription.request(3);
+        assertEquals(Arrays.asList(1, 2, 3), subscriber.results);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), subscriber.results);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void shouldUnrollBulkedTraversers() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 1, 1, 2).barrier().publish().subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList(1, 1), subscriber.results);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(1, 1, 1, 2), subscriber.results);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldAllowRequestsFromOnNext() {
+        final List<Integer> results = new ArrayList<>();
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+            @Override
+            public void onNext(final Integer result) {
+                results.add(result);
+                this.subscription.request(1);
+            }
+        };
+        final Integer[] values = new Integer[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        __.inject(values).publish(1).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertEquals(values.length, results.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldStopPublishingWhenCancelled() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 2, 3).publish().subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(2);
+
+        assertEquals(Collections.singletonList(1), subscriber.results);
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void shouldSignalErrorForInvalidRequest() {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 2, 3).publish().subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+        assertTrue(subscriber.results.isEmpty());
+    }
+
+    @Test
+    public void shouldSignalErrorOfTraversal() {
+        final RecordingSubscriber<Object> subscriber = new RecordingSubscriber<>();
+        __.inject(1, 2).map(t -> {
+            if (t.get() == 2) throw new IllegalStateException("failed");
+            return t.get();
+        }).publish(1).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        assertEquals(Collections.singletonList(1), subscriber.results);
+        assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldOnlyAllowOneSubscriber() {
+        final TraversalPublisher<Integer> publisher = __.inject(1).publish();
+        final RecordingSubscriber<Integer> first = new RecordingSubscriber<>();
+        final RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+
+        assertNull(first.error);
+        assertThat(second.error, instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void shouldPublishFromRemote() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withRemote(new EmbeddedRemoteConnection(EmptyGraph.instance().traversal()));
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        g.inject(1, 2, 3).publish(2).subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(1, 2, 3), subscriber.results);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldNotWaitOnRemoteResults() throws Exception {
+        final CompletableFuture<List<Traverser.Admin<Integer>>> batch = new CompletableFuture<>();
+        final RemoteTraversal remoteTraversal = mock(RemoteTraversal.class);
+        when(remoteTraversal.nextTraversers(anyInt())).thenReturn(batch, CompletableFuture.completedFuture(Collections.emptyList()));
+        final RemoteConnection connection = mock(RemoteConnection.class);
+        when(connection.submitAsync(any(Bytecode.class))).thenReturn(CompletableFuture.completedFuture(remoteTraversal));
+
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        EmptyGraph.instance().traversal().withRemote(connection).inject(1).publish().subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.results.isEmpty());
+        assertFalse(subscriber.completed);
+
+        batch.complete(Arrays.asList(new DefaultRemoteTraverser<>(1, 2L), new DefaultRemoteTraverser<>(3, 1L)));
+        assertEquals(Arrays.asList(1, 1, 3), subscriber.results);
+        assertTrue(subscriber.completed);
+    }
+
+    private static class RecordingSubscriber<E> implements TraversalPublisher.Subscriber<E> {
+        protected TraversalPublisher.Subscription subscription;
+        private final List<E> results = new ArrayList<>();
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(final TraversalPublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final E result) {
+            this.results.add(result);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.tools;
+
+import org.apache.tinkerpop.gremlin.util.Serializer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OrderedObjectLongMapTest {
+
+    @Test
+    public void shouldKeepInsertionOrderAndSumValues() {
+        final OrderedObjectLongMap<String> map = new OrderedObjectLongMap<>();
+        assertTrue(map.add("b", 2));
+        assertTrue(map.add("a", 1));
+        assertFalse(map.add("b", 3));
+        assertTrue(map.add(null, 4));
+
+        assertEquals(3, map.size());
+        assertEquals(5, map.getOrDefault("b", 0));
+        assertEquals(4, map.getOrDefault(null, 0));
+        assertEquals(0, map.getOrDefault("c", 0));
+        assertEquals(10, map.sumValues());
+        assertEquals(Arrays.asList("b", "a", null), toList(map));
+        assertEquals("{b=5, a=1, null=4}", map.asMap().toString());
+    }
+
+    @Test
+    public void shouldReturnHeldKey() {
+        final OrderedObjectLongMap<String> map = new OrderedObjectLongMap<>();
+        final String held = new String("a");
+        assertNull(map.putIfAbsent(held, 0));
+        assertSame(held, map.putIfAbsent(new String("a"), 0));
+        assertSame(held, map.getKey(new String("a")));
+        assertNull(map.getKey("b"));
+    }
+
+    @Test
+    public void shouldRemoveFirstAsQueue() {
+        final OrderedObjectLongMap<Integer> map = new OrderedObjectLongMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+            if (i % 3 == 2) {
+                assertEquals(i / 3, (int) map.removeFirst());
+            }
+        }
+        assertEquals(67, map.size());
+        assertEquals(33, (int) map.firstKey());
+        assertEquals(67, toList(map).size());
+    }
+
+    @Test
+    public void shouldRemoveThroughIterator() {
+        final OrderedObjectLongMap<Integer> map = new OrderedObjectLongMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        final OrderedObjectLongMap<Integer>.EntryIterator iterator = map.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0)
+                iterator.remove();
+        }
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), toList(map));
+        assertFalse(map.containsKey(4));
+        assertTrue(map.containsKey(5));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void shouldFailIfModifiedWhileIterating() {
+        final OrderedObjectLongMap<Integer> map = new OrderedObjectLongMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        final Iterator<Integer> iterator = map.iterator();
+        iterator.next();
+        map.put(3, 3);
+        iterator.next();
+    }
+
+    @Test
+    public void shouldBehaveLikeLinkedHashMap() {
+        final Random random = new Random(1234567890L);
+        final OrderedObjectLongMap<Integer> map = new OrderedObjectLongMap<>();
+        final Map<Integer, Long> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            // keys that collide in their low bits exercise long probe sequences
+            final Integer key = random.nextInt(500) << 10;
+            final int operation = random.nextInt(10);
+            if (operation < 6) {
+                map.add(key, 1);
+                expected.merge(key, 1L, Long::sum);
+            } else if (operation < 9) {
+                assertEquals(null != expected.remove(key), map.remove(key));
+            } else if (!expected.isEmpty()) {
+                final Integer first = expected.keySet().iterator().next();
+                expected.remove(first);
+                assertEquals(first, map.removeFirst());
+            }
+            if (i % 1000 == 0) {
+                assertEquals(expected, map.asMap());
+                assertEquals(new ArrayList<>(expected.keySet()), toList(map));
+            }
+        }
+        assertEquals(expected, map.asMap());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.sumValues());
+    }
+
+    @Test
+    public void shouldSerialize() throws Exception {
+        final OrderedObjectLongMap<String> map = new OrderedObjectLongMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.remove("b");
+        final OrderedObjectLongMap<String> clone = Serializer.cloneObject(map);
+        assertEquals(map.asMap(), clone.asMap());
+        assertEquals(Arrays.asList("a", "c"), toList(clone));
+    }
+
+    @Test
+    public void shouldNotModifyThroughMapView() {
+        final OrderedObjectLongMap<String> map = new OrderedObjectLongMap<>();
+        map.put("a", 1);
+        try {
+            map.asMap().put("b", 2L);
+            fail("The map view should not be modifiable");
+        } catch (UnsupportedOperationException ignored) {
+            // expected
+        }
+        assertEquals(1, map.size());
+    }
+
+    private static <K> List<K> toList(final OrderedObjectLongMap<K> map) {
+        final List<K> list = new ArrayList<>();
+        map.iterator().forEachRemaining(list::add);
+        return list;
+    }
+}
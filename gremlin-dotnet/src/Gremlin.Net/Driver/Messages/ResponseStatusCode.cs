@@ -32,6 +32,7 @@ namespace Gremlin.Net.Driver.Messages
         PartialContent = 206,
         Unauthorized = 401,
         Authenticate = 407,
+        TooManyRequests = 429,
         MalformedRequest = 498,
         InvalidRequestArguments = 499,
         ServerError = 500,
@@ -52,6 +53,7 @@ namespace Gremlin.Net.Driver.Messages
                 case ResponseStatusCode.Authenticate:
                     return false;
                 case ResponseStatusCode.Unauthorized:
+                case ResponseStatusCode.TooManyRequests:
                 case ResponseStatusCode.MalformedRequest:
                 case ResponseStatusCode.InvalidRequestArguments:
                 case ResponseStatusCode.ServerError:
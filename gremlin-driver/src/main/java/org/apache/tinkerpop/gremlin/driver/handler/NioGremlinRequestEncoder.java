@@ -54,7 +54,7 @@ public final class NioGremlinRequestEncoder extends MessageToByteEncoder<Object>
                 // is not the optimal way to deal with this really, but it does prevent a protocol change in this
                 // immediate moment trying to get the NioChannelizer working.
                 final ByteBuf bytes = serializer.serializeRequestAsBinary(requestMessage, channelHandlerContext.alloc());
-                byteBuf.writeInt(bytes.capacity());
+                byteBuf.writeInt(bytes.readableBytes());
                 byteBuf.writeBytes(bytes);
             } else {
                 final MessageTextSerializer textSerializer = (MessageTextSerializer) serializer;
@@ -64,6 +64,12 @@ public enum ResponseStatusCode {
      */
     AUTHENTICATE(407),
 
+    /**
+     * The server is processing as many requests as it is configured to allow and could not queue this one.  The
+     * request was not processed at all and may be retried later.
+     */
+    TOO_MANY_REQUESTS(429),
+
     /**
      * The request message was not properly formatted which means it could not be parsed at all or the "op" code was
      * not recognized such that Gremlin Server could properly route it for processing.  Check the message format and
@@ -34,8 +34,11 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -52,6 +55,7 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
     private Traverser.Admin<E> lastTraverser = EmptyTraverser.instance();
     private final RemoteTraversalSideEffects sideEffects;
     private final ResultSet rs;
+    private final Graph attachTo;
 
     public DriverRemoteTraversal(final ResultSet rs, final Client client, final boolean attach, final Optional<Configuration> conf) {
         // attaching is really just for testing purposes. it doesn't make sense in any real-world scenario as it would
@@ -61,8 +65,10 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
             if (!conf.isPresent()) throw new IllegalStateException("Traverser can't be reattached for testing");
             final Graph graph = ((Supplier<Graph>) conf.get().getProperty("hidden.for.testing.only")).get();
             this.traversers = new AttachingTraverserIterator<>(rs.iterator(), graph);
+            this.attachTo = graph;
         } else {
             this.traversers = new TraverserIterator<>(rs.iterator());
+            this.attachTo = null;
         }
 
         this.rs = rs;
@@ -113,6 +119,28 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
         }
     }
 
+    /**
+     * Gets the next traversers with {@link ResultSet#some(int)} so that the returned future completes on the thread
+     * that reads the results from the server.
+     */
+    @Override
+    public CompletableFuture<List<Traverser.Admin<E>>> nextTraversers(final int amount) {
+        final List<Traverser.Admin<E>> batch = new ArrayList<>(amount);
+        if (this.lastTraverser.bulk() > 0L) {
+            batch.add(this.lastTraverser);
+            this.lastTraverser = EmptyTraverser.instance();
+            if (1 == amount) return CompletableFuture.completedFuture(batch);
+        }
+
+        return this.rs.some(amount - batch.size()).thenApply(results -> {
+            for (final Result result : results) {
+                final Traverser.Admin<E> traverser = (DefaultRemoteTraverser<E>) result.getObject();
+                batch.add(null == this.attachTo ? traverser : AttachingTraverserIterator.attach(traverser, this.attachTo));
+            }
+            return batch;
+        });
+    }
+
     /**
      * Releases server-side resources related to this traversal (i.e. clearing the side-effect cache of data related to
      * this traversal.
@@ -153,7 +181,10 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
 
         @Override
         public Traverser.Admin<E> next() {
-            final Traverser.Admin<E> traverser = super.next();
+            return attach(super.next(), graph);
+        }
+
+        static <E> Traverser.Admin<E> attach(final Traverser.Admin<E> traverser, final Graph graph) {
             if (traverser.get() instanceof Attachable && !(traverser.get() instanceof Property))
                 traverser.set((E) ((Attachable<Element>) traverser.get()).attach(Attachable.Method.get(graph)));
             return traverser;
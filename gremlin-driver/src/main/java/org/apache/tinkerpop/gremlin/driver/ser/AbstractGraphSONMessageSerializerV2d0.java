@@ -79,15 +79,14 @@ public abstract class AbstractGraphSONMessageSerializerV2d0 extends AbstractMess
 
     @Override
     public ByteBuf serializeResponseAsBinary(final ResponseMessage responseMessage, final ByteBufAllocator allocator) throws SerializationException {
-        ByteBuf encodedMessage = null;
+        ChunkedByteBufOutputStream stream = null;
         try {
-            final byte[] payload = mapper.writeValueAsBytes(responseMessage);
-            encodedMessage = allocator.buffer(payload.length);
-            encodedMessage.writeBytes(payload);
-
-            return encodedMessage;
+            // write straight into buffers from the allocator rather than through an intermediate byte[]
+            stream = new ChunkedByteBufOutputStream(allocator);
+            mapper.writeValue(stream, responseMessage);
+            return stream.toByteBuf();
         } catch (Exception ex) {
-            if (encodedMessage != null) ReferenceCountUtil.release(encodedMessage);
+            if (stream != null) stream.release();
 
             logger.warn("Response [{}] could not be serialized by {}.", responseMessage.toString(), AbstractGraphSONMessageSerializerV2d0.class.getName());
             throw new SerializationException(ex);
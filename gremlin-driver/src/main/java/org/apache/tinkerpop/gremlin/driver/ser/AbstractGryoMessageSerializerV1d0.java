@@ -32,6 +32,7 @@ import org.apache.tinkerpop.shaded.kryo.Kryo;
 import org.apache.tinkerpop.shaded.kryo.Serializer;
 import org.apache.tinkerpop.shaded.kryo.io.Input;
 import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.apache.tinkerpop.shaded.kryo.pool.KryoPool;
 
 import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
@@ -57,6 +58,10 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
         }
     };
 
+    // virtual threads usually serve a single request, so rather than create a Kryo for each of them through the
+    // thread local, they share the instances of a pool
+    private KryoPool kryoPool = createKryoPool();
+
     private static final Charset UTF8 = Charset.forName("UTF-8");
 
     public static final String TOKEN_CUSTOM = "custom";
@@ -96,6 +101,23 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
         this.bufferSize = Integer.parseInt(config.getOrDefault(TOKEN_BUFFER_SIZE, "4096").toString());
 
         this.gryoMapper = configureBuilder(builder, config, graphs).create();
+        this.kryoPool = createKryoPool();
+    }
+
+    private KryoPool createKryoPool() {
+        return new KryoPool.Builder(() -> gryoMapper.createMapper()).softReferences().build();
+    }
+
+    /**
+     * Gets the {@code Kryo} of the current thread or one from the pool for a virtual thread, which must be handed
+     * back with {@link #releaseKryo(Kryo)} once it is no longer used.
+     */
+    private Kryo borrowKryo() {
+        return isVirtualThread() ? kryoPool.borrow() : kryoThreadLocal.get();
+    }
+
+    private void releaseKryo(final Kryo kryo) {
+        if (kryo != null && isVirtualThread()) kryoPool.release(kryo);
     }
 
     private void addClassResolverSupplier(final Map<String, Object> config, final GryoMapper.Builder builder) {
@@ -151,9 +173,10 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
 
     @Override
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.capacity()];
+            kryo = borrowKryo();
+            final byte[] payload = new byte[msg.readableBytes()];
             msg.readBytes(payload);
             try (final Input input = new Input(payload)) {
                 final UUID requestId = kryo.readObjectOrNull(input, UUID.class);
@@ -174,51 +197,50 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
         } catch (Exception ex) {
             logger.warn("Response [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
     @Override
     public ByteBuf serializeResponseAsBinary(final ResponseMessage responseMessage, final ByteBufAllocator allocator) throws SerializationException {
-        ByteBuf encodedMessage = null;
+        ChunkedByteBufOutputStream stream = null;
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
-            try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos, bufferSize);
-
-                // request id - if present
-                kryo.writeObjectOrNull(output, responseMessage.getRequestId() != null ? responseMessage.getRequestId() : null, UUID.class);
-
-                // status
-                output.writeShort(responseMessage.getStatus().getCode().getValue());
-                output.writeString(responseMessage.getStatus().getMessage());
-                kryo.writeClassAndObject(output, responseMessage.getStatus().getAttributes());
+            kryo = borrowKryo();
+            // write straight into buffers from the allocator rather than through an intermediate byte[]
+            stream = new ChunkedByteBufOutputStream(allocator, bufferSize);
+            final Output output = new Output(stream, bufferSize);
 
-                // result
-                kryo.writeClassAndObject(output, serializeToString ? serializeResultToString(responseMessage) : responseMessage.getResult().getData());
-                kryo.writeClassAndObject(output, responseMessage.getResult().getMeta());
+            // request id - if present
+            kryo.writeObjectOrNull(output, responseMessage.getRequestId() != null ? responseMessage.getRequestId() : null, UUID.class);
 
-                final long size = output.total();
-                if (size > Integer.MAX_VALUE)
-                    throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
+            // status
+            output.writeShort(responseMessage.getStatus().getCode().getValue());
+            output.writeString(responseMessage.getStatus().getMessage());
+            kryo.writeClassAndObject(output, responseMessage.getStatus().getAttributes());
 
-                output.flush();
-                encodedMessage = allocator.buffer((int) size);
-                encodedMessage.writeBytes(baos.toByteArray());
-            }
+            // result
+            kryo.writeClassAndObject(output, serializeToString ? serializeResultToString(responseMessage) : responseMessage.getResult().getData());
+            kryo.writeClassAndObject(output, responseMessage.getResult().getMeta());
 
-            return encodedMessage;
+            output.flush();
+            return stream.toByteBuf();
         } catch (Exception ex) {
-            if (encodedMessage != null) ReferenceCountUtil.release(encodedMessage);
+            if (stream != null) stream.release();
 
             logger.warn("Response [{}] could not be serialized by {}.", responseMessage.toString(), GryoMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
     @Override
     public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
+            kryo = borrowKryo();
             final byte[] payload = new byte[msg.readableBytes()];
             msg.readBytes(payload);
             try (final Input input = new Input(payload)) {
@@ -239,14 +261,17 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
         } catch (Exception ex) {
             logger.warn("Request [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
     @Override
     public ByteBuf serializeRequestAsBinary(final RequestMessage requestMessage, final ByteBufAllocator allocator) throws SerializationException {
         ByteBuf encodedMessage = null;
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
+            kryo = borrowKryo();
             try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
                 final Output output = new Output(baos, bufferSize);
                 final String mimeType = mimeTypesSupported()[0];
@@ -273,6 +298,8 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
 
             logger.warn("Request [{}] could not be serialized by {}.", requestMessage.toString(), GryoMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
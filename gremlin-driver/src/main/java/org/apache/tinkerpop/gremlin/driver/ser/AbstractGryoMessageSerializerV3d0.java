@@ -31,6 +31,7 @@ import org.apache.tinkerpop.shaded.kryo.Kryo;
 import org.apache.tinkerpop.shaded.kryo.Serializer;
 import org.apache.tinkerpop.shaded.kryo.io.Input;
 import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.apache.tinkerpop.shaded.kryo.pool.KryoPool;
 
 import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
@@ -54,6 +55,10 @@ public abstract class AbstractGryoMessageSerializerV3d0 extends AbstractMessageS
         }
     };
 
+    // virtual threads usually serve a single request, so rather than create a Kryo for each of them through the
+    // thread local, they share the instances of a pool
+    private KryoPool kryoPool = createKryoPool();
+
     private static final Charset UTF8 = Charset.forName("UTF-8");
 
     public static final String TOKEN_CUSTOM = "custom";
@@ -92,6 +97,23 @@ public abstract class AbstractGryoMessageSerializerV3d0 extends AbstractMessageS
         this.bufferSize = Integer.parseInt(config.getOrDefault(TOKEN_BUFFER_SIZE, "4096").toString());
 
         this.gryoMapper = configureBuilder(builder, config, graphs).create();
+        this.kryoPool = createKryoPool();
+    }
+
+    private KryoPool createKryoPool() {
+        return new KryoPool.Builder(() -> gryoMapper.createMapper()).softReferences().build();
+    }
+
+    /**
+     * Gets the {@code Kryo} of the current thread or one from the pool for a virtual thread, which must be handed
+     * back with {@link #releaseKryo(Kryo)} once it is no longer used.
+     */
+    private Kryo borrowKryo() {
+        return isVirtualThread() ? kryoPool.borrow() : kryoThreadLocal.get();
+    }
+
+    private void releaseKryo(final Kryo kryo) {
+        if (kryo != null && isVirtualThread()) kryoPool.release(kryo);
     }
 
     private void addClassResolverSupplier(final Map<String, Object> config, final GryoMapper.Builder builder) {
@@ -147,9 +169,10 @@ public abstract class AbstractGryoMessageSerializerV3d0 extends AbstractMessageS
 
     @Override
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.capacity()];
+            kryo = borrowKryo();
+            final byte[] payload = new byte[msg.readableBytes()];
             msg.readBytes(payload);
             try (final Input input = new Input(payload)) {
                 return kryo.readObject(input, ResponseMessage.class);
@@ -157,47 +180,46 @@ public abstract class AbstractGryoMessageSerializerV3d0 extends AbstractMessageS
         } catch (Exception ex) {
             logger.warn("Response [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV3d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
     @Override
     public ByteBuf serializeResponseAsBinary(final ResponseMessage responseMessage, final ByteBufAllocator allocator) throws SerializationException {
-        ByteBuf encodedMessage = null;
+        ChunkedByteBufOutputStream stream = null;
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
-            try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos, bufferSize);
-                final ResponseMessage msgToWrite = !serializeToString ? responseMessage :
-                        ResponseMessage.build(responseMessage.getRequestId())
-                            .code(responseMessage.getStatus().getCode())
-                            .statusAttributes(responseMessage.getStatus().getAttributes())
-                            .responseMetaData(responseMessage.getResult().getMeta())
-                            .result(serializeResultToString(responseMessage))
-                            .statusMessage(responseMessage.getStatus().getMessage()).create();
-                kryo.writeObject(output, msgToWrite);
-
-                final long size = output.total();
-                if (size > Integer.MAX_VALUE)
-                    throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
-
-                output.flush();
-                encodedMessage = allocator.buffer((int) size);
-                encodedMessage.writeBytes(baos.toByteArray());
-            }
+            kryo = borrowKryo();
+            // write straight into buffers from the allocator rather than through an intermediate byte[]
+            stream = new ChunkedByteBufOutputStream(allocator, bufferSize);
+            final Output output = new Output(stream, bufferSize);
+            final ResponseMessage msgToWrite = !serializeToString ? responseMessage :
+                    ResponseMessage.build(responseMessage.getRequestId())
+                        .code(responseMessage.getStatus().getCode())
+                        .statusAttributes(responseMessage.getStatus().getAttributes())
+                        .responseMetaData(responseMessage.getResult().getMeta())
+                        .result(serializeResultToString(responseMessage))
+                        .statusMessage(responseMessage.getStatus().getMessage()).create();
+            kryo.writeObject(output, msgToWrite);
 
-            return encodedMessage;
+            output.flush();
+            return stream.toByteBuf();
         } catch (Exception ex) {
-            if (encodedMessage != null) ReferenceCountUtil.release(encodedMessage);
+            if (stream != null) stream.release();
 
             logger.warn("Response [{}] could not be serialized by {}.", responseMessage.toString(), GryoMessageSerializerV3d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
     @Override
     public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
+            kryo = borrowKryo();
             final byte[] payload = new byte[msg.readableBytes()];
             msg.readBytes(payload);
             try (final Input input = new Input(payload)) {
@@ -208,14 +230,17 @@ public abstract class AbstractGryoMessageSerializerV3d0 extends AbstractMessageS
         } catch (Exception ex) {
             logger.warn("Request [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV3d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
     @Override
     public ByteBuf serializeRequestAsBinary(final RequestMessage requestMessage, final ByteBufAllocator allocator) throws SerializationException {
         ByteBuf encodedMessage = null;
+        Kryo kryo = null;
         try {
-            final Kryo kryo = kryoThreadLocal.get();
+            kryo = borrowKryo();
             try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
                 final Output output = new Output(baos, bufferSize);
                 final String mimeType = mimeTypesSupported()[0];
@@ -239,6 +264,8 @@ public abstract class AbstractGryoMessageSerializerV3d0 extends AbstractMessageS
 
             logger.warn("Request [{}] could not be serialized by {}.", requestMessage.toString(), GryoMessageSerializerV3d0.class.getName());
             throw new SerializationException(ex);
+        } finally {
+            releaseKryo(kryo);
         }
     }
 
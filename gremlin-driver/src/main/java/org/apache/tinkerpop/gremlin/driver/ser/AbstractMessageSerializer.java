@@ -22,6 +22,9 @@ import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.structure.io.IoRegistry;
 import org.apache.tinkerpop.gremlin.structure.io.Mapper;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +39,8 @@ import java.util.Map;
 public abstract class AbstractMessageSerializer implements MessageSerializer {
     public static final String TOKEN_IO_REGISTRIES = "ioRegistries";
 
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
     /**
      * Reads a list of fully qualified class names from the value of the {@link #TOKEN_IO_REGISTRIES} configuration
      * key. These classes should equate to {@link IoRegistry} implementations that will be assigned to the
@@ -99,4 +104,27 @@ public abstract class AbstractMessageSerializer implements MessageSerializer {
 
         return classNameList;
     }
-}
\ No newline at end of file
+
+    /**
+     * Determines if the current thread is a virtual thread. Virtual threads are usually created for a single task, so
+     * state that is expensive to create should not be kept per thread for them.
+     */
+    protected static boolean isVirtualThread() {
+        if (null == IS_VIRTUAL)
+            return false;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        // virtual threads are only available on newer JVMs so the method is looked up reflectively
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
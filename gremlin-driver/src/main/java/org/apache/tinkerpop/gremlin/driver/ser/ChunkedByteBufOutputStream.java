@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.util.ReferenceCountUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@code OutputStream} that writes straight into buffers of a {@link ByteBufAllocator} so that a message does not
+ * need to be assembled in a {@code byte[]} before it is copied to a buffer. Bytes are written to a buffer that grows
+ * up to a fixed size after which another buffer is started. Messages that span several buffers are returned as a
+ * {@link CompositeByteBuf} so that they are never copied to grow them.
+ */
+final class ChunkedByteBufOutputStream extends OutputStream {
+
+    /**
+     * The capacity of each buffer of a message that is too large for a single one.
+     */
+    static final int CHUNK_SIZE = 65536;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 4096;
+
+    private final ByteBufAllocator allocator;
+    private final int initialCapacity;
+    private CompositeByteBuf composite;
+    private ByteBuf current;
+    private long total = 0L;
+
+    ChunkedByteBufOutputStream(final ByteBufAllocator allocator) {
+        this(allocator, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    ChunkedByteBufOutputStream(final ByteBufAllocator allocator, final int initialCapacity) {
+        this.allocator = allocator;
+        this.initialCapacity = Math.min(Math.max(initialCapacity, 1), CHUNK_SIZE);
+        this.current = allocator.buffer(this.initialCapacity, CHUNK_SIZE);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureWritable(1);
+        current.writeByte(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            final int length = ensureWritable(remaining);
+            current.writeBytes(b, offset, length);
+            offset += length;
+            remaining -= length;
+        }
+    }
+
+    /**
+     * Gets the number of bytes written to the stream.
+     */
+    long total() {
+        return total;
+    }
+
+    /**
+     * Gets the buffer holding everything that was written to the stream, with a capacity that matches the number of
+     * bytes written as some consumers read the capacity as the length of the message. The stream should not be used
+     * after this call and the caller becomes responsible for releasing the buffer.
+     */
+    ByteBuf toByteBuf() {
+        if (null == composite) return current.capacity(current.writerIndex());
+
+        composite.addComponent(true, current);
+        return composite;
+    }
+
+    /**
+     * Releases the buffers of the stream, which is only needed if {@link #toByteBuf()} was not called.
+     */
+    void release() {
+        ReferenceCountUtil.release(current);
+        if (composite != null) ReferenceCountUtil.release(composite);
+    }
+
+    /**
+     * Makes room for up to the requested number of bytes in the current buffer, starting a new one if it is full,
+     * and returns the number of bytes that can be written to it.
+     */
+    private int ensureWritable(final int length) throws IOException {
+        if (total + length > Integer.MAX_VALUE)
+            throw new IOException(String.format("Message size of %s exceeds allocatable space", total + length));
+
+        if (current.maxWritableBytes() == 0) {
+            if (null == composite) composite = allocator.compositeBuffer(Integer.MAX_VALUE);
+            composite.addComponent(true, current);
+            current = allocator.buffer(CHUNK_SIZE, CHUNK_SIZE);
+        }
+
+        final int writable = Math.min(length, current.maxWritableBytes());
+        total += writable;
+        return writable;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.driver.ser;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
@@ -44,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -62,6 +65,21 @@ public class GraphSONMessageSerializerV3d0Test {
 
     public final MessageSerializer serializer = new GraphSONMessageSerializerV3d0();
 
+    @Test
+    public void shouldSerializeLargeResponseAcrossBuffers() throws Exception {
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            list.add("item-" + i);
+        }
+
+        final ByteBuf bb = serializer.serializeResponseAsBinary(responseMessageBuilder.result(list).create(), allocator);
+        assertThat(bb, instanceOf(CompositeByteBuf.class));
+
+        final ResponseMessage response = serializer.deserializeResponse(bb);
+        assertCommon(response);
+        assertEquals(list, response.getResult().getData());
+    }
+
     @Test
     public void shouldSerializeIterable() throws Exception {
         final ArrayList<Integer> list = new ArrayList<>();
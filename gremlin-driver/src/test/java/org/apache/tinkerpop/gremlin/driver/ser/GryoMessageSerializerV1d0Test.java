@@ -20,6 +20,8 @@ package org.apache.tinkerpop.gremlin.driver.ser;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
@@ -54,6 +56,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.awt.Color;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -62,6 +65,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -71,6 +75,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Serializer tests that cover non-lossy serialization/deserialization methods.
@@ -203,6 +208,44 @@ public class GryoMessageSerializerV1d0Test {
         }
     }
 
+    @Test
+    public void shouldReuseKryoAcrossVirtualThreads() throws Exception {
+        final Method startVirtualThread;
+        try {
+            startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException nsme) {
+            assumeTrue("This JVM does not support virtual threads", false);
+            return;
+        }
+
+        final Map<String, Object> config = new HashMap<String, Object>() {{
+            put(GryoMessageSerializerV1d0.TOKEN_CLASS_RESOLVER_SUPPLIER, CountingClassResolverSupplier.class.getName());
+        }};
+
+        final MessageSerializer serializer = serializerSupplier.get();
+        serializer.configure(config, null);
+        CountingClassResolverSupplier.created.set(0);
+
+        final List<ResponseMessage> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final Thread thread = (Thread) startVirtualThread.invoke(null, (Runnable) () -> {
+                try {
+                    final ByteBuf bb = serializer.serializeResponseAsBinary(responseMessageBuilder.result(Arrays.asList(1, 100)).create(), allocator);
+                    responses.add(serializer.deserializeResponse(bb));
+                } catch (SerializationException se) {
+                    throw new RuntimeException(se);
+                }
+            });
+            thread.join();
+        }
+
+        assertEquals(10, responses.size());
+        responses.forEach(response -> assertEquals(Arrays.asList(1, 100), response.getResult().getData()));
+
+        // each virtual thread runs after the last has finished, so they should all share the first Kryo in the pool
+        assertEquals(1, CountingClassResolverSupplier.created.get());
+    }
+
     @Test
     public void shouldSerializeIterable() throws Exception {
         final ArrayList<Integer> list = new ArrayList<>();
@@ -218,6 +261,37 @@ public class GryoMessageSerializerV1d0Test {
         assertEquals(new Integer(100), deserializedFunList.get(1));
     }
 
+    @Test
+    public void shouldSerializeLargeResponseAcrossBuffers() throws Exception {
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            list.add("item-" + i);
+        }
+
+        final MessageSerializer serializer = serializerSupplier.get();
+        final ByteBuf bb = serializer.serializeResponseAsBinary(responseMessageBuilder.result(list).create(), allocator);
+        assertThat(bb, instanceOf(CompositeByteBuf.class));
+        assertEquals(bb.readableBytes(), bb.capacity());
+
+        final ResponseMessage response = serializer.deserializeResponse(bb);
+        assertCommon(response);
+        assertEquals(list, response.getResult().getData());
+    }
+
+    @Test
+    public void shouldSizeSerializedResponseToContent() throws Exception {
+        final MessageSerializer serializer = serializerSupplier.get();
+        for (ByteBufAllocator alloc : Arrays.asList(allocator, PooledByteBufAllocator.DEFAULT)) {
+            // the nio channelizer writes the capacity of the buffer as the length of the message
+            final ByteBuf bb = serializer.serializeResponseAsBinary(responseMessageBuilder.result(1).create(), alloc);
+            try {
+                assertEquals(bb.readableBytes(), bb.capacity());
+            } finally {
+                bb.release();
+            }
+        }
+    }
+
     @Test
     public void shouldSerializeIterableToString() throws Exception {
         final ArrayList<Integer> list = new ArrayList<>();
@@ -700,6 +774,16 @@ public class GryoMessageSerializerV1d0Test {
         }
     }
 
+    public static class CountingClassResolverSupplier implements Supplier<ClassResolver> {
+        private static final AtomicInteger created = new AtomicInteger(0);
+
+        @Override
+        public ClassResolver get() {
+            created.incrementAndGet();
+            return new GryoClassResolverV1d0();
+        }
+    }
+
     public static class ErrorOnlyClassResolver extends GryoClassResolverV1d0 {
         @Override
         public Registration getRegistration(Class clazz) {
@@ -45,6 +45,13 @@ class HaltedTraverserStrategy(TraversalStrategy):
             self.configuration["haltedTraverserFactory"] = halted_traverser_factory
 
 
+class ParallelStrategy(TraversalStrategy):
+    def __init__(self, parallelism=None):
+        TraversalStrategy.__init__(self)
+        if parallelism is not None:
+            self.configuration["parallelism"] = parallelism
+
+
 class PartitionStrategy(TraversalStrategy):
     def __init__(self, partition_key=None, write_partition=None, read_partitions=None, include_meta_properties=None):
         TraversalStrategy.__init__(self)
@@ -164,6 +171,23 @@ class RepeatUnrollStrategy(TraversalStrategy):
         TraversalStrategy.__init__(self)
 
 
+class TraverserRecyclingStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self)
+
+
+class BatchingStrategy(TraversalStrategy):
+    def __init__(self, batch_size=None):
+        TraversalStrategy.__init__(self)
+        if batch_size is not None:
+            self.configuration["batchSize"] = batch_size
+
+
+class CostBasedFilterStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self)
+
+
 class GraphFilterStrategy(TraversalStrategy):
     def __init__(self):
         TraversalStrategy.__init__(self)
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV3d0;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
 import org.apache.tinkerpop.gremlin.server.handler.AbstractAuthenticationHandler;
+import org.apache.tinkerpop.gremlin.server.handler.OpAdmissionHandler;
 import org.apache.tinkerpop.gremlin.server.handler.OpExecutorHandler;
 import org.apache.tinkerpop.gremlin.server.handler.OpSelectorHandler;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -89,6 +90,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
     protected static final String PIPELINE_SSL = "ssl";
     protected static final String PIPELINE_OP_SELECTOR = "op-selector";
     protected static final String PIPELINE_OP_EXECUTOR = "op-executor";
+    protected static final String PIPELINE_OP_ADMISSION = "op-admission";
     protected static final String PIPELINE_HTTP_REQUEST_DECODER = "http-request-decoder";
 
     protected static final String GREMLIN_ENDPOINT = "/gremlin";
@@ -97,6 +99,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
 
     private OpSelectorHandler opSelectorHandler;
     private OpExecutorHandler opExecutorHandler;
+    private OpAdmissionHandler opAdmissionHandler;
 
     protected Authenticator authenticator;
 
@@ -136,6 +139,12 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
         // these handlers don't share any state and can thus be initialized once per pipeline
         opSelectorHandler = new OpSelectorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService);
         opExecutorHandler = new OpExecutorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService);
+
+        // admission control shares its limits across all channels so there is just the one handler
+        if (!settings.admission.lanes.isEmpty()) {
+            opAdmissionHandler = new OpAdmissionHandler(settings.admission);
+            logger.info("Admission control enabled with lanes {}", opAdmissionHandler.getLaneNames());
+        }
     }
 
     @Override
@@ -150,6 +159,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
         configure(pipeline);
 
         pipeline.addLast(PIPELINE_OP_SELECTOR, opSelectorHandler);
+        if (opAdmissionHandler != null) pipeline.addLast(PIPELINE_OP_ADMISSION, opAdmissionHandler);
         pipeline.addLast(PIPELINE_OP_EXECUTOR, opExecutorHandler);
 
         finalize(pipeline);
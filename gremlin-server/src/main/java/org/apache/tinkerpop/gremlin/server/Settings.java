@@ -91,6 +91,23 @@ public class Settings {
      */
     public int gremlinPool = 0;
 
+    /**
+     * Determines if Gremlin script and traversal evaluation runs on virtual threads rather than on the fixed
+     * {@link #gremlinPool}, so that evaluations blocked on I/O to the graph do not hold a platform thread. Sessions
+     * then also run on a virtual thread each. Virtual threads require a JVM that supports them and the server falls
+     * back to the {@link #gremlinPool} on a JVM that does not. Defaults to {@code false}.
+     */
+    public boolean useVirtualThreads = false;
+
+    /**
+     * The maximum number of evaluations that may run at once when {@link #useVirtualThreads} is enabled. Requests
+     * beyond this limit wait in a queue until a running evaluation completes, which protects the graph from an
+     * unbounded number of concurrent requests. The limit does not apply to sessions, as each session holds its own
+     * thread for as long as it is open, so the number of sessions is bounded by the clients that open them rather
+     * than by this setting. Defaults to 1024.
+     */
+    public int maxVirtualThreads = 1024;
+
     /**
      * Size of the boss thread pool.  Defaults to 1 and should likely stay at 1.  The bossy thread accepts incoming
      * connections on a port until it is unbound. Once a connection is accepted successfully, the boss thread
@@ -118,6 +135,20 @@ public class Settings {
      */
     public int resultIterationBatchSize = 64;
 
+    /**
+     * The approximate number of serialized bytes that a batch of results should hold. When set, the first batch of
+     * a result holds a single item and the size of each following batch is estimated from the serialized size of the
+     * items in the previous one. Such a batch may hold more items than the {@link #resultIterationBatchSize} and is
+     * only limited by a batch size given on the request. Defaults to 0 which disables this setting.
+     */
+    public int resultIterationBatchBytes = 0;
+
+    /**
+     * Time in milliseconds after which a batch of results is pushed to the client even if it is not full, so that
+     * results from a slow to iterate request reach the client early. Defaults to 0 which disables this setting.
+     */
+    public long resultIterationBatchTime = 0L;
+
     /**
      * The maximum length of the initial line (e.g. {@code "GET / HTTP/1.0"}) processed in a request, which essentially
      * controls the maximum length of the submitted URI. This setting ties to the Netty {@code HttpRequestDecoder}.
@@ -216,6 +247,12 @@ public class Settings {
      */
     public List<ProcessorSettings> processors = new ArrayList<>();
 
+    /**
+     * Configures admission control, which limits the number of requests that run at once and queues the rest in
+     * priority lanes.
+     */
+    public AdmissionSettings admission = new AdmissionSettings();
+
     /**
      * Find the {@link ProcessorSettings} related to the specified class. If there are multiple entries then only the
      * first is returned.
@@ -275,6 +312,14 @@ public class Settings {
         scriptEngineSettingsDescription.putMapPropertyType("plugins", String.class, Object.class);
         constructor.addTypeDescription(scriptEngineSettingsDescription);
 
+        final TypeDescription admissionSettingsDescription = new TypeDescription(AdmissionSettings.class);
+        admissionSettingsDescription.putListPropertyType("lanes", LaneSettings.class);
+        constructor.addTypeDescription(admissionSettingsDescription);
+
+        final TypeDescription laneSettingsDescription = new TypeDescription(LaneSettings.class);
+        laneSettingsDescription.putListPropertyType("aliases", String.class);
+        constructor.addTypeDescription(laneSettingsDescription);
+
         final TypeDescription sslSettings = new TypeDescription(SslSettings.class);
         constructor.addTypeDescription(sslSettings);
 
@@ -423,6 +468,63 @@ public class Settings {
         public Map<String, Object> config = null;
     }
 
+    /**
+     * Settings for admission control of requests. Admission control is disabled unless at least one lane is
+     * configured.
+     */
+    public static class AdmissionSettings {
+        /**
+         * The lanes that requests are queued in, in order of priority where the first lane is the highest. A request
+         * names its lane with the {@code lane} argument and otherwise goes to the first lane that lists one of its
+         * aliases, or to the last lane if none does.
+         */
+        public List<LaneSettings> lanes = new ArrayList<>();
+
+        /**
+         * The maximum number of requests from all lanes that may run at once. When a request completes, the queued
+         * request from the lane with the highest priority runs next. Set to zero for no limit.
+         */
+        public int maxConcurrentRequests = 0;
+
+        /**
+         * The maximum number of requests from a single authenticated user that may run at once. Requests are not
+         * limited by user when authentication is not configured. Set to zero for no limit.
+         */
+        public int maxConcurrentRequestsPerUser = 0;
+
+        /**
+         * The maximum number of requests that may run at once against a single graph or traversal source alias.
+         * Set to zero for no limit.
+         */
+        public int maxConcurrentRequestsPerAlias = 0;
+    }
+
+    /**
+     * Settings for a lane of the {@link AdmissionSettings}.
+     */
+    public static class LaneSettings {
+        /**
+         * The name of the lane which requests use to choose it and which names its metrics.
+         */
+        public String name;
+
+        /**
+         * The maximum number of requests from this lane that may run at once. Set to zero for no limit.
+         */
+        public int maxConcurrentRequests = 0;
+
+        /**
+         * The maximum number of requests that may wait in this lane. Requests that arrive when the lane is full are
+         * rejected with a {@code TOO_MANY_REQUESTS} response.
+         */
+        public int maxQueuedRequests = 64;
+
+        /**
+         * The graph and traversal source aliases whose requests go to this lane when they do not name a lane.
+         */
+        public List<String> aliases = new ArrayList<>();
+    }
+
     /**
      * Settings to configure SSL support.
      */
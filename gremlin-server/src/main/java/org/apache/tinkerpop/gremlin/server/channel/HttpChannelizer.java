@@ -90,6 +90,7 @@ public class HttpChannelizer extends AbstractChannelizer {
     @Override
     public void finalize(final ChannelPipeline pipeline) {
         pipeline.remove(PIPELINE_OP_SELECTOR);
+        if (pipeline.get(PIPELINE_OP_ADMISSION) != null) pipeline.remove(PIPELINE_OP_ADMISSION);
         pipeline.remove(PIPELINE_OP_EXECUTOR);
     }
 }
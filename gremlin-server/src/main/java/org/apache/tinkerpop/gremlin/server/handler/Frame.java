@@ -18,8 +18,11 @@
  */
 package org.apache.tinkerpop.gremlin.server.handler;
 
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import io.netty.util.ReferenceCounted;
 
+import java.util.UUID;
+
 /**
  * A holder for a {@code String} or {@code ByteBuf} that represents a message to be written back to the requesting
  * client.
@@ -28,15 +31,41 @@ import io.netty.util.ReferenceCounted;
  */
 public class Frame {
     private final Object msg;
+    private final UUID requestId;
+    private final ResponseStatusCode code;
 
     public Frame(final Object msg) {
+        this(msg, null, null);
+    }
+
+    /**
+     * Creates a frame for a response that is already serialized, keeping the request identifier and status code of
+     * the response so that handlers can tell when a request is complete without deserializing it.
+     */
+    public Frame(final Object msg, final UUID requestId, final ResponseStatusCode code) {
         this.msg = msg;
+        this.requestId = requestId;
+        this.code = code;
     }
 
     public Object getMsg() {
         return msg;
     }
 
+    /**
+     * Gets the identifier of the request the framed response is for, which may be {@code null} if it is unknown.
+     */
+    public UUID getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Gets the status code of the framed response, which may be {@code null} if it is unknown.
+     */
+    public ResponseStatusCode getCode() {
+        return code;
+    }
+
     /**
      * If the object contained in the frame is {@code ReferenceCounted} then it may need to be released or else
      * Netty will generate warnings that counted resources are leaking.
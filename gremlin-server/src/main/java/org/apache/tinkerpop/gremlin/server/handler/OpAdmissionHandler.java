@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.javatuples.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Limits the number of requests that run at once. A request that cannot run yet waits in one of a number of priority
+ * lanes and runs once earlier requests complete, while a request that arrives at a full lane is rejected straight
+ * away with {@link ResponseStatusCode#TOO_MANY_REQUESTS}. The handler sits between the {@link OpSelectorHandler} and
+ * the {@link OpExecutorHandler} so that it sees each request after its processor is selected and sees the responses
+ * that the processor writes back, the last of which completes the request. The limits are shared by all channels.
+ */
+@ChannelHandler.Sharable
+public class OpAdmissionHandler extends ChannelDuplexHandler {
+    private static final Logger logger = LoggerFactory.getLogger(OpAdmissionHandler.class);
+
+    private final Lane[] lanes;
+    private final Map<String, Lane> lanesByName = new HashMap<>();
+    private final Map<String, Lane> lanesByAlias = new HashMap<>();
+    private final int maxConcurrentRequests;
+    private final int maxConcurrentRequestsPerUser;
+    private final int maxConcurrentRequestsPerAlias;
+
+    /**
+     * The counts of running requests, which are guarded by the lock on this handler along with the lane queues.
+     */
+    private int running = 0;
+    private final Map<String, Integer> runningByUser = new HashMap<>();
+    private final Map<String, Integer> runningByAlias = new HashMap<>();
+
+    public OpAdmissionHandler(final Settings.AdmissionSettings settings) {
+        if (settings.lanes.isEmpty())
+            throw new IllegalArgumentException("Admission control requires at least one lane");
+
+        this.maxConcurrentRequests = settings.maxConcurrentRequests;
+        this.maxConcurrentRequestsPerUser = settings.maxConcurrentRequestsPerUser;
+        this.maxConcurrentRequestsPerAlias = settings.maxConcurrentRequestsPerAlias;
+        this.lanes = new Lane[settings.lanes.size()];
+        for (int i = 0; i < lanes.length; i++) {
+            final Settings.LaneSettings laneSettings = settings.lanes.get(i);
+            if (null == laneSettings.name || laneSettings.name.isEmpty())
+                throw new IllegalArgumentException("Each admission lane must have a name");
+            if (lanesByName.containsKey(laneSettings.name))
+                throw new IllegalArgumentException(String.format("The admission lane [%s] is configured more than once", laneSettings.name));
+
+            final Lane lane = new Lane(laneSettings);
+            lanes[i] = lane;
+            lanesByName.put(lane.name, lane);
+            laneSettings.aliases.forEach(alias -> lanesByAlias.putIfAbsent(alias, lane));
+        }
+    }
+
+    /**
+     * Gets the names of the lanes in order of priority.
+     */
+    public List<String> getLaneNames() {
+        return Stream.of(lanes).map(lane -> lane.name).collect(Collectors.toList());
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+        if (!(msg instanceof Pair) || !(((Pair) msg).getValue0() instanceof RequestMessage)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        final RequestMessage requestMessage = (RequestMessage) ((Pair) msg).getValue0();
+        final AuthenticatedUser user = ctx.channel().attr(StateKey.AUTHENTICATED_USER).get();
+        final Set<String> aliases = getAliases(requestMessage);
+        final Admission admission = new Admission(ctx, msg, requestMessage.getRequestId(), selectLane(requestMessage, aliases),
+                null == user ? null : user.getName(), aliases);
+
+        final boolean admitted;
+        synchronized (this) {
+            admitted = canStart(admission);
+            if (admitted) {
+                acquire(admission);
+            } else if (admission.lane.queue.size() < admission.lane.maxQueuedRequests) {
+                admission.lane.queue.add(admission);
+                return;
+            }
+        }
+
+        if (admitted) {
+            start(admission);
+        } else {
+            admission.lane.rejected.mark();
+            final String errorMessage = String.format("Too many requests are waiting in the [%s] lane - retry the request later", admission.lane.name);
+            logger.debug("Rejected request {} - {}", requestMessage.getRequestId(), errorMessage);
+            ctx.writeAndFlush(ResponseMessage.build(requestMessage)
+                    .code(ResponseStatusCode.TOO_MANY_REQUESTS)
+                    .statusMessage(errorMessage).create());
+        }
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
+        if (msg instanceof ResponseMessage) {
+            final ResponseMessage responseMessage = (ResponseMessage) msg;
+            complete(ctx, responseMessage.getRequestId(), responseMessage.getStatus().getCode());
+        } else if (msg instanceof Frame) {
+            final Frame frame = (Frame) msg;
+            complete(ctx, frame.getRequestId(), frame.getCode());
+        }
+
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        // requests from a closed channel should neither wait in a lane nor hold on to their admission
+        synchronized (this) {
+            for (Lane lane : lanes) {
+                lane.queue.removeIf(admission -> admission.ctx.channel() == ctx.channel());
+            }
+        }
+
+        final Map<UUID, Runnable> admitted = ctx.channel().attr(StateKey.ADMITTED_REQUESTS).get();
+        if (admitted != null) {
+            final List<Runnable> releases = new ArrayList<>(admitted.values());
+            admitted.clear();
+            releases.forEach(Runnable::run);
+        }
+
+        super.channelInactive(ctx);
+    }
+
+    private void complete(final ChannelHandlerContext ctx, final UUID requestId, final ResponseStatusCode code) {
+        if (null == requestId || null == code || code == ResponseStatusCode.PARTIAL_CONTENT || code == ResponseStatusCode.AUTHENTICATE)
+            return;
+
+        final Map<UUID, Runnable> admitted = ctx.channel().attr(StateKey.ADMITTED_REQUESTS).get();
+        if (null == admitted) return;
+
+        final Runnable release = admitted.remove(requestId);
+        if (release != null) release.run();
+    }
+
+    /**
+     * Passes an admitted request on to the {@link OpExecutorHandler}. This must be called from the event loop of
+     * the channel that the request came from.
+     */
+    private void start(final Admission admission) {
+        admission.lane.wait.update(System.nanoTime() - admission.queuedAt, TimeUnit.NANOSECONDS);
+
+        // the channel may have closed while the request waited in its lane
+        final ChannelHandlerContext ctx = admission.ctx;
+        if (!ctx.channel().isActive()) {
+            admission.release();
+            return;
+        }
+
+        Map<UUID, Runnable> admitted = ctx.channel().attr(StateKey.ADMITTED_REQUESTS).get();
+        if (null == admitted) {
+            admitted = new HashMap<>();
+            ctx.channel().attr(StateKey.ADMITTED_REQUESTS).set(admitted);
+        }
+        admitted.put(admission.requestId, admission::release);
+
+        ctx.fireChannelRead(admission.msg);
+    }
+
+    private void release(final Admission admission) {
+        final List<Admission> started;
+        synchronized (this) {
+            running--;
+            admission.lane.running--;
+            if (admission.user != null) runningByUser.computeIfPresent(admission.user, (k, v) -> v == 1 ? null : v - 1);
+            admission.aliases.forEach(alias -> runningByAlias.computeIfPresent(alias, (k, v) -> v == 1 ? null : v - 1));
+            started = startQueued();
+        }
+
+        started.forEach(next -> next.ctx.executor().execute(() -> start(next)));
+    }
+
+    /**
+     * Takes the requests that can now run from the lanes in order of priority. Within a lane, a request that is
+     * held back by its user or alias limit does not hold back the requests behind it.
+     */
+    private List<Admission> startQueued() {
+        final List<Admission> started = new ArrayList<>();
+        for (Lane lane : lanes) {
+            final Iterator<Admission> itty = lane.queue.iterator();
+            while (itty.hasNext()) {
+                if (isAtLimit(running, maxConcurrentRequests)) return started;
+                if (isAtLimit(lane.running, lane.maxConcurrentRequests)) break;
+
+                final Admission admission = itty.next();
+                if (canStart(admission)) {
+                    itty.remove();
+                    acquire(admission);
+                    started.add(admission);
+                }
+            }
+        }
+        return started;
+    }
+
+    private boolean canStart(final Admission admission) {
+        if (isAtLimit(running, maxConcurrentRequests) || isAtLimit(admission.lane.running, admission.lane.maxConcurrentRequests))
+            return false;
+        if (admission.user != null && isAtLimit(runningByUser.getOrDefault(admission.user, 0), maxConcurrentRequestsPerUser))
+            return false;
+        for (String alias : admission.aliases) {
+            if (isAtLimit(runningByAlias.getOrDefault(alias, 0), maxConcurrentRequestsPerAlias))
+                return false;
+        }
+        return true;
+    }
+
+    private void acquire(final Admission admission) {
+        running++;
+        admission.lane.running++;
+        if (admission.user != null) runningByUser.merge(admission.user, 1, Integer::sum);
+        admission.aliases.forEach(alias -> runningByAlias.merge(alias, 1, Integer::sum));
+    }
+
+    private static boolean isAtLimit(final int count, final int limit) {
+        return limit > 0 && count >= limit;
+    }
+
+    private Lane selectLane(final RequestMessage requestMessage, final Set<String> aliases) {
+        final Object laneName = requestMessage.getArgs().get(Tokens.ARGS_LANE);
+        if (laneName != null && lanesByName.containsKey(laneName.toString()))
+            return lanesByName.get(laneName.toString());
+
+        for (String alias : aliases) {
+            final Lane lane = lanesByAlias.get(alias);
+            if (lane != null) return lane;
+        }
+
+        // requests that do not say otherwise get the lowest priority
+        return lanes[lanes.length - 1];
+    }
+
+    private static Set<String> getAliases(final RequestMessage requestMessage) {
+        final Object aliases = requestMessage.getArgs().containsKey(Tokens.ARGS_ALIASES) ?
+                requestMessage.getArgs().get(Tokens.ARGS_ALIASES) : requestMessage.getArgs().get(Tokens.ARGS_REBINDINGS);
+        if (!(aliases instanceof Map)) return Collections.emptySet();
+
+        final Set<String> names = new HashSet<>();
+        ((Map<?, ?>) aliases).values().forEach(alias -> names.add(String.valueOf(alias)));
+        return names;
+    }
+
+    private static final class Lane {
+        private final String name;
+        private final int maxConcurrentRequests;
+        private final int maxQueuedRequests;
+        private final Queue<Admission> queue = new ArrayDeque<>();
+        private final Timer wait;
+        private final Meter rejected;
+        private int running = 0;
+
+        private Lane(final Settings.LaneSettings settings) {
+            this.name = settings.name;
+            this.maxConcurrentRequests = settings.maxConcurrentRequests;
+            this.maxQueuedRequests = settings.maxQueuedRequests;
+            this.wait = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "admission", settings.name, "wait"));
+            this.rejected = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "admission", settings.name, "rejected"));
+        }
+    }
+
+    private final class Admission {
+        private final ChannelHandlerContext ctx;
+        private final Object msg;
+        private final UUID requestId;
+        private final Lane lane;
+        private final String user;
+        private final Set<String> aliases;
+        private final long queuedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Admission(final ChannelHandlerContext ctx, final Object msg, final UUID requestId, final Lane lane,
+                          final String user, final Set<String> aliases) {
+            this.ctx = ctx;
+            this.msg = msg;
+            this.requestId = requestId;
+            this.lane = lane;
+            this.user = user;
+            this.aliases = aliases;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) OpAdmissionHandler.this.release(this);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Queue;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -83,4 +84,28 @@ public class OpExecutorHandler extends SimpleChannelInboundHandler<Pair<RequestM
             ReferenceCountUtil.release(objects);
         }
     }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        // resume result iterations that released their worker while waiting for the client to catch up
+        if (ctx.channel().isWritable()) resumePausedIterations(ctx);
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        // paused result iterations resume only to find the channel closed and then clean up after themselves
+        resumePausedIterations(ctx);
+        super.channelInactive(ctx);
+    }
+
+    private static void resumePausedIterations(final ChannelHandlerContext ctx) {
+        final Queue<Runnable> pausedIterations = ctx.channel().attr(StateKey.PAUSED_ITERATIONS).get();
+        if (null == pausedIterations) return;
+
+        Runnable resumption;
+        while ((resumption = pausedIterations.poll()) != null) {
+            resumption.run();
+        }
+    }
 }
@@ -20,10 +20,15 @@ package org.apache.tinkerpop.gremlin.server.handler;
 
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
 import org.apache.tinkerpop.gremlin.server.op.session.Session;
 import io.netty.util.AttributeKey;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+
 /**
  * Keys used in the various handlers to store state in the pipeline.
  *
@@ -54,4 +59,20 @@ public class StateKey {
      * The key for the current request.
      */
     public static final AttributeKey<RequestMessage> REQUEST_MESSAGE = AttributeKey.valueOf("request");
+
+    /**
+     * The key for the result iterations that are waiting for the channel to become writable again.
+     */
+    public static final AttributeKey<Queue<Runnable>> PAUSED_ITERATIONS = AttributeKey.valueOf("pausedIterations");
+
+    /**
+     * The key for the user that authenticated on the channel.
+     */
+    public static final AttributeKey<AuthenticatedUser> AUTHENTICATED_USER = AttributeKey.valueOf("authenticatedUser");
+
+    /**
+     * The key for the requests that were admitted to run by the {@link OpAdmissionHandler} and have not yet
+     * completed, each with the callback that releases its admission.
+     */
+    public static final AttributeKey<Map<UUID, Runnable>> ADMITTED_REQUESTS = AttributeKey.valueOf("admittedRequests");
 }
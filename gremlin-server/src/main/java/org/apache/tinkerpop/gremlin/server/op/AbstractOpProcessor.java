@@ -18,7 +18,12 @@
  */
 package org.apache.tinkerpop.gremlin.server.op;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
 import org.apache.commons.lang.time.StopWatch;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
@@ -28,11 +33,13 @@ import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.driver.ser.MessageTextSerializer;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.handler.Frame;
 import org.apache.tinkerpop.gremlin.server.handler.StateKey;
 import org.apache.tinkerpop.gremlin.server.util.ExceptionHelper;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,8 +49,17 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * A base {@link OpProcessor} implementation that processes an {@code Iterator} of results in a generalized way while
@@ -54,6 +70,17 @@ import java.util.concurrent.TimeoutException;
 public abstract class AbstractOpProcessor implements OpProcessor {
     private static final Logger logger = LoggerFactory.getLogger(AbstractEvalOpProcessor.class);
 
+    /**
+     * The number of requests for which writing results is currently paused because the client is not consuming
+     * them quickly enough.
+     */
+    public static final Counter pausedIterationCounter = MetricManager.INSTANCE.getCounter(name(GremlinServer.class, "iteration", "paused"));
+
+    /**
+     * The time that writing results was paused for, which is updated each time writing resumes.
+     */
+    public static final Timer pausedIterationTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "iteration", "pauses"));
+
     /**
      * When set to {@code true}, transactions are always managed otherwise they can be overridden by the request.
      */
@@ -67,7 +94,9 @@ public abstract class AbstractOpProcessor implements OpProcessor {
      * Provides a generic way of iterating a result set back to the client. Implementers should respect the
      * {@link Settings#serializedResponseTimeout} configuration and break the serialization process if
      * it begins to take too long to do so, throwing a {@link java.util.concurrent.TimeoutException} in such
-     * cases.
+     * cases. If the client is not consuming results quickly enough and {@link #isReleasedWhilePaused(Context)}
+     * allows it, this method returns before iteration is complete and the remaining results are written from
+     * another thread once the channel is writable again.
      *
      * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
      * @param itty The result to iterator
@@ -77,9 +106,6 @@ public abstract class AbstractOpProcessor implements OpProcessor {
         final ChannelHandlerContext ctx = context.getChannelHandlerContext();
         final RequestMessage msg = context.getRequestMessage();
         final Settings settings = context.getSettings();
-        final MessageSerializer serializer = ctx.channel().attr(StateKey.SERIALIZER).get();
-        final boolean useBinary = ctx.channel().attr(StateKey.USE_BINARY).get();
-        boolean warnOnce = false;
 
         // sessionless requests are always transaction managed, but in-session requests are configurable.
         final boolean managedTransactionsForRequest = manageTransactions ?
@@ -96,117 +122,275 @@ public abstract class AbstractOpProcessor implements OpProcessor {
             return;
         }
 
+        new ResultIteration(context, itty, settings.serializedResponseTimeout,
+                () -> {
+                    if (managedTransactionsForRequest) attemptCommit(msg, context.getGraphManager(), settings.strictTransactionManagement);
+                },
+                () -> {
+                    if (managedTransactionsForRequest) attemptRollback(msg, context.getGraphManager(), settings.strictTransactionManagement);
+                },
+                ex -> {
+                    // the iteration resumed after a pause so the caller has already returned and can't report the
+                    // error - roll back and write it here instead
+                    if (managedTransactionsForRequest) attemptRollback(msg, context.getGraphManager(), settings.strictTransactionManagement);
+                    logger.warn(String.format("Exception iterating results for request [%s].", msg.getRequestId()), ex);
+                    ctx.writeAndFlush(ResponseMessage.build(msg)
+                            .code(ex instanceof TimeoutException ? ResponseStatusCode.SERVER_ERROR_TIMEOUT : ResponseStatusCode.SERVER_ERROR)
+                            .statusMessage(ex.getMessage())
+                            .statusAttributeException(ex).create());
+                }).iterate();
+    }
+
+    /**
+     * Determines if the worker thread iterating a result may be released when the client is not consuming results
+     * quickly enough, in which case iteration is resumed on a thread of the {@link Context#getGremlinExecutor()}
+     * once the channel is writable again. Otherwise the worker waits for the client to catch up. This must only be
+     * allowed where the request has no state bound to the current thread, like an open transaction, and where the
+     * executor of the request is not dedicated to it, as it is for a session. By default this method returns
+     * {@code false}.
+     */
+    protected boolean isReleasedWhilePaused(final Context context) {
+        return false;
+    }
+
+    /**
+     * Iterates a result into batches that are written to the client as {@link Frame} objects. Writing pauses when
+     * the channel is not writable because the client is slow to consume the responses. While paused, the worker
+     * thread either waits for the client to catch up or, if {@link #isReleasedWhilePaused(Context)} allows it, is
+     * released until a change in the writability of the channel resumes the iteration on another worker.
+     */
+    protected class ResultIteration {
+        private final Context context;
+        private final ChannelHandlerContext ctx;
+        private final RequestMessage msg;
+        private final MessageSerializer serializer;
+        private final boolean useBinary;
+        private final Iterator itty;
+        private final long timeout;
+        private final Runnable onSuccess;
+        private final Runnable onSerializationError;
+        private final Consumer<Exception> onResumedError;
+        private final int resultIterationBatchSize;
+        private final int maxBatchSize;
+        private final int resultIterationBatchBytes;
+        private final long resultIterationBatchTime;
+        private final Runnable resumption = this::resume;
+
         // timer for the total serialization time
-        final StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
-
-        // the batch size can be overridden by the request
-        final int resultIterationBatchSize = (Integer) msg.optionalArgs(Tokens.ARGS_BATCH_SIZE)
-                .orElse(settings.resultIterationBatchSize);
-        List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-
-        // use an external control to manage the loop as opposed to just checking hasNext() in the while.  this
-        // prevent situations where auto transactions create a new transaction after calls to commit() withing
-        // the loop on calls to hasNext().
-        boolean hasMore = itty.hasNext();
-
-        while (hasMore) {
-            if (Thread.interrupted()) throw new InterruptedException();
-
-            // check if an implementation needs to force flush the aggregated results before the iteration batch
-            // size is reached.
-            final boolean forceFlush = isForceFlushed(ctx, msg, itty);
-
-            // have to check the aggregate size because it is possible that the channel is not writeable (below)
-            // so iterating next() if the message is not written and flushed would bump the aggregate size beyond
-            // the expected resultIterationBatchSize.  Total serialization time for the response remains in
-            // effect so if the client is "slow" it may simply timeout.
-            //
-            // there is a need to check hasNext() on the iterator because if the channel is not writeable the
-            // previous pass through the while loop will have next()'d the iterator and if it is "done" then a
-            // NoSuchElementException will raise its head. also need a check to ensure that this iteration doesn't
-            // require a forced flush which can be forced by sub-classes.
-            //
-            // this could be placed inside the isWriteable() portion of the if-then below but it seems better to
-            // allow iteration to continue into a batch if that is possible rather than just doing nothing at all
-            // while waiting for the client to catch up
-            if (aggregate.size() < resultIterationBatchSize && itty.hasNext() && !forceFlush) aggregate.add(itty.next());
-
-            // send back a page of results if batch size is met or if it's the end of the results being iterated.
-            // also check writeability of the channel to prevent OOME for slow clients.
-            if (ctx.channel().isWritable()) {
-                if (forceFlush || aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
-                    final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
-
-                    // serialize here because in sessionless requests the serialization must occur in the same
-                    // thread as the eval.  as eval occurs in the GremlinExecutor there's no way to get back to the
-                    // thread that processed the eval of the script so, we have to push serialization down into that
-                    Frame frame = null;
-                    try {
-                        frame = makeFrame(ctx, msg, serializer, useBinary, aggregate, code, generateMetaData(ctx, msg, code, itty));
-                    } catch (Exception ex) {
-                        // a frame may use a Bytebuf which is a countable release - if it does not get written
-                        // downstream it needs to be released here
-                        if (frame != null) frame.tryRelease();
-
-                        // exception is handled in makeFrame() - serialization error gets written back to driver
-                        // at that point
-                        if (managedTransactionsForRequest) attemptRollback(msg, context.getGraphManager(), settings.strictTransactionManagement);
-                        break;
-                    }
+        private final StopWatch stopWatch = new StopWatch();
+        private List<Object> aggregate;
+        private int batchSize;
+        private long batchStartedAt;
+        private boolean warnOnce = false;
+        private long pausedAt = 0L;
+        private AtomicBoolean resumed;
+        private ScheduledFuture<?> pauseTimeout;
+
+        /**
+         * @param timeout the time in milliseconds that iterating the entire result may take, including time spent
+         *                paused, where zero or less means no limit
+         * @param onSuccess called when the last batch is serialized and about to be written
+         * @param onSerializationError called when a batch could not be serialized, which is reported to the
+         *                             client before the iteration stops
+         * @param onResumedError called with any exception raised by an iteration that was resumed after the
+         *                       worker thread was released, as it can no longer be thrown to the caller
+         */
+        public ResultIteration(final Context context, final Iterator itty, final long timeout,
+                               final Runnable onSuccess, final Runnable onSerializationError,
+                               final Consumer<Exception> onResumedError) {
+            this.context = context;
+            this.ctx = context.getChannelHandlerContext();
+            this.msg = context.getRequestMessage();
+            this.serializer = ctx.channel().attr(StateKey.SERIALIZER).get();
+            this.useBinary = ctx.channel().attr(StateKey.USE_BINARY).get();
+            this.itty = itty;
+            this.timeout = timeout;
+            this.onSuccess = onSuccess;
+            this.onSerializationError = onSerializationError;
+            this.onResumedError = onResumedError;
+
+            // the batch size can be overridden by the request in which case it also limits the batches sized by the
+            // byte budget, which may otherwise grow beyond the configured batch size
+            final Optional<Integer> requestedBatchSize = msg.optionalArgs(Tokens.ARGS_BATCH_SIZE);
+            this.resultIterationBatchSize = requestedBatchSize.orElse(context.getSettings().resultIterationBatchSize);
+            this.maxBatchSize = requestedBatchSize.orElse(Integer.MAX_VALUE);
+            this.resultIterationBatchBytes = context.getSettings().resultIterationBatchBytes;
+            this.resultIterationBatchTime = TimeUnit.MILLISECONDS.toNanos(context.getSettings().resultIterationBatchTime);
+
+            // with a byte budget nothing is known about the size of the results yet so the first one is sent alone
+            // to measure it, which also gets it to the client as soon as possible
+            this.batchSize = resultIterationBatchBytes > 0 ? 1 : resultIterationBatchSize;
+            this.aggregate = newAggregate();
+        }
 
-                    // track whether there is anything left in the iterator because it needs to be accessed after
-                    // the transaction could be closed - in that case a call to hasNext() could open a new transaction
-                    // unintentionally
-                    final boolean moreInIterator = itty.hasNext();
+        /**
+         * Iterates the result on the current thread until it is written entirely, fails or is paused with the
+         * worker thread released.
+         */
+        public void iterate() throws TimeoutException, InterruptedException {
+            stopWatch.start();
+            batchStartedAt = System.nanoTime();
+            iterateUntilDoneOrReleased();
+        }
 
-                    try {
-                        // only need to reset the aggregation list if there's more stuff to write
-                        if (moreInIterator)
-                            aggregate = new ArrayList<>(resultIterationBatchSize);
-                        else {
-                            // iteration and serialization are both complete which means this finished successfully. note that
-                            // errors internal to script eval or timeout will rollback given GremlinServer's global configurations.
-                            // local errors will get rolledback below because the exceptions aren't thrown in those cases to be
-                            // caught by the GremlinExecutor for global rollback logic. this only needs to be committed if
-                            // there are no more items to iterate and serialization is complete
-                            if (managedTransactionsForRequest)
-                                attemptCommit(msg, context.getGraphManager(), settings.strictTransactionManagement);
-
-                            // exit the result iteration loop as there are no more results left.  using this external control
-                            // because of the above commit.  some graphs may open a new transaction on the call to
-                            // hasNext()
-                            hasMore = false;
+        private void iterateUntilDoneOrReleased() throws TimeoutException, InterruptedException {
+            try {
+                iterateBatches();
+            } catch (Exception ex) {
+                if (pausedAt > 0L) endPause();
+                throw ex;
+            }
+        }
+
+        private void iterateBatches() throws TimeoutException, InterruptedException {
+            // use an external control to manage the loop as opposed to just checking hasNext() in the while.  this
+            // prevent situations where auto transactions create a new transaction after calls to commit() withing
+            // the loop on calls to hasNext().
+            boolean hasMore = itty.hasNext();
+
+            while (hasMore) {
+                if (Thread.interrupted()) throw new InterruptedException();
+
+                // check if an implementation needs to force flush the aggregated results before the iteration batch
+                // size is reached.
+                final boolean forceFlush = isForceFlushed(ctx, msg, itty);
+
+                // have to check the aggregate size because it is possible that the channel is not writeable (below)
+                // so iterating next() if the message is not written and flushed would bump the aggregate size beyond
+                // the expected resultIterationBatchSize.  Total serialization time for the response remains in
+                // effect so if the client is "slow" it may simply timeout.
+                //
+                // there is a need to check hasNext() on the iterator because if the channel is not writeable the
+                // previous pass through the while loop will have next()'d the iterator and if it is "done" then a
+                // NoSuchElementException will raise its head. also need a check to ensure that this iteration doesn't
+                // require a forced flush which can be forced by sub-classes.
+                //
+                // this could be placed inside the isWriteable() portion of the if-then below but it seems better to
+                // allow iteration to continue into a batch if that is possible rather than just doing nothing at all
+                // while waiting for the client to catch up
+                if (aggregate.size() < batchSize && itty.hasNext() && !forceFlush) aggregate.add(itty.next());
+
+                // send back a page of results if batch size is met or if it's the end of the results being iterated.
+                // also check writeability of the channel to prevent OOME for slow clients.
+                if (ctx.channel().isWritable()) {
+                    if (pausedAt > 0L) endPause();
+
+                    if (forceFlush || aggregate.size() >= batchSize || !itty.hasNext() || isBatchTimeExceeded()) {
+                        final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
+
+                        // serialize here because in sessionless requests the serialization must occur in the same
+                        // thread as the eval.  as eval occurs in the GremlinExecutor there's no way to get back to the
+                        // thread that processed the eval of the script so, we have to push serialization down into that
+                        Frame frame = null;
+                        try {
+                            frame = makeFrame(ctx, msg, serializer, useBinary, aggregate, code, generateMetaData(ctx, msg, code, itty));
+                        } catch (Exception ex) {
+                            // a frame may use a Bytebuf which is a countable release - if it does not get written
+                            // downstream it needs to be released here
+                            if (frame != null) frame.tryRelease();
+
+                            // exception is handled in makeFrame() - serialization error gets written back to driver
+                            // at that point
+                            onSerializationError.run();
+                            break;
                         }
-                    } catch (Exception ex) {
-                        // a frame may use a Bytebuf which is a countable release - if it does not get written
-                        // downstream it needs to be released here
-                        if (frame != null) frame.tryRelease();
-                        throw ex;
+
+                        // track whether there is anything left in the iterator because it needs to be accessed after
+                        // the transaction could be closed - in that case a call to hasNext() could open a new transaction
+                        // unintentionally
+                        final boolean moreInIterator = itty.hasNext();
+
+                        try {
+                            // only need to reset the aggregation list if there's more stuff to write
+                            if (moreInIterator) {
+                                if (resultIterationBatchBytes > 0) resizeBatch(frame);
+                                aggregate = newAggregate();
+                                batchStartedAt = System.nanoTime();
+                            } else {
+                                // iteration and serialization are both complete which means this finished successfully. note that
+                                // errors internal to script eval or timeout will rollback given GremlinServer's global configurations.
+                                // local errors will get rolledback below because the exceptions aren't thrown in those cases to be
+                                // caught by the GremlinExecutor for global rollback logic. this only needs to be committed if
+                                // there are no more items to iterate and serialization is complete
+                                onSuccess.run();
+
+                                // exit the result iteration loop as there are no more results left.  using this external control
+                                // because of the above commit.  some graphs may open a new transaction on the call to
+                                // hasNext()
+                                hasMore = false;
+                            }
+                        } catch (Exception ex) {
+                            // a frame may use a Bytebuf which is a countable release - if it does not get written
+                            // downstream it needs to be released here
+                            if (frame != null) frame.tryRelease();
+                            throw ex;
+                        }
+
+                        if (!moreInIterator) iterateComplete(ctx, msg, itty);
+
+                        // the flush is called after the commit has potentially occurred.  in this way, if a commit was
+                        // required then it will be 100% complete before the client receives it. the "frame" at this point
+                        // should have completely detached objects from the transaction (i.e. serialization has occurred)
+                        // so a new one should not be opened on the flush down the netty pipeline
+                        ctx.writeAndFlush(frame);
+                    }
+                } else {
+                    // don't keep triggering this warning over and over again for the same request
+                    if (!warnOnce) {
+                        logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
+                        warnOnce = true;
                     }
+                    if (pausedAt == 0L) startPause();
 
-                    if (!moreInIterator) iterateComplete(ctx, msg, itty);
+                    // a closed channel will never become writable again so there is no point in waiting for it
+                    if (!ctx.channel().isActive())
+                        throw new IllegalStateException(String.format("The channel was closed before the response to %s could be written", msg.getRequestId()));
 
-                    // the flush is called after the commit has potentially occurred.  in this way, if a commit was
-                    // required then it will be 100% complete before the client receives it. the "frame" at this point
-                    // should have completely detached objects from the transaction (i.e. serialization has occurred)
-                    // so a new one should not be opened on the flush down the netty pipeline
-                    ctx.writeAndFlush(frame);
-                }
-            } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
-                    warnOnce = true;
+                    // rather than holding the worker while the client catches up, give it back to the pool and resume
+                    // on a change in writability of the channel
+                    if (isReleasedWhilePaused(context)) {
+                        release();
+                        return;
+                    }
+
+                    // since the client is lagging we can hold here for a period of time for the client to catch up.
+                    // this isn't blocking the IO thread - just a worker.
+                    TimeUnit.MILLISECONDS.sleep(10);
                 }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
+                checkTimeout();
             }
 
+            stopWatch.stop();
+        }
+
+        private boolean isBatchTimeExceeded() {
+            return resultIterationBatchTime > 0 && !aggregate.isEmpty() && System.nanoTime() - batchStartedAt >= resultIterationBatchTime;
+        }
+
+        private List<Object> newAggregate() {
+            // a batch sized by the byte budget may be far larger than it ever gets filled, e.g. at the end of a result
+            return new ArrayList<>(Math.min(batchSize, resultIterationBatchSize));
+        }
+
+        /**
+         * Sizes the next batch so that it serializes to roughly {@link Settings#resultIterationBatchBytes} given the
+         * serialized size of the items in the batch that was just made into the {@link Frame}. The batch may grow
+         * beyond {@link Settings#resultIterationBatchSize} and is only limited by a batch size given on the request.
+         */
+        private void resizeBatch(final Frame frame) {
+            final Object serialized = frame.getMsg();
+            final long bytes = serialized instanceof ByteBuf ? ((ByteBuf) serialized).readableBytes() :
+                    serialized instanceof String ? utf8Length((String) serialized) : 0L;
+            if (bytes == 0L || aggregate.isEmpty()) return;
+
+            final long bytesPerItem = Math.max(1L, bytes / aggregate.size());
+            batchSize = (int) Math.max(1L, Math.min(maxBatchSize, resultIterationBatchBytes / bytesPerItem));
+        }
+
+        private void checkTimeout() throws TimeoutException {
             stopWatch.split();
-            if (settings.serializedResponseTimeout > 0 && stopWatch.getSplitTime() > settings.serializedResponseTimeout) {
+            if (timeout > 0 && stopWatch.getSplitTime() > timeout) {
                 final String timeoutMsg = String.format("Serialization of the entire response exceeded the 'serializeResponseTimeout' setting %s",
                         warnOnce ? "[Gremlin Server paused writes to client as messages were not being consumed quickly enough]" : "");
                 throw new TimeoutException(timeoutMsg.trim());
@@ -215,7 +399,74 @@ public abstract class AbstractOpProcessor implements OpProcessor {
             stopWatch.unsplit();
         }
 
-        stopWatch.stop();
+        private void startPause() {
+            pausedAt = System.nanoTime();
+            pausedIterationCounter.inc();
+        }
+
+        private void endPause() {
+            pausedIterationCounter.dec();
+            pausedIterationTimer.update(System.nanoTime() - pausedAt, TimeUnit.NANOSECONDS);
+            pausedAt = 0L;
+        }
+
+        /**
+         * Registers the iteration to be resumed when the channel becomes writable, when it closes or when the
+         * iteration times out, whichever comes first.
+         */
+        private void release() {
+            resumed = new AtomicBoolean(false);
+            final Queue<Runnable> pausedIterations = pausedIterations(ctx.channel());
+            pausedIterations.add(resumption);
+            if (timeout > 0) {
+                stopWatch.split();
+                final long remaining = Math.max(0L, timeout - stopWatch.getSplitTime());
+                stopWatch.unsplit();
+                pauseTimeout = context.getScheduledExecutorService().schedule(resumption, remaining + 1, TimeUnit.MILLISECONDS);
+            }
+
+            // the channel may have changed writability after it was last checked and before the iteration was
+            // registered, in which case no event will come to resume it
+            if (ctx.channel().isWritable() || !ctx.channel().isActive())
+                resume();
+        }
+
+        private void resume() {
+            // writability events, channel closing and the timeout may all try to resume a single pause
+            if (!resumed.compareAndSet(false, true))
+                return;
+
+            pausedIterations(ctx.channel()).remove(resumption);
+            if (pauseTimeout != null) pauseTimeout.cancel(false);
+            try {
+                context.getGremlinExecutor().getExecutorService().submit(() -> {
+                    try {
+                        // the iteration may have been resumed by its timeout
+                        checkTimeout();
+                        iterateUntilDoneOrReleased();
+                    } catch (Exception ex) {
+                        if (pausedAt > 0L) endPause();
+                        onResumedError.accept(ex);
+                    }
+                });
+            } catch (RejectedExecutionException ree) {
+                if (pausedAt > 0L) endPause();
+                onResumedError.accept(ree);
+            }
+        }
+    }
+
+    /**
+     * Gets the iterations that are paused until the channel becomes writable again.
+     */
+    public static Queue<Runnable> pausedIterations(final Channel channel) {
+        final Attribute<Queue<Runnable>> attribute = channel.attr(StateKey.PAUSED_ITERATIONS);
+        Queue<Runnable> pausedIterations = attribute.get();
+        if (null == pausedIterations) {
+            attribute.setIfAbsent(new ConcurrentLinkedQueue<>());
+            pausedIterations = attribute.get();
+        }
+        return pausedIterations;
     }
 
     /**
@@ -227,6 +478,26 @@ public abstract class AbstractOpProcessor implements OpProcessor {
         // do nothing by default
     }
 
+    /**
+     * Gets the number of bytes of a text frame as it is written to the client in UTF-8 without encoding it.
+     */
+    static long utf8Length(final String text) {
+        long bytes = 0L;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80)
+                bytes++;
+            else if (c < 0x800)
+                bytes += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else
+                bytes += 3;
+        }
+        return bytes;
+    }
+
     /**
      * Determines if a {@link Frame} should be force flushed outside of the {@code resultIterationBatchSize} and the
      * termination of the iterator. By default this method return {@code false}.
@@ -266,7 +537,7 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                 return new Frame(serializer.serializeResponseAsBinary(ResponseMessage.build(msg)
                         .code(code)
                         .responseMetaData(responseMetaData)
-                        .result(aggregate).create(), ctx.alloc()));
+                        .result(aggregate).create(), ctx.alloc()), msg.getRequestId(), code);
             } else {
                 // the expectation is that the GremlinTextRequestDecoder will have placed a MessageTextSerializer
                 // instance on the channel.
@@ -274,7 +545,7 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                 return new Frame(textSerializer.serializeResponseAsString(ResponseMessage.build(msg)
                         .code(code)
                         .responseMetaData(responseMetaData)
-                        .result(aggregate).create()));
+                        .result(aggregate).create()), msg.getRequestId(), code);
             }
         } catch (Exception ex) {
             logger.warn("The result [{}] in the request {} could not be serialized and returned.", aggregate, msg.getRequestId(), ex);
@@ -73,9 +73,12 @@ public class Session {
 
     /**
      * By binding the session to run ScriptEngine evaluations in a specific thread, each request will respect
-     * the ThreadLocal nature of Graph implementations.
+     * the ThreadLocal nature of Graph implementations. That thread is a virtual one when the server is configured
+     * to use virtual threads, so that idle sessions do not each hold a platform thread. As the thread lives as long
+     * as the session, it is not counted against {@link Settings#maxVirtualThreads}, which would otherwise leave new
+     * sessions waiting on idle ones to close.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(threadFactoryWorker);
+    private final ExecutorService executor;
 
     private final ConcurrentHashMap<String, Session> sessions;
 
@@ -87,6 +90,8 @@ public class Session {
         this.graphManager = context.getGraphManager();
         this.scheduledExecutorService = context.getScheduledExecutorService();
         this.sessions = sessions;
+        this.executor = Executors.newSingleThreadExecutor(settings.useVirtualThreads && ThreadFactoryUtil.supportsVirtualThreads() ?
+                ThreadFactoryUtil.createVirtual("session-") : threadFactoryWorker);
 
         final Settings.ProcessorSettings processorSettings = this.settings.optionalProcessor(SessionOpProcessor.class).
                 orElse(SessionOpProcessor.DEFAULT_SETTINGS);
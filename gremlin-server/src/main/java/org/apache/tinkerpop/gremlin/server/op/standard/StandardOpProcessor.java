@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
@@ -94,6 +95,19 @@ public class StandardOpProcessor extends AbstractEvalOpProcessor {
         // do nothing = no resources to release
     }
 
+    /**
+     * Sessionless requests may release their worker while paused as long as no graph has a transaction open on it.
+     */
+    @Override
+    protected boolean isReleasedWhilePaused(final Context context) {
+        final GraphManager graphManager = context.getGraphManager();
+        for (final Graph graph : graphManager.getGraphs().values()) {
+            if (graph.features().graph().supportsTransactions() && graph.tx().isOpen())
+                return false;
+        }
+        return true;
+    }
+
     private void evalOp(final Context context) throws OpProcessorException {
         if (logger.isDebugEnabled()) {
             final RequestMessage msg = context.getRequestMessage();
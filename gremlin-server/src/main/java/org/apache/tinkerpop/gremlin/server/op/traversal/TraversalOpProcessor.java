@@ -18,11 +18,11 @@
  */
 package org.apache.tinkerpop.gremlin.server.op.traversal;
 
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
@@ -32,15 +32,15 @@ import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CostBasedFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
-import org.apache.tinkerpop.gremlin.server.handler.Frame;
-import org.apache.tinkerpop.gremlin.server.handler.StateKey;
 import org.apache.tinkerpop.gremlin.server.op.AbstractOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
@@ -51,17 +51,16 @@ import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONVersion;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
+import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.script.Bindings;
 import javax.script.SimpleBindings;
 import java.lang.reflect.UndeclaredThrowableException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -82,6 +81,8 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
     private static final ObjectMapper mapper = GraphSONMapper.build().version(GraphSONVersion.V2_0).create().createMapper();
     public static final String OP_PROCESSOR_NAME = "traversal";
     public static final Timer traversalOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "traversal"));
+    public static final Meter traversalCacheHitMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "op", "traversal", "cache", "hits"));
+    public static final Meter traversalCacheMissMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "op", "traversal", "cache", "misses"));
 
     public static final Settings.ProcessorSettings DEFAULT_SETTINGS = new Settings.ProcessorSettings();
 
@@ -105,16 +106,37 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
      */
     public static final long DEFAULT_CACHE_MAX_SIZE = 1000;
 
+    /**
+     * Configuration setting for the maximum number of compiled traversals that will be cached for reuse by requests
+     * with the same {@link Bytecode}. Setting this value to zero disables the cache.
+     */
+    public static final String CONFIG_TRAVERSAL_CACHE_MAX_SIZE = "traversalCacheMaxSize";
+
+    /**
+     * Default size of the max size of the compiled traversal cache.
+     */
+    public static final long DEFAULT_TRAVERSAL_CACHE_MAX_SIZE = 1000;
+
     static {
         DEFAULT_SETTINGS.className = TraversalOpProcessor.class.getCanonicalName();
         DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
             put(CONFIG_CACHE_EXPIRATION_TIME, DEFAULT_CACHE_EXPIRATION_TIME);
             put(CONFIG_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE);
+            put(CONFIG_TRAVERSAL_CACHE_MAX_SIZE, DEFAULT_TRAVERSAL_CACHE_MAX_SIZE);
         }};
     }
 
     protected static Cache<UUID, TraversalSideEffects> cache = null;
 
+    /**
+     * Holds traversals that have had their strategies applied but have never been iterated, along with the version of
+     * the graph statistics they were compiled with. They are keyed by the {@link TraversalSource} they were spawned
+     * from and their {@link Bytecode} and are cloned for each request. Unlike the {@code CompilationCacheStrategy},
+     * which a {@link TraversalSource} may also be configured with, this cache also skips the translation of the
+     * bytecode and applies to every bytecode request without changes to the {@link TraversalSource}.
+     */
+    protected static Cache<Pair<TraversalSource, Bytecode>, Pair<Traversal.Admin<?, ?>, Long>> traversalCache = null;
+
     private static final Bindings EMPTY_BINDINGS = new SimpleBindings();
 
     public TraversalOpProcessor() {
@@ -146,6 +168,14 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
 
         logger.info("Initialized cache for {} with size {} and expiration time of {} ms",
                 TraversalOpProcessor.class.getSimpleName(), maxSize, expirationTime);
+
+        final long traversalCacheMaxSize = Long.parseLong(processorSettings.config.getOrDefault(
+                TraversalOpProcessor.CONFIG_TRAVERSAL_CACHE_MAX_SIZE, DEFAULT_TRAVERSAL_CACHE_MAX_SIZE).toString());
+        traversalCache = traversalCacheMaxSize > 0 ?
+                Caffeine.newBuilder().maximumSize(traversalCacheMaxSize).build() : null;
+
+        logger.info("Initialized compiled traversal cache for {} with size {}",
+                TraversalOpProcessor.class.getSimpleName(), traversalCacheMaxSize);
     }
 
     @Override
@@ -361,11 +391,18 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
 
         final Traversal.Admin<?, ?> traversal;
+        final Pair<TraversalSource, Bytecode> traversalCacheKey;
         try {
             final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
-            if (!lambdaLanguage.isPresent())
+            traversalCacheKey = !lambdaLanguage.isPresent() && isCacheable(bytecode) ? Pair.with(g, bytecode) : null;
+            final Traversal.Admin<?, ?> compiled = null == traversalCacheKey ? null : getCompiled(traversalCacheKey);
+            if (null != compiled) {
+                traversalCacheHitMeter.mark();
+                traversal = cloneCompiled(compiled);
+            } else if (!lambdaLanguage.isPresent()) {
+                if (null != traversalCacheKey) traversalCacheMissMeter.mark();
                 traversal = JavaTranslator.of(g).translate(bytecode);
-            else
+            } else
                 traversal = context.getGremlinExecutor().eval(bytecode, EMPTY_BINDINGS, lambdaLanguage.get(), traversalSourceName);
         } catch (Exception ex) {
             logger.error("Could not deserialize the Traversal instance", context);
@@ -384,28 +421,20 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                 beforeProcessing(graph, context);
 
                 try {
-                    // compile the traversal - without it getEndStep() has nothing in it
-                    traversal.applyStrategies();
+                    // compile the traversal - without it getEndStep() has nothing in it. traversals that came from
+                    // the cache are already compiled and a copy of a newly compiled one is kept for later requests
+                    if (!traversal.isLocked()) {
+                        // the statistics are read before the compilation so that a change while it runs makes the
+                        // cached copy out of date
+                        final long statisticsVersion = null == traversalCacheKey ?
+                                Graph.Statistics.UNKNOWN : CostBasedFilterStrategy.getStatisticsVersion(traversal);
+                        traversal.applyStrategies();
+                        if (Graph.Statistics.UNKNOWN != statisticsVersion)
+                            traversalCache.put(traversalCacheKey, Pair.with(cloneCompiled(traversal), statisticsVersion));
+                    }
                     handleIterator(context, new TraverserIterator(traversal), graph);
                 } catch (Exception ex) {
-                    Throwable t = ex;
-                    if (ex instanceof UndeclaredThrowableException)
-                        t = t.getCause();
-
-                    if (t instanceof InterruptedException || t instanceof TraversalInterruptedException) {
-                        final String errorMessage = String.format("A timeout occurred during traversal evaluation of [%s] - consider increasing the limit given to scriptEvaluationTimeout", msg);
-                        logger.warn(errorMessage);
-                        ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT)
-                                .statusMessage(errorMessage)
-                                .statusAttributeException(ex).create());
-                        onError(graph, context);
-                    } else {
-                        logger.warn(String.format("Exception processing a Traversal on iteration for request [%s].", msg.getRequestId()), ex);
-                        ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
-                                .statusMessage(ex.getMessage())
-                                .statusAttributeException(ex).create());
-                        onError(graph, context);
-                    }
+                    handleIterationError(context, graph, ex);
                 }
             } catch (Exception ex) {
                 logger.warn(String.format("Exception processing a Traversal on request [%s].", msg.getRequestId()), ex);
@@ -427,6 +456,50 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         }
     }
 
+    /**
+     * Determines if the {@link Bytecode} can share a compiled traversal with other requests. Source arguments like
+     * strategies, computers and side-effects may not be comparable by value or may be mutable, so only sources
+     * configured with simple values are cached.
+     */
+    private static boolean isCacheable(final Bytecode bytecode) {
+        if (null == traversalCache)
+            return false;
+        for (final Bytecode.Instruction instruction : bytecode.getSourceInstructions()) {
+            for (final Object argument : instruction.getArguments()) {
+                if (null != argument && !(argument instanceof String || argument instanceof Number ||
+                        argument instanceof Boolean || argument instanceof Enum || argument instanceof Class))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the compiled traversal cached for the key unless it was compiled with graph statistics that have changed
+     * since, in which case it is evicted.
+     */
+    private static Traversal.Admin<?, ?> getCompiled(final Pair<TraversalSource, Bytecode> key) {
+        final Pair<Traversal.Admin<?, ?>, Long> compiled = traversalCache.getIfPresent(key);
+        if (null == compiled)
+            return null;
+        if (compiled.getValue1() != CostBasedFilterStrategy.getStatisticsVersion(compiled.getValue0())) {
+            traversalCache.asMap().remove(key, compiled);
+            return null;
+        }
+        return compiled.getValue0();
+    }
+
+    /**
+     * Clones a compiled traversal so that the child traversals share the side-effects of the clone rather than each
+     * getting a copy of their own.
+     */
+    private static Traversal.Admin<?, ?> cloneCompiled(final Traversal.Admin<?, ?> compiled) {
+        final Traversal.Admin<?, ?> clone = compiled.clone();
+        final TraversalSideEffects sideEffects = clone.getSideEffects();
+        TraversalHelper.applyTraversalRecursively(t -> t.setSideEffects(sideEffects), clone);
+        return clone;
+    }
+
     @Override
     protected void iterateComplete(final ChannelHandlerContext ctx, final RequestMessage msg, final Iterator itty) {
         if (itty instanceof TraverserIterator) {
@@ -472,14 +545,14 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         return metaData;
     }
 
-    protected void handleIterator(final Context context, final Iterator itty, final Graph graph) throws InterruptedException {
+    /**
+     * Iterates a traversal result back to the client. The iteration may not be complete when this method returns if
+     * the client is slow to consume the results, in which case errors raised by the remainder of the iteration are
+     * reported to the client directly.
+     */
+    protected void handleIterator(final Context context, final Iterator itty, final Graph graph) throws InterruptedException, TimeoutException {
         final ChannelHandlerContext ctx = context.getChannelHandlerContext();
         final RequestMessage msg = context.getRequestMessage();
-        final Settings settings = context.getSettings();
-        final MessageSerializer serializer = ctx.channel().attr(StateKey.SERIALIZER).get();
-        final boolean useBinary = ctx.channel().attr(StateKey.USE_BINARY).get();
-        boolean warnOnce = false;
-
 
         // we have an empty iterator - happens on stuff like: g.V().iterate()
         if (!itty.hasNext()) {
@@ -492,104 +565,54 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
             return;
         }
 
-        // the batch size can be overridden by the request
-        final int resultIterationBatchSize = (Integer) msg.optionalArgs(Tokens.ARGS_BATCH_SIZE)
-                .orElse(settings.resultIterationBatchSize);
-        List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-
-        // use an external control to manage the loop as opposed to just checking hasNext() in the while.  this
-        // prevent situations where auto transactions create a new transaction after calls to commit() withing
-        // the loop on calls to hasNext().
-        boolean hasMore = itty.hasNext();
-
-        while (hasMore) {
-            if (Thread.interrupted()) throw new InterruptedException();
-
-            // check if an implementation needs to force flush the aggregated results before the iteration batch
-            // size is reached.
-            final boolean forceFlush = isForceFlushed(ctx, msg, itty);
-
-            // have to check the aggregate size because it is possible that the channel is not writeable (below)
-            // so iterating next() if the message is not written and flushed would bump the aggregate size beyond
-            // the expected resultIterationBatchSize.  Total serialization time for the response remains in
-            // effect so if the client is "slow" it may simply timeout.
-            //
-            // there is a need to check hasNext() on the iterator because if the channel is not writeable the
-            // previous pass through the while loop will have next()'d the iterator and if it is "done" then a
-            // NoSuchElementException will raise its head. also need a check to ensure that this iteration doesn't
-            // require a forced flush which can be forced by sub-classes.
-            //
-            // this could be placed inside the isWriteable() portion of the if-then below but it seems better to
-            // allow iteration to continue into a batch if that is possible rather than just doing nothing at all
-            // while waiting for the client to catch up
-            if (aggregate.size() < resultIterationBatchSize && itty.hasNext() && !forceFlush) aggregate.add(itty.next());
-
-            // send back a page of results if batch size is met or if it's the end of the results being iterated.
-            // also check writeability of the channel to prevent OOME for slow clients.
-            if (ctx.channel().isWritable()) {
-                if (forceFlush || aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
-                    final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
-
-                    // serialize here because in sessionless requests the serialization must occur in the same
-                    // thread as the eval.  as eval occurs in the GremlinExecutor there's no way to get back to the
-                    // thread that processed the eval of the script so, we have to push serialization down into that
-                    Frame frame = null;
-                    try {
-                        frame = makeFrame(ctx, msg, serializer, useBinary, aggregate, code, generateMetaData(ctx, msg, code, itty));
-                    } catch (Exception ex) {
-                        // a frame may use a Bytebuf which is a countable release - if it does not get written
-                        // downstream it needs to be released here
-                        if (frame != null) frame.tryRelease();
+        // the traversal can no longer be cancelled by the scriptEvaluationTimeout once the worker is released so the
+        // iteration needs to respect it on its own
+        final long seto = msg.getArgs().containsKey(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT) ?
+                Long.parseLong(msg.getArgs().get(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT).toString()) : context.getSettings().scriptEvaluationTimeout;
 
-                        // exception is handled in makeFrame() - serialization error gets written back to driver
-                        // at that point
-                        onError(graph, context);
-                        break;
-                    }
+        new ResultIteration(context, itty, seto,
+                () -> onTraversalSuccess(graph, context),
+                () -> onError(graph, context),
+                ex -> handleIterationError(context, graph, ex)).iterate();
+    }
 
-                    try {
-                        // only need to reset the aggregation list if there's more stuff to write
-                        if (itty.hasNext())
-                            aggregate = new ArrayList<>(resultIterationBatchSize);
-                        else {
-                            // iteration and serialization are both complete which means this finished successfully. note that
-                            // errors internal to script eval or timeout will rollback given GremlinServer's global configurations.
-                            // local errors will get rolledback below because the exceptions aren't thrown in those cases to be
-                            // caught by the GremlinExecutor for global rollback logic. this only needs to be committed if
-                            // there are no more items to iterate and serialization is complete
-                            onTraversalSuccess(graph, context);
-
-                            // exit the result iteration loop as there are no more results left.  using this external control
-                            // because of the above commit.  some graphs may open a new transaction on the call to
-                            // hasNext()
-                            hasMore = false;
-                        }
-                    } catch (Exception ex) {
-                        // a frame may use a Bytebuf which is a countable release - if it does not get written
-                        // downstream it needs to be released here
-                        if (frame != null) frame.tryRelease();
-                        throw ex;
-                    }
+    /**
+     * Resolves the {@link Graph} of the request and only allows the worker to be released if that graph has no
+     * transaction open on it.
+     */
+    @Override
+    protected boolean isReleasedWhilePaused(final Context context) {
+        final Optional<Map<String, String>> aliases = context.getRequestMessage().optionalArgs(Tokens.ARGS_ALIASES);
+        if (!aliases.isPresent() || aliases.get().isEmpty()) return false;
 
-                    if (!itty.hasNext()) iterateComplete(ctx, msg, itty);
+        final TraversalSource g = context.getGraphManager().getTraversalSource(aliases.get().values().iterator().next());
+        if (null == g) return false;
 
-                    // the flush is called after the commit has potentially occurred.  in this way, if a commit was
-                    // required then it will be 100% complete before the client receives it. the "frame" at this point
-                    // should have completely detached objects from the transaction (i.e. serialization has occurred)
-                    // so a new one should not be opened on the flush down the netty pipeline
-                    ctx.writeAndFlush(frame);
-                }
-            } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
-                    warnOnce = true;
-                }
+        final Graph graph = g.getGraph();
+        return !(graph.features().graph().supportsTransactions() && graph.tx().isOpen());
+    }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
-            }
+    private void handleIterationError(final Context context, final Graph graph, final Exception ex) {
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final RequestMessage msg = context.getRequestMessage();
+
+        Throwable t = ex;
+        if (ex instanceof UndeclaredThrowableException)
+            t = t.getCause();
+
+        if (t instanceof InterruptedException || t instanceof TraversalInterruptedException || t instanceof TimeoutException) {
+            final String errorMessage = String.format("A timeout occurred during traversal evaluation of [%s] - consider increasing the limit given to scriptEvaluationTimeout", msg);
+            logger.warn(errorMessage);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT)
+                    .statusMessage(errorMessage)
+                    .statusAttributeException(ex).create());
+            onError(graph, context);
+        } else {
+            logger.warn(String.format("Exception processing a Traversal on iteration for request [%s].", msg.getRequestId()), ex);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
+                    .statusMessage(ex.getMessage())
+                    .statusAttributeException(ex).create());
+            onError(graph, context);
         }
     }
 }
@@ -92,8 +92,16 @@ public class ServerGremlinExecutor {
         }
 
         if (null == gremlinExecutorService) {
-            final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
-            this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            if (settings.useVirtualThreads && ThreadFactoryUtil.supportsVirtualThreads()) {
+                logger.info("Gremlin evaluation will run on virtual threads with at most {} at once", settings.maxVirtualThreads);
+                this.gremlinExecutorService = new ThreadPerTaskExecutorService(
+                        ThreadFactoryUtil.createVirtual("exec-"), settings.maxVirtualThreads);
+            } else {
+                if (settings.useVirtualThreads)
+                    logger.warn("The useVirtualThreads setting is enabled but this JVM does not support virtual threads - using the gremlinPool instead");
+                final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
+                this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            }
         } else {
             this.gremlinExecutorService = gremlinExecutorService;
         }
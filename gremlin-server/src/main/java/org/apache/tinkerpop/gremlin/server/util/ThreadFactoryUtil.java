@@ -27,9 +27,44 @@ import java.util.concurrent.ThreadFactory;
  */
 public final class ThreadFactoryUtil {
     private static final String SERVER_THREAD_PREFIX = "gremlin-server-";
+    private static final boolean VIRTUAL_THREADS_SUPPORTED = probeVirtualThreads();
+
     private ThreadFactoryUtil() {}
 
     public static ThreadFactory create(final String pattern) {
         return new BasicThreadFactory.Builder().namingPattern(SERVER_THREAD_PREFIX + pattern).build();
     }
+
+    /**
+     * Creates a factory of virtual threads named with the prefix followed by a counter. Virtual threads are looked
+     * up reflectively as they are only available on newer JVMs.
+     *
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static ThreadFactory createVirtual(final String prefix) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Object named = builderClass.getMethod("name", String.class, long.class).invoke(builder, SERVER_THREAD_PREFIX + prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(named);
+        } catch (Exception ex) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM", ex);
+        }
+    }
+
+    /**
+     * Determines if the JVM supports virtual threads.
+     */
+    public static boolean supportsVirtualThreads() {
+        return VIRTUAL_THREADS_SUPPORTED;
+    }
+
+    private static boolean probeVirtualThreads() {
+        try {
+            createVirtual("probe-");
+            return true;
+        } catch (UnsupportedOperationException uoe) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@code ExecutorService} that starts a new thread for each task, which is meant for cheap virtual threads, while
+ * running no more than a maximum number of tasks at once. Tasks submitted beyond that maximum are queued rather than
+ * blocking the submitter, which may be a Netty event loop, and start as running tasks complete. As with a thread pool,
+ * cancelling the {@code Future} of a running task interrupts its thread.
+ */
+public final class ThreadPerTaskExecutorService extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final int maxConcurrency;
+    private final AtomicInteger available;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+    private final Object termination = new Object();
+    private volatile boolean shutdown = false;
+
+    public ThreadPerTaskExecutorService(final ThreadFactory threadFactory, final int maxConcurrency) {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+
+        this.threadFactory = threadFactory;
+        this.maxConcurrency = maxConcurrency;
+        this.available = new AtomicInteger(maxConcurrency);
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the number of tasks that are waiting for a running task to complete.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (shutdown)
+            throw new RejectedExecutionException("The executor has been shutdown");
+
+        pending.add(command);
+        startPending();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        final List<Runnable> notStarted = new ArrayList<>();
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            notStarted.add(task);
+        }
+        running.forEach(Thread::interrupt);
+        signalIfTerminated();
+        return notStarted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && pending.isEmpty() && available.get() == maxConcurrency;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (termination) {
+            while (!isTerminated()) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                TimeUnit.NANOSECONDS.timedWait(termination, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Starts pending tasks for as long as there are tasks waiting and fewer than the maximum are running. Called
+     * whenever a task is queued or completes, so a queued task is never left waiting while capacity is available.
+     */
+    private void startPending() {
+        while (!pending.isEmpty()) {
+            final int permits = available.get();
+            if (permits == 0) return;
+            if (!available.compareAndSet(permits, permits - 1)) continue;
+
+            final Runnable task = pending.poll();
+            if (null == task) {
+                // another thread took the last task after the check above
+                available.incrementAndGet();
+                continue;
+            }
+
+            final Thread thread;
+            try {
+                thread = threadFactory.newThread(() -> run(task));
+                running.add(thread);
+                thread.start();
+            } catch (RuntimeException | Error e) {
+                available.incrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private void run(final Runnable task) {
+        try {
+            task.run();
+        } finally {
+            running.remove(Thread.currentThread());
+            available.incrementAndGet();
+            signalIfTerminated();
+            startPending();
+        }
+    }
+
+    private void signalIfTerminated() {
+        if (isTerminated()) {
+            synchronized (termination) {
+                termination.notifyAll();
+            }
+        }
+    }
+}
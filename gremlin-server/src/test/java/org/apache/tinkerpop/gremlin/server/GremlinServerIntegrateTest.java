@@ -52,8 +52,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalPublisher;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.standard.StandardOpProcessor;
+import org.apache.tinkerpop.gremlin.server.op.traversal.TraversalOpProcessor;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -69,17 +71,21 @@ import org.junit.Test;
 import java.lang.reflect.Field;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -235,6 +241,13 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
             case "shouldTimeOutRemoteTraversal":
                 settings.scriptEvaluationTimeout = 500;
                 break;
+            case "shouldRejectRequestsBeyondAdmissionLimits":
+                final Settings.LaneSettings lane = new Settings.LaneSettings();
+                lane.name = "default";
+                lane.maxConcurrentRequests = 1;
+                lane.maxQueuedRequests = 1;
+                settings.admission.lanes = Collections.singletonList(lane);
+                break;
         }
 
         return settings;
@@ -308,6 +321,36 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         }
     }
 
+    @Test
+    public void shouldRejectRequestsBeyondAdmissionLimits() throws Exception {
+        // a single connection keeps the requests in the order they are submitted
+        final Cluster cluster = TestClientFactory.build().minConnectionPoolSize(1).maxConnectionPoolSize(1).create();
+        final Client client = cluster.connect();
+
+        try {
+            final ResultSet running = client.submit("Thread.sleep(1000);1");
+            final ResultSet queued = client.submit("2");
+            final ResultSet rejected = client.submit("3");
+
+            try {
+                rejected.all().get();
+                fail("The request should have been rejected as the lane was full");
+            } catch (Exception ex) {
+                final Throwable t = ex.getCause();
+                assertThat(t, instanceOf(ResponseException.class));
+                assertEquals(ResponseStatusCode.TOO_MANY_REQUESTS, ((ResponseException) t).getResponseStatusCode());
+            }
+
+            assertEquals(1, running.one().getInt());
+            assertEquals(2, queued.one().getInt());
+
+            // the lane has room again once the earlier requests complete
+            assertEquals(4, client.submit("4").one().getInt());
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldUseBaseScript() throws Exception {
         final Cluster cluster = TestClientFactory.open();
@@ -1148,6 +1191,62 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         assertEquals(3, g.V().promise(Traversal::toList).join().size());
     }
 
+    @Test
+    public void shouldPublishResultsOnDemandWithRemote() throws Exception {
+        final Graph graph = EmptyGraph.instance();
+        final GraphTraversalSource g = graph.traversal().withRemote(conf);
+        final List<Integer> results = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> completed = new CompletableFuture<>();
+        final AtomicReference<TraversalPublisher.Subscription> subscription = new AtomicReference<>();
+        g.inject(1, 2, 3, 4, 5).publish(2).subscribe(new TraversalPublisher.Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(final TraversalPublisher.Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(final Integer result) {
+                results.add(result);
+                if (results.size() == 3) completed.complete(null);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+
+        subscription.get().request(3);
+        completed.get(30, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(1, 2, 3), results);
+    }
+
+    @Test
+    public void shouldReuseCompiledTraversalForSameBytecode() throws Exception {
+        final Graph graph = EmptyGraph.instance();
+        final GraphTraversalSource g = graph.traversal().withRemote(conf);
+        g.addV("person").property("age", 20).iterate();
+        g.addV("person").property("age", 10).iterate();
+
+        final long hits = TraversalOpProcessor.traversalCacheHitMeter.getCount();
+        final long misses = TraversalOpProcessor.traversalCacheMissMeter.getCount();
+        for (int ix = 0; ix < 3; ix++) {
+            assertEquals(2, ((BulkSet) g.V().hasLabel("person").aggregate("a").cap("a").next()).size());
+            assertEquals(20, (int) g.V().has("age", 20).values("age").next());
+        }
+        assertEquals(hits + 4, TraversalOpProcessor.traversalCacheHitMeter.getCount());
+        assertEquals(misses + 2, TraversalOpProcessor.traversalCacheMissMeter.getCount());
+
+        // a different value makes for a different traversal
+        assertEquals(10, (int) g.V().has("age", 10).values("age").next());
+        assertEquals(misses + 3, TraversalOpProcessor.traversalCacheMissMeter.getCount());
+    }
+
     @Test
     public void shouldProvideBetterExceptionForMethodCodeTooLarge() {
         final int numberOfParameters = 4000;
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
+import org.apache.tinkerpop.gremlin.driver.handler.NioGremlinResponseDecoder;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.driver.ser.GraphSONMessageSerializerV3d0;
+import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV3d0;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class NioGremlinResponseFrameEncoderTest {
+
+    @Test
+    public void shouldRoundTripSmallAndLargeResponses() throws Exception {
+        final List<String> large = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            large.add("item-" + i);
+        }
+
+        for (MessageSerializer serializer : Arrays.asList(new GryoMessageSerializerV3d0(), new GraphSONMessageSerializerV3d0())) {
+            for (Object result : Arrays.asList(1, large)) {
+                final ResponseMessage response = ResponseMessage.build(UUID.randomUUID())
+                        .code(ResponseStatusCode.SUCCESS).result(result).create();
+                final ByteBuf serialized = serializer.serializeResponseAsBinary(response, PooledByteBufAllocator.DEFAULT);
+
+                final EmbeddedChannel server = new EmbeddedChannel(new NioGremlinResponseFrameEncoder());
+                server.writeOutbound(new Frame(serialized));
+
+                final EmbeddedChannel client = new EmbeddedChannel(new NioGremlinResponseDecoder(serializer));
+                client.writeInbound(server.readOutbound());
+
+                final ResponseMessage decoded = (ResponseMessage) client.readInbound();
+                assertEquals(response.getRequestId(), decoded.getRequestId());
+                assertEquals(result, decoded.getResult().getData());
+                assertNull(client.readInbound());
+
+                server.finish();
+                client.finish();
+            }
+        }
+    }
+}
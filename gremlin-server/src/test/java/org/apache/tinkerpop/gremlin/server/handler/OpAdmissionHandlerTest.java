@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.javatuples.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class OpAdmissionHandlerTest {
+
+    @Test
+    public void shouldQueueRequestsBeyondLimitUntilCompletion() {
+        final Settings.AdmissionSettings settings = createSettings(lane("default", 0, 8));
+        settings.maxConcurrentRequests = 1;
+        final EmbeddedChannel channel = new EmbeddedChannel(new OpAdmissionHandler(settings));
+
+        final RequestMessage first = request(null, "g");
+        final RequestMessage second = request(null, "g");
+        channel.writeInbound(Pair.with(first, null), Pair.with(second, null));
+        assertEquals(Collections.singletonList(first.getRequestId()), readRequestIds(channel));
+
+        // partial responses leave the request running
+        channel.writeOutbound(ResponseMessage.build(first).code(ResponseStatusCode.PARTIAL_CONTENT).create());
+        channel.runPendingTasks();
+        assertEquals(Collections.emptyList(), readRequestIds(channel));
+
+        channel.writeOutbound(new Frame("done", first.getRequestId(), ResponseStatusCode.SUCCESS));
+        channel.runPendingTasks();
+        assertEquals(Collections.singletonList(second.getRequestId()), readRequestIds(channel));
+        channel.finish();
+    }
+
+    @Test
+    public void shouldRejectRequestsWhenLaneIsFull() {
+        final Settings.AdmissionSettings settings = createSettings(lane("default", 1, 1));
+        final EmbeddedChannel channel = new EmbeddedChannel(new OpAdmissionHandler(settings));
+
+        final RequestMessage running = request(null, "g");
+        final RequestMessage queued = request(null, "g");
+        final RequestMessage rejected = request(null, "g");
+        channel.writeInbound(Pair.with(running, null), Pair.with(queued, null), Pair.with(rejected, null));
+        assertEquals(Collections.singletonList(running.getRequestId()), readRequestIds(channel));
+
+        final ResponseMessage response = (ResponseMessage) channel.readOutbound();
+        assertEquals(rejected.getRequestId(), response.getRequestId());
+        assertEquals(ResponseStatusCode.TOO_MANY_REQUESTS, response.getStatus().getCode());
+        assertNull(channel.readOutbound());
+
+        // errors complete a request just like success does
+        channel.writeOutbound(ResponseMessage.build(running).code(ResponseStatusCode.SERVER_ERROR).create());
+        channel.runPendingTasks();
+        assertEquals(Collections.singletonList(queued.getRequestId()), readRequestIds(channel));
+        channel.finish();
+    }
+
+    @Test
+    public void shouldStartRequestsFromHigherPriorityLanesFirst() {
+        final Settings.LaneSettings slow = lane("slow", 0, 8);
+        slow.aliases = Collections.singletonList("analytics");
+        final Settings.AdmissionSettings settings = createSettings(lane("fast", 0, 8), slow);
+        settings.maxConcurrentRequests = 1;
+        final EmbeddedChannel channel = new EmbeddedChannel(new OpAdmissionHandler(settings));
+
+        final RequestMessage running = request(null, "analytics");
+        final RequestMessage slowQueued = request(null, "analytics");
+        final RequestMessage fastQueued = request("fast", "analytics");
+        channel.writeInbound(Pair.with(running, null), Pair.with(slowQueued, null), Pair.with(fastQueued, null));
+        assertEquals(Collections.singletonList(running.getRequestId()), readRequestIds(channel));
+
+        channel.writeOutbound(ResponseMessage.build(running).code(ResponseStatusCode.NO_CONTENT).create());
+        channel.runPendingTasks();
+        assertEquals(Collections.singletonList(fastQueued.getRequestId()), readRequestIds(channel));
+
+        channel.writeOutbound(ResponseMessage.build(fastQueued).code(ResponseStatusCode.SUCCESS).create());
+        channel.runPendingTasks();
+        assertEquals(Collections.singletonList(slowQueued.getRequestId()), readRequestIds(channel));
+        channel.finish();
+    }
+
+    @Test
+    public void shouldLimitRequestsPerAlias() {
+        final Settings.AdmissionSettings settings = createSettings(lane("default", 0, 8));
+        settings.maxConcurrentRequestsPerAlias = 1;
+        final EmbeddedChannel channel = new EmbeddedChannel(new OpAdmissionHandler(settings));
+
+        final RequestMessage first = request(null, "g");
+        final RequestMessage second = request(null, "g");
+        final RequestMessage other = request(null, "h");
+        channel.writeInbound(Pair.with(first, null), Pair.with(second, null), Pair.with(other, null));
+        assertEquals(Arrays.asList(first.getRequestId(), other.getRequestId()), readRequestIds(channel));
+
+        channel.writeOutbound(ResponseMessage.build(first).code(ResponseStatusCode.SUCCESS).create());
+        channel.runPendingTasks();
+        assertEquals(Collections.singletonList(second.getRequestId()), readRequestIds(channel));
+        channel.finish();
+    }
+
+    @Test
+    public void shouldReleaseRequestsOfClosedChannel() {
+        final Settings.AdmissionSettings settings = createSettings(lane("default", 0, 8));
+        settings.maxConcurrentRequests = 1;
+        final OpAdmissionHandler handler = new OpAdmissionHandler(settings);
+        final EmbeddedChannel closing = new EmbeddedChannel(handler);
+        final EmbeddedChannel waiting = new EmbeddedChannel(handler);
+
+        final RequestMessage abandoned = request(null, "g");
+        final RequestMessage queued = request(null, "g");
+        closing.writeInbound(Pair.with(abandoned, null));
+        waiting.writeInbound(Pair.with(queued, null));
+        assertEquals(Collections.singletonList(abandoned.getRequestId()), readRequestIds(closing));
+        assertEquals(Collections.emptyList(), readRequestIds(waiting));
+
+        closing.close();
+        waiting.runPendingTasks();
+        assertEquals(Collections.singletonList(queued.getRequestId()), readRequestIds(waiting));
+        waiting.finish();
+    }
+
+    private static Settings.AdmissionSettings createSettings(final Settings.LaneSettings... lanes) {
+        final Settings.AdmissionSettings settings = new Settings.AdmissionSettings();
+        settings.lanes = Arrays.asList(lanes);
+        return settings;
+    }
+
+    private static Settings.LaneSettings lane(final String name, final int maxConcurrentRequests, final int maxQueuedRequests) {
+        final Settings.LaneSettings lane = new Settings.LaneSettings();
+        lane.name = name;
+        lane.maxConcurrentRequests = maxConcurrentRequests;
+        lane.maxQueuedRequests = maxQueuedRequests;
+        return lane;
+    }
+
+    private static RequestMessage request(final String lane, final String alias) {
+        final RequestMessage.Builder builder = RequestMessage.build(Tokens.OPS_EVAL)
+                .addArg(Tokens.ARGS_GREMLIN, "1+1")
+                .addArg(Tokens.ARGS_ALIASES, Collections.singletonMap("g", alias));
+        if (lane != null) builder.addArg(Tokens.ARGS_LANE, lane);
+        return builder.create();
+    }
+
+    private static List<UUID> readRequestIds(final EmbeddedChannel channel) {
+        final List<UUID> requestIds = new ArrayList<>();
+        Pair<RequestMessage, ?> pair;
+        while ((pair = (Pair<RequestMessage, ?>) channel.readInbound()) != null) {
+            requestIds.add(pair.getValue0().getRequestId());
+        }
+        return requestIds;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.driver.ser.GraphSONMessageSerializerV3d0;
+import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.Frame;
+import org.apache.tinkerpop.gremlin.server.handler.OpExecutorHandler;
+import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class AbstractOpProcessorTest {
+
+    private static final GraphSONMessageSerializerV3d0 serializer = new GraphSONMessageSerializerV3d0();
+
+    private final Settings settings = new Settings();
+    private ExecutorService executorService;
+    private ScheduledExecutorService scheduledExecutorService;
+    private GremlinExecutor gremlinExecutor;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        gremlinExecutor = GremlinExecutor.build()
+                .executorService(executorService)
+                .scheduledExecutorService(scheduledExecutorService).create();
+        channel = new EmbeddedChannel(new OpExecutorHandler(settings, null, gremlinExecutor, scheduledExecutorService));
+        channel.attr(StateKey.SERIALIZER).set(serializer);
+        channel.attr(StateKey.USE_BINARY).set(false);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        channel.finish();
+        gremlinExecutor.close();
+        executorService.shutdownNow();
+        scheduledExecutorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldResumeReleasedIterationWhenChannelBecomesWritable() throws Exception {
+        final long paused = AbstractOpProcessor.pausedIterationCounter.getCount();
+        final long pauses = AbstractOpProcessor.pausedIterationTimer.getCount();
+        final List<String> expected = IntStream.range(0, 10).mapToObj(String::valueOf).collect(Collectors.toList());
+
+        setWritable(false);
+        new ReleasingOpProcessor().handleIterator(createContext(2), expected.iterator());
+
+        // the worker returned without writing anything as the client has not caught up
+        assertNull(channel.readOutbound());
+        assertEquals(paused + 1, AbstractOpProcessor.pausedIterationCounter.getCount());
+        assertEquals(1, AbstractOpProcessor.pausedIterations(channel).size());
+
+        setWritable(true);
+        awaitWorker();
+
+        final List<ResponseMessage> responses = readResponses();
+        assertEquals(5, responses.size());
+        assertEquals(ResponseStatusCode.SUCCESS, responses.get(4).getStatus().getCode());
+        assertEquals(expected, responses.stream().flatMap(r -> ((List<String>) r.getResult().getData()).stream()).collect(Collectors.toList()));
+
+        assertEquals(paused, AbstractOpProcessor.pausedIterationCounter.getCount());
+        assertEquals(pauses + 1, AbstractOpProcessor.pausedIterationTimer.getCount());
+        assertThat(AbstractOpProcessor.pausedIterations(channel).isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldTimeoutReleasedIterationIfChannelDoesNotBecomeWritable() throws Exception {
+        final long paused = AbstractOpProcessor.pausedIterationCounter.getCount();
+        settings.serializedResponseTimeout = 100;
+
+        setWritable(false);
+        new ReleasingOpProcessor().handleIterator(createContext(2), infinite());
+
+        TimeUnit.MILLISECONDS.sleep(500);
+        awaitWorker();
+
+        final ResponseMessage response = (ResponseMessage) channel.readOutbound();
+        assertEquals(ResponseStatusCode.SERVER_ERROR_TIMEOUT, response.getStatus().getCode());
+        assertEquals(paused, AbstractOpProcessor.pausedIterationCounter.getCount());
+        assertThat(AbstractOpProcessor.pausedIterations(channel).isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldStopReleasedIterationWhenChannelCloses() throws Exception {
+        final long paused = AbstractOpProcessor.pausedIterationCounter.getCount();
+
+        setWritable(false);
+        new ReleasingOpProcessor().handleIterator(createContext(2), infinite());
+        assertEquals(paused + 1, AbstractOpProcessor.pausedIterationCounter.getCount());
+
+        channel.close();
+        awaitWorker();
+
+        assertEquals(paused, AbstractOpProcessor.pausedIterationCounter.getCount());
+        assertThat(AbstractOpProcessor.pausedIterations(channel).isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldSizeBatchesToByteBudget() throws Exception {
+        settings.resultIterationBatchBytes = 4096;
+        final String fatty = IntStream.range(0, 300).mapToObj(String::valueOf).collect(Collectors.joining());
+        final List<String> expected = IntStream.range(0, 100).mapToObj(i -> fatty).collect(Collectors.toList());
+
+        new ReleasingOpProcessor().handleIterator(createContext(64), expected.iterator());
+
+        final List<ResponseMessage> responses = readResponses();
+        final List<Integer> sizes = responses.stream().map(r -> ((List<String>) r.getResult().getData()).size()).collect(Collectors.toList());
+
+        // the first result is sent alone and the rest in batches of roughly 4096 bytes
+        assertEquals(1, (int) sizes.get(0));
+        assertThat(sizes.subList(1, sizes.size() - 1).stream().allMatch(s -> s > 1 && s < 10), is(true));
+        assertEquals(100, sizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(ResponseStatusCode.SUCCESS, responses.get(responses.size() - 1).getStatus().getCode());
+    }
+
+    @Test
+    public void shouldNotExceedBatchSizeWithByteBudget() throws Exception {
+        settings.resultIterationBatchBytes = 1000000;
+        final List<String> expected = IntStream.range(0, 100).mapToObj(String::valueOf).collect(Collectors.toList());
+
+        new ReleasingOpProcessor().handleIterator(createContext(16), expected.iterator());
+
+        final List<Integer> sizes = readResponses().stream().map(r -> ((List<String>) r.getResult().getData()).size()).collect(Collectors.toList());
+        assertEquals(Arrays.asList(1, 16, 16, 16, 16, 16, 16, 3), sizes);
+    }
+
+    @Test
+    public void shouldGrowBatchesBeyondResultIterationBatchSizeWithByteBudget() throws Exception {
+        settings.resultIterationBatchBytes = 1000000;
+        final List<String> expected = IntStream.range(0, 200).mapToObj(String::valueOf).collect(Collectors.toList());
+
+        new ReleasingOpProcessor().handleIterator(createContext(), expected.iterator());
+
+        final List<Integer> sizes = readResponses().stream().map(r -> ((List<String>) r.getResult().getData()).size()).collect(Collectors.toList());
+        assertEquals(Arrays.asList(1, 199), sizes);
+    }
+
+    @Test
+    public void shouldSizeBatchesToByteBudgetInUtf8() throws Exception {
+        settings.resultIterationBatchBytes = 6000;
+        // each character takes two bytes in UTF-8 so batches sized by the number of characters would be twice as large
+        final String fatty = IntStream.range(0, 300).mapToObj(i -> "\u00e9").collect(Collectors.joining());
+        final List<String> expected = IntStream.range(0, 100).mapToObj(i -> fatty).collect(Collectors.toList());
+
+        new ReleasingOpProcessor().handleIterator(createContext(), expected.iterator());
+
+        final List<Integer> sizes = readResponses().stream().map(r -> ((List<String>) r.getResult().getData()).size()).collect(Collectors.toList());
+        assertThat(sizes.stream().allMatch(s -> s <= 10), is(true));
+        assertEquals(100, sizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void shouldCountUtf8Length() {
+        assertEquals(0L, AbstractOpProcessor.utf8Length(""));
+        assertEquals(3L, AbstractOpProcessor.utf8Length("abc"));
+        assertEquals(2L, AbstractOpProcessor.utf8Length("\u00e9"));
+        assertEquals(3L, AbstractOpProcessor.utf8Length("\u20ac"));
+        assertEquals(4L, AbstractOpProcessor.utf8Length("\ud83d\ude00"));
+        for (final String text : Arrays.asList("gremlin", "gr\u00e9mlin \u20ac \ud83d\ude00")) {
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, AbstractOpProcessor.utf8Length(text));
+        }
+    }
+
+    @Test
+    public void shouldFlushBatchAfterBatchTime() throws Exception {
+        settings.resultIterationBatchTime = 50;
+        final Iterator<String> slow = IntStream.range(0, 10).mapToObj(i -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+            } catch (InterruptedException ie) {
+                throw new RuntimeException(ie);
+            }
+            return String.valueOf(i);
+        }).iterator();
+
+        new ReleasingOpProcessor().handleIterator(createContext(64), slow);
+
+        final List<ResponseMessage> responses = readResponses();
+        assertThat(responses.size() > 1, is(true));
+        assertEquals(ResponseStatusCode.PARTIAL_CONTENT, responses.get(0).getStatus().getCode());
+        assertEquals(10, responses.stream().mapToInt(r -> ((List<String>) r.getResult().getData()).size()).sum());
+    }
+
+    private Context createContext() {
+        final RequestMessage msg = RequestMessage.build(Tokens.OPS_EVAL).create();
+        return new Context(msg, channel.pipeline().firstContext(), settings, null, gremlinExecutor, scheduledExecutorService);
+    }
+
+    private Context createContext(final int batchSize) {
+        final RequestMessage msg = RequestMessage.build(Tokens.OPS_EVAL).addArg(Tokens.ARGS_BATCH_SIZE, batchSize).create();
+        return new Context(msg, channel.pipeline().firstContext(), settings, null, gremlinExecutor, scheduledExecutorService);
+    }
+
+    private void setWritable(final boolean writable) {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+        channel.runPendingTasks();
+    }
+
+    /**
+     * Waits for anything submitted to the single worker to complete.
+     */
+    private void awaitWorker() throws Exception {
+        executorService.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    }
+
+    private List<ResponseMessage> readResponses() throws Exception {
+        final List<ResponseMessage> responses = new ArrayList<>();
+        Object o;
+        while ((o = channel.readOutbound()) != null) {
+            responses.add(serializer.deserializeResponse((String) ((Frame) o).getMsg()));
+        }
+        return responses;
+    }
+
+    private static Iterator<String> infinite() {
+        return IntStream.iterate(0, i -> i + 1).mapToObj(String::valueOf).iterator();
+    }
+
+    private static class ReleasingOpProcessor extends AbstractOpProcessor {
+
+        ReleasingOpProcessor() {
+            super(false);
+        }
+
+        @Override
+        protected boolean isReleasedWhilePaused(final Context context) {
+            return true;
+        }
+
+        @Override
+        public String getName() {
+            return "releasing";
+        }
+
+        @Override
+        public ThrowingConsumer<Context> select(final Context ctx) {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
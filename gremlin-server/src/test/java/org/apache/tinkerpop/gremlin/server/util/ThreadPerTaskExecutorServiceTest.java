@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ThreadPerTaskExecutorServiceTest {
+
+    @Test
+    public void shouldLimitConcurrentTasks() throws Exception {
+        final ThreadPerTaskExecutorService executor = new ThreadPerTaskExecutorService(ThreadFactoryUtil.create("test-%d"), 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger(0);
+        final AtomicInteger maxRunning = new AtomicInteger(0);
+        final AtomicInteger completed = new AtomicInteger(0);
+        try {
+            for (int i = 0; i < 10; i++) {
+                executor.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    release.await();
+                    running.decrementAndGet();
+                    return completed.incrementAndGet();
+                });
+            }
+
+            assertEquals(8, executor.getPendingCount());
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(10, completed.get());
+            assertEquals(2, maxRunning.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldInterruptOnCancel() throws Exception {
+        final ThreadPerTaskExecutorService executor = new ThreadPerTaskExecutorService(ThreadFactoryUtil.create("test-%d"), 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            final Future<?> f = executor.submit(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(60000);
+                } catch (InterruptedException ie) {
+                    interrupted.countDown();
+                }
+            });
+
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            f.cancel(true);
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+            // the permit of the cancelled task is returned so the next task runs
+            assertEquals(1, (int) executor.submit(() -> 1).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReturnPendingTasksOnShutdownNow() throws Exception {
+        final ThreadPerTaskExecutorService executor = new ThreadPerTaskExecutorService(ThreadFactoryUtil.create("test-%d"), 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            Thread.sleep(60000);
+            return null;
+        });
+        executor.submit(() -> 1);
+        executor.submit(() -> 2);
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        final List<Runnable> pending = executor.shutdownNow();
+        assertEquals(2, pending.size());
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void shouldRejectAfterShutdown() {
+        final ThreadPerTaskExecutorService executor = new ThreadPerTaskExecutorService(ThreadFactoryUtil.create("test-%d"), 1);
+        executor.shutdown();
+        assertTrue(executor.isTerminated());
+        executor.submit(() -> 1);
+    }
+
+    @Test
+    public void shouldFallBackWhenVirtualThreadsAreNotSupported() {
+        // virtual threads are only found on newer JVMs so the factory is either created or fails cleanly
+        try {
+            ThreadFactoryUtil.createVirtual("test-");
+            assertTrue(ThreadFactoryUtil.supportsVirtualThreads());
+        } catch (UnsupportedOperationException uoe) {
+            assertFalse(ThreadFactoryUtil.supportsVirtualThreads());
+        }
+    }
+}
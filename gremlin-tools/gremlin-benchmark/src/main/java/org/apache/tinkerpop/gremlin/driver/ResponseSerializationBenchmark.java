@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.driver.ser.GraphSONMessageSerializerV3d0;
+import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV3d0;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * {@code ResponseSerializationBenchmark} measures the throughput of serializing a batch of results into the pooled
+ * direct buffers that Gremlin Server writes to the network, for batches of small values and of vertices.
+ */
+@State(Scope.Thread)
+public class ResponseSerializationBenchmark extends AbstractBenchmarkBase {
+
+    @Param({"64", "4096"})
+    public int batchSize;
+
+    private static final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    private static final MessageSerializer gryo = new GryoMessageSerializerV3d0();
+    private static final MessageSerializer graphson = new GraphSONMessageSerializerV3d0();
+
+    private ResponseMessage integers;
+    private ResponseMessage vertices;
+
+    @Setup
+    public void prepare() {
+        final UUID requestId = UUID.randomUUID();
+        integers = ResponseMessage.build(requestId).code(ResponseStatusCode.PARTIAL_CONTENT)
+                .result(IntStream.range(0, batchSize).boxed().collect(Collectors.toList())).create();
+
+        final TinkerGraph graph = TinkerGraph.open();
+        final List<Vertex> detached = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final Vertex v = graph.addVertex(T.label, "person", "name", "name" + i, "age", i, "bio", "some text about person " + i);
+            detached.add(DetachedFactory.detach(v, true));
+        }
+        vertices = ResponseMessage.build(requestId).code(ResponseStatusCode.PARTIAL_CONTENT).result(detached).create();
+    }
+
+    @Benchmark
+    public int gryoV3d0_integers() throws Exception {
+        return serialize(gryo, integers);
+    }
+
+    @Benchmark
+    public int gryoV3d0_vertices() throws Exception {
+        return serialize(gryo, vertices);
+    }
+
+    @Benchmark
+    public int graphsonV3d0_integers() throws Exception {
+        return serialize(graphson, integers);
+    }
+
+    @Benchmark
+    public int graphsonV3d0_vertices() throws Exception {
+        return serialize(graphson, vertices);
+    }
+
+    private static int serialize(final MessageSerializer serializer, final ResponseMessage responseMessage) throws Exception {
+        final ByteBuf bb = serializer.serializeResponseAsBinary(responseMessage, allocator);
+        try {
+            return bb.readableBytes();
+        } finally {
+            bb.release();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.jsr223;
+
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code JavaTranslatorBenchmark} measures the cost of turning {@link Bytecode} back into a {@link Traversal} with
+ * the {@link JavaTranslator}, which is paid for every traversal request that Gremlin Server receives.
+ */
+@State(Scope.Thread)
+public class JavaTranslatorBenchmark extends AbstractBenchmarkBase {
+
+    private GraphTraversalSource g;
+    private Bytecode shortBytecode;
+    private Bytecode nestedBytecode;
+    private Bytecode longBytecode;
+
+    @Setup
+    public void prepare() {
+        g = EmptyGraph.instance().traversal();
+        shortBytecode = g.V(1).out("knows").values("name").asAdmin().getBytecode();
+        nestedBytecode = g.V().has("person", "age", P.gt(30)).
+                where(__.out("created").count().is(P.gte(2))).
+                repeat(__.both().simplePath()).times(2).
+                project("name", "degree").by("name").by(__.bothE().count()).asAdmin().getBytecode();
+        longBytecode = g.withSack(1.0d).V().hasLabel("person").as("a").
+                outE("knows").has("weight", P.between(0.1d, 0.9d)).inV().as("b").
+                sack(Operator.mult).by("weight").
+                select("a", "b").by("name").dedup().order().by(__.select("a")).range(0, 10).
+                fold().unfold().limit(5).asAdmin().getBytecode();
+    }
+
+    @Benchmark
+    public Traversal.Admin<?, ?> g_V_1_out_knows_values_name() {
+        return JavaTranslator.of(g).translate(shortBytecode);
+    }
+
+    @Benchmark
+    public Traversal.Admin<?, ?> g_V_has_where_repeat_project() {
+        return JavaTranslator.of(g).translate(nestedBytecode);
+    }
+
+    @Benchmark
+    public Traversal.Admin<?, ?> g_withSack_V_outE_inV_sack_select_order_range() {
+        return JavaTranslator.of(g).translate(longBytecode);
+    }
+}
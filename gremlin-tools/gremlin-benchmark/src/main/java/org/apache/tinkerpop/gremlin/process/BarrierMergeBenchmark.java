@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * {@code BarrierMergeBenchmark} measures the cost of merging objects into the {@link BulkSet} and the
+ * {@link TraverserSet} that back barrier steps like {@code fold()}, {@code dedup()} and {@code order()}.
+ */
+@State(Scope.Thread)
+public class BarrierMergeBenchmark extends AbstractBenchmarkBase {
+
+    @Param({"10", "10000"})
+    public int distinct;
+
+    private static final int ELEMENT_COUNT = 100000;
+
+    private Integer[] objects;
+
+    @Setup
+    public void prepare() {
+        final Random random = new Random(1234567890L);
+        objects = new Integer[ELEMENT_COUNT];
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            objects[i] = random.nextInt(distinct);
+        }
+    }
+
+    @Benchmark
+    public BulkSet<Integer> bulkSet_add() {
+        final BulkSet<Integer> bulkSet = new BulkSet<>();
+        for (final Integer object : objects) {
+            bulkSet.add(object, 1L);
+        }
+        return bulkSet;
+    }
+
+    @Benchmark
+    public TraverserSet<Integer> traverserSet_add() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (final Integer object : objects) {
+            traverserSet.add(new B_O_Traverser<>(object, 1L));
+        }
+        return traverserSet;
+    }
+
+    @Benchmark
+    public long traverserSet_addAndDrain() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (final Integer object : objects) {
+            traverserSet.add(new B_O_Traverser<>(object, 1L));
+        }
+        long bulk = 0L;
+        while (!traverserSet.isEmpty()) {
+            bulk = bulk + traverserSet.remove().bulk();
+        }
+        return bulk;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.BatchingStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+
+/**
+ * {@code BatchingBenchmark} compares traversals with and without the {@link BatchingStrategy} against a
+ * {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph} loaded with the Grateful Dead data set. A
+ * batch size of zero runs the traversals without the strategy.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class BatchingBenchmark extends AbstractGraphBenchmark {
+
+    @Param({"0", "1024"})
+    public int batchSize;
+
+    private GraphTraversalSource batchingG;
+
+    @Setup
+    public void prepareTraversalSource() throws IOException {
+        batchingG = 0 == batchSize ? g : g.withStrategies(BatchingStrategy.build().batchSize(batchSize).create());
+    }
+
+    @Benchmark
+    public long g_V_out_out_count() {
+        return batchingG.V().out().out().count().next();
+    }
+
+    @Benchmark
+    public long g_V_outE_inV_hasXperformances_gt_10X_count() {
+        return batchingG.V().outE().inV().has("performances", gt(10)).count().next();
+    }
+
+    @Benchmark
+    public List<Object> g_V_out_id() {
+        return batchingG.V().out().id().toList();
+    }
+
+    @Benchmark
+    public List<Object> g_V_out_valuesXnameX() {
+        return batchingG.V().out().values("name").toList();
+    }
+}
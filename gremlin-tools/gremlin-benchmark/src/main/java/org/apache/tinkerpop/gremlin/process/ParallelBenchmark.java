@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ParallelStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code ParallelBenchmark} compares traversals with and without the {@link ParallelStrategy} against a
+ * {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph} loaded with the Grateful Dead data set. A
+ * parallelism of one runs the traversals without the strategy.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class ParallelBenchmark extends AbstractGraphBenchmark {
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private GraphTraversalSource parallelG;
+
+    @Setup
+    public void prepareTraversalSource() throws IOException {
+        parallelG = 1 == parallelism ? g : g.withStrategies(ParallelStrategy.build().parallelism(parallelism).create());
+    }
+
+    @Benchmark
+    public long g_V_out_out_count() {
+        return parallelG.V().out().out().count().next();
+    }
+
+    @Benchmark
+    public Map<Object, Long> g_V_out_out_groupCount_byXnameX() {
+        return parallelG.V().out().out().<Object>groupCount().by("name").next();
+    }
+
+    @Benchmark
+    public List<Object> g_V_both_both_order_byXnameX_valuesXnameX() {
+        return parallelG.V().both().both().order().by("name").values("name").toList();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.CompilationCacheStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@code StrategyApplicationBenchmark} measures how long it takes to apply the strategies to traversals with many
+ * nested {@code union()}, {@code choose()} and {@code coalesce()} branches against a
+ * {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph} loaded with the "modern" data set, with and
+ * without the {@link CompilationCacheStrategy}, as well as the cost of adding a strategy to a traversal source.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+public class StrategyApplicationBenchmark extends AbstractGraphBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private GraphTraversalSource compilingG;
+
+    @Setup
+    public void prepareTraversalSource() throws IOException {
+        compilingG = cached ? g.withStrategies(CompilationCacheStrategy.build().create()) : g;
+    }
+
+    @Benchmark
+    public Traversal<?, ?> g_V_union_choose_coalesce_applyStrategies() {
+        final Traversal.Admin<?, ?> traversal = nestedBranches(compilingG).asAdmin();
+        traversal.applyStrategies();
+        return traversal;
+    }
+
+    @Benchmark
+    public Traversal<?, ?> g_V_union_union_union_applyStrategies() {
+        final Traversal.Admin<?, ?> traversal = compilingG.V().union(
+                __.union(__.out("knows"), __.out("created")).union(__.in(), __.identity()).values("name"),
+                __.union(__.outE().inV(), __.inE().outV()).union(__.out(), __.in()).values("name"),
+                __.union(__.both().both(), __.both()).dedup().values("name")).asAdmin();
+        traversal.applyStrategies();
+        return traversal;
+    }
+
+    @Benchmark
+    public List<Object> g_V_union_choose_coalesce_toList() {
+        return nestedBranches(compilingG).toList();
+    }
+
+    @Benchmark
+    public GraphTraversalSource g_withStrategies() {
+        return compilingG.withStrategies(ReadOnlyStrategy.instance());
+    }
+
+    private static Traversal<?, Object> nestedBranches(final GraphTraversalSource g) {
+        final Traversal[] branches = {
+                __.out("knows").has("age", 29).values("name"),
+                __.choose(__.has("age"), __.values("age"), __.constant(0)),
+                __.coalesce(__.outE("created").inV(), __.identity()).values("name"),
+                __.repeat(__.out()).times(2).select("a").values("name"),
+                __.local(__.both().count()),
+                __.optional(__.in().where(__.out().count().is(1))).id(),
+                __.choose(__.values("name")).option("marko", __.out().count()).option("josh", __.in().count()),
+                __.coalesce(__.values("lang"), __.values("age"), __.constant("none"))};
+        return g.V().hasLabel("person").as("a").union(branches).dedup().limit(10);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.TraverserRecyclingStrategy;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@code TraverserRecyclingBenchmark} compares traversals with and without the {@link TraverserRecyclingStrategy}
+ * against a {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph} loaded with the Grateful Dead data
+ * set. Run it with {@code -prof gc} to see the difference in allocation rate.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class TraverserRecyclingBenchmark extends AbstractGraphBenchmark {
+
+    @Param({"false", "true"})
+    public boolean recycle;
+
+    private GraphTraversalSource recyclingG;
+
+    @Setup
+    public void prepareTraversalSource() throws IOException {
+        recyclingG = recycle ? g.withStrategies(TraverserRecyclingStrategy.instance()) : g;
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_out() {
+        return recyclingG.V().out().out().out().toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_outE_inV_outE_inV() {
+        return recyclingG.V().outE().inV().outE().inV().toList();
+    }
+
+    @Benchmark
+    public long g_V_out_out_id_count() {
+        return recyclingG.V().out().out().id().count().next();
+    }
+
+    @Benchmark
+    public List<Object> g_V_out_valuesXnameX() {
+        return recyclingG.V().out().values("name").toList();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@code TinkerGraphAdjacencyBenchmark} compares the {@link TinkerGraph.AdjacencyStorage} options for adjacency
+ * traversal throughput over a randomly generated graph.
+ */
+@State(Scope.Thread)
+public class TinkerGraphAdjacencyBenchmark extends AbstractBenchmarkBase {
+
+    private static final String[] LABELS = new String[]{"knows", "likes", "follows"};
+
+    @Param({"HASH", "COMPACT"})
+    public String adjacencyStorage;
+
+    @Param({"10000"})
+    public int vertexCount;
+
+    @Param({"20"})
+    public int edgesPerVertex;
+
+    private GraphTraversalSource g;
+
+    @Setup
+    public void prepare() {
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty(Graph.GRAPH, TinkerGraph.class.getName());
+        configuration.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_ADJACENCY_STORAGE, adjacencyStorage);
+
+        final TinkerGraph graph = TinkerGraph.open(configuration);
+        final List<Vertex> vertices = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(graph.addVertex(T.label, "person", "name", "name" + i));
+        }
+
+        final Random random = new Random(123456789L);
+        for (final Vertex vertex : vertices) {
+            for (int i = 0; i < edgesPerVertex; i++) {
+                vertex.addEdge(LABELS[random.nextInt(LABELS.length)], vertices.get(random.nextInt(vertexCount)));
+            }
+        }
+        g = graph.traversal();
+    }
+
+    @Benchmark
+    public long g_V_out_count() {
+        return g.V().out().count().next();
+    }
+
+    @Benchmark
+    public long g_V_in_count() {
+        return g.V().in().count().next();
+    }
+
+    @Benchmark
+    public long g_V_both_count() {
+        return g.V().both().count().next();
+    }
+
+    @Benchmark
+    public long g_V_outXknowsX_count() {
+        return g.V().out("knows").count().next();
+    }
+
+    @Benchmark
+    public long g_V_outE_inV_count() {
+        return g.V().outE().inV().count().next();
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -51,10 +52,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 /**
@@ -78,7 +84,11 @@ public final class Neo4jGraph implements Graph, WrappedGraph<Neo4jGraphAPI> {
         this.setProperty(Graph.GRAPH, Neo4jGraph.class.getName());
     }};
 
+    // the description of a single key schema index as listed by db.indexes()
+    private static final Pattern INDEX_DESCRIPTION = Pattern.compile("INDEX ON :(.+)\\(([^,]+)\\)");
+
     protected Features features = new Neo4jGraphFeatures();
+    protected Statistics statistics = new Neo4jGraphStatistics();
 
     protected Neo4jGraphAPI baseGraph;
     protected BaseConfiguration configuration = new BaseConfiguration();
@@ -282,6 +292,15 @@ public final class Neo4jGraph implements Graph, WrappedGraph<Neo4jGraphAPI> {
         return features;
     }
 
+    /**
+     * Return Neo4j statistics which are answered by Cypher count queries that Neo4j serves from its count store, and
+     * by its schema indices.
+     */
+    @Override
+    public Statistics statistics() {
+        return statistics;
+    }
+
     @Override
     public Neo4jGraphAPI getBaseGraph() {
         return this.baseGraph;
@@ -352,6 +371,63 @@ public final class Neo4jGraph implements Graph, WrappedGraph<Neo4jGraphAPI> {
         }
     }
 
+    public class Neo4jGraphStatistics implements Statistics {
+
+        protected Neo4jGraphStatistics() {
+        }
+
+        @Override
+        public long count(final Class<? extends Element> elementClass, final String label) {
+            final boolean vertices = Vertex.class.isAssignableFrom(elementClass);
+            final long count = vertices ?
+                    this.execute("MATCH (n" + this.label(label) + ") RETURN count(n) AS count") :
+                    this.execute("MATCH ()-[r" + this.label(label) + "]->() RETURN count(r) AS count");
+            // with multi/meta-properties every vertex property is held by a node which is attached by a relationship
+            if (null == label && trait instanceof MultiMetaNeo4jTrait && count > 0L)
+                return count - this.execute("MATCH (n" + this.label(MultiMetaNeo4jTrait.VERTEX_PROPERTY_LABEL) + ") RETURN count(n) AS count");
+            return count;
+        }
+
+        @Override
+        public boolean isIndexed(final Class<? extends Element> elementClass, final String label, final String key) {
+            // schema indices belong to a label and only exist for nodes
+            if (null == label || !Vertex.class.isAssignableFrom(elementClass))
+                return false;
+            tx().readWrite();
+            return baseGraph.hasSchemaIndex(label, key);
+        }
+
+        /**
+         * Gets the single key schema indices that are online. Schema indices only exist for nodes, so there are none
+         * for edges.
+         */
+        @Override
+        public Map<String, Set<String>> indexedKeys(final Class<? extends Element> elementClass) {
+            if (!Vertex.class.isAssignableFrom(elementClass))
+                return Collections.emptyMap();
+            tx().readWrite();
+            final Map<String, Set<String>> indexedKeys = new HashMap<>();
+            final Iterator<Map<String, Object>> result = baseGraph.execute("CALL db.indexes()", Collections.emptyMap());
+            while (result.hasNext()) {
+                final Map<String, Object> index = result.next();
+                final Matcher matcher = INDEX_DESCRIPTION.matcher(String.valueOf(index.get("description")));
+                if ("ONLINE".equals(index.get("state")) && matcher.matches())
+                    indexedKeys.computeIfAbsent(matcher.group(1), k -> new HashSet<>()).add(matcher.group(2));
+            }
+            return indexedKeys;
+        }
+
+        private String label(final String label) {
+            return null == label ? "" : ":`" + label.replace("`", "``") + "`";
+        }
+
+        private long execute(final String query) {
+            tx().readWrite();
+            final Iterator<Map<String, Object>> result = baseGraph.execute(query, Collections.emptyMap());
+            return result.hasNext() ? ((Number) result.next().get("count")).longValue() : UNKNOWN;
+        }
+    }
+
     public class Neo4jGraphFeatures implements Features {
         protected GraphFeatures graphFeatures = new Neo4jGraphGraphFeatures();
         protected VertexFeatures vertexFeatures = new Neo4jVertexFeatures();
@@ -33,6 +33,7 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
@@ -43,6 +44,29 @@ import static org.junit.Assert.*;
 public class NativeNeo4jIndexCheck extends AbstractNeo4jGremlinTest {
     private static final Logger logger = LoggerFactory.getLogger(NativeNeo4jIndexCheck.class);
 
+    @Test
+    public void shouldProvideStatisticsOfLabelsAndSchemaIndices() throws Exception {
+        final Neo4jGraph neo4j = (Neo4jGraph) this.graph;
+        this.graph.addVertex(T.label, "something", "myId", 1);
+        this.graph.addVertex(T.label, "something", "myId", 2);
+        this.graph.addVertex(T.label, "nothing", "myId", 3);
+        this.graph.tx().commit();
+
+        final Graph.Statistics statistics = neo4j.statistics();
+        assertEquals(3, statistics.count(Vertex.class, null));
+        assertEquals(2, statistics.count(Vertex.class, "something"));
+        assertFalse(statistics.isIndexed(Vertex.class, "something", "myId"));
+        assertTrue(statistics.indexedKeys(Vertex.class).isEmpty());
+
+        neo4j.cypher("CREATE INDEX ON :something(myId)").iterate();
+        this.graph.tx().commit();
+        this.graph.tx().readWrite();
+        Thread.sleep(5000); // wait for indices to be built
+        assertTrue(statistics.isIndexed(Vertex.class, "something", "myId"));
+        assertFalse(statistics.isIndexed(Vertex.class, "nothing", "myId"));
+        assertEquals(Collections.singletonMap("something", Collections.singleton("myId")), statistics.indexedKeys(Vertex.class));
+    }
+
     @Test
     public void shouldHaveFasterRuntimeWithLabelKeyValueIndex() throws Exception {
         final Neo4jGraph neo4j = (Neo4jGraph) this.graph;
@@ -38,9 +38,11 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
@@ -73,6 +75,7 @@ public final class TinkerGraphComputer implements GraphComputer {
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private int workers = Runtime.getRuntime().availableProcessors();
     private final GraphFilter graphFilter = new GraphFilter();
+    private long[] workerBusyTimes = new long[0];
 
     private final ThreadFactory threadFactoryBoss = new BasicThreadFactory.Builder().namingPattern(TinkerGraphComputer.class.getSimpleName() + "-boss").build();
 
@@ -128,6 +131,19 @@ public final class TinkerGraphComputer implements GraphComputer {
         return this;
     }
 
+    /**
+     * Gets the time in nanoseconds that each worker spent executing the {@link VertexProgram} over all of its
+     * iterations. The times are available once the {@code Future} returned by {@link #submit()} has completed and
+     * their spread shows how evenly the work was shared between the workers.
+     */
+    public List<Long> getWorkerBusyTimes() {
+        final List<Long> busyTimes = new ArrayList<>(this.workerBusyTimes.length);
+        for (final long busyTime : this.workerBusyTimes) {
+            busyTimes.add(busyTime);
+        }
+        return busyTimes;
+    }
+
     @Override
     public Future<ComputerResult> submit() {
         // a graph computer can only be executed once
@@ -188,6 +204,7 @@ public final class TinkerGraphComputer implements GraphComputer {
                             this.memory.incrIteration();
                         }
                     }
+                    this.workerBusyTimes = workers.getBusyTimes();
                     view.complete(); // drop all transient vertex compute keys
                 }
 
@@ -34,12 +34,30 @@ final class TinkerMessageBoard<M> {
 
     public Map<MessageScope, Map<Vertex,Queue<M>>> sendMessages = new ConcurrentHashMap<>();
     public Map<MessageScope, Map<Vertex, Queue<M>>> receiveMessages = new ConcurrentHashMap<>();
+    // when the vertex program has a combiner, messages are combined as they are sent and a vertex holds a single message
+    public Map<MessageScope, Map<Vertex, M>> sendCombinedMessages = new ConcurrentHashMap<>();
+    public Map<MessageScope, Map<Vertex, M>> receiveCombinedMessages = new ConcurrentHashMap<>();
     public Set<MessageScope> previousMessageScopes = new HashSet<>();
     public Set<MessageScope> currentMessageScopes = new HashSet<>();
 
+    public Map<Vertex, Queue<M>> getSendMessages(final MessageScope messageScope) {
+        final Map<Vertex, Queue<M>> messages = this.sendMessages.get(messageScope);
+        return null == messages ? this.sendMessages.computeIfAbsent(messageScope, ms -> new ConcurrentHashMap<>()) : messages;
+    }
+
+    public Map<Vertex, M> getSendCombinedMessages(final MessageScope messageScope) {
+        final Map<Vertex, M> messages = this.sendCombinedMessages.get(messageScope);
+        return null == messages ? this.sendCombinedMessages.computeIfAbsent(messageScope, ms -> new ConcurrentHashMap<>()) : messages;
+    }
+
     public void completeIteration() {
         this.receiveMessages = this.sendMessages;
         this.sendMessages = new ConcurrentHashMap<>();
+        // the combined message maps are reused so that they do not have to grow to the size of the graph every iteration
+        final Map<MessageScope, Map<Vertex, M>> combinedMessages = this.receiveCombinedMessages;
+        combinedMessages.values().forEach(Map::clear);
+        this.receiveCombinedMessages = this.sendCombinedMessages;
+        this.sendCombinedMessages = combinedMessages;
         this.previousMessageScopes = this.currentMessageScopes;
         this.currentMessageScopes = new HashSet<>();
     }
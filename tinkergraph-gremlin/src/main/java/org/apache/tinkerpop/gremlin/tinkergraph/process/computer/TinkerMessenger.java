@@ -33,12 +33,13 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.gremlin.util.iterator.MultiIterator;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -60,29 +61,36 @@ public final class TinkerMessenger<M> implements Messenger<M> {
     @Override
     public Iterator<M> receiveMessages() {
         final MultiIterator<M> multiIterator = new MultiIterator<>();
-        for (final MessageScope messageScope : this.messageBoard.receiveMessages.keySet()) {
+        this.addMessages(multiIterator, this.messageBoard.receiveMessages, Queue::stream);
+        this.addMessages(multiIterator, this.messageBoard.receiveCombinedMessages, Stream::of);
+        return multiIterator;
+    }
+
+    private <Q> void addMessages(final MultiIterator<M> multiIterator, final Map<MessageScope, Map<Vertex, Q>> receiveMessages, final Function<Q, Stream<M>> toStream) {
+        for (final Map.Entry<MessageScope, Map<Vertex, Q>> entry : receiveMessages.entrySet()) {
 //        for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
+            final MessageScope messageScope = entry.getKey();
+            final Map<Vertex, Q> messages = entry.getValue();
+            if (messages.isEmpty())
+                continue;
             if (messageScope instanceof MessageScope.Local) {
                 final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) messageScope;
                 final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
                 final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
                 final Edge[] edge = new Edge[1]; // simulates storage side-effects available in Gremlin, but not Java8 streams
                 multiIterator.addIterator(StreamSupport.stream(Spliterators.spliteratorUnknownSize(VertexProgramHelper.reverse(incidentTraversal.asAdmin()), Spliterator.IMMUTABLE | Spliterator.SIZED), false)
-                        .map(e -> this.messageBoard.receiveMessages.get(messageScope).get((edge[0] = e).vertices(direction).next()))
+                        .map(e -> messages.get((edge[0] = e).vertices(direction).next()))
                         .filter(q -> null != q)
-                        .flatMap(Queue::stream)
+                        .flatMap(toStream)
                         .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0]))
                         .iterator());
 
             } else {
-                multiIterator.addIterator(Stream.of(this.vertex)
-                        .map(this.messageBoard.receiveMessages.get(messageScope)::get)
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .iterator());
+                final Q q = messages.get(this.vertex);
+                if (null != q)
+                    multiIterator.addIterator(toStream.apply(q).iterator());
             }
         }
-        return multiIterator;
     }
 
     @Override
@@ -95,16 +103,11 @@ public final class TinkerMessenger<M> implements Messenger<M> {
         }
     }
 
-    private void addMessage(final Vertex vertex, final M message, MessageScope messageScope) {
-        this.messageBoard.sendMessages.compute(messageScope, (ms, messages) -> {
-            if(null==messages) messages = new ConcurrentHashMap<>();
-            return messages;
-        });
-        this.messageBoard.sendMessages.get(messageScope).compute(vertex, (v, queue) -> {
-            if (null == queue) queue = new ConcurrentLinkedQueue<>();
-            queue.add(null != this.combiner && !queue.isEmpty() ? this.combiner.combine(queue.remove(), message) : message);
-            return queue;
-        });
+    private void addMessage(final Vertex vertex, final M message, final MessageScope messageScope) {
+        if (null == this.combiner)
+            this.messageBoard.getSendMessages(messageScope).computeIfAbsent(vertex, v -> new ConcurrentLinkedQueue<>()).add(message);
+        else
+            this.messageBoard.getSendCombinedMessages(messageScope).merge(vertex, message, this.combiner::combine);
     }
 
     ///////////
@@ -26,17 +26,20 @@ import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramPool;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
 import org.apache.tinkerpop.gremlin.util.function.TriConsumer;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
@@ -47,6 +50,12 @@ public final class TinkerWorkerPool implements AutoCloseable {
 
     private static final BasicThreadFactory THREAD_FACTORY_WORKER = new BasicThreadFactory.Builder().namingPattern("tinker-worker-%d").build();
 
+    /**
+     * The number of chunks the vertices are split into for each worker, which allows workers that finish early to
+     * take on the chunks that would otherwise have waited for a busy worker.
+     */
+    private static final int CHUNKS_PER_WORKER = 16;
+
     private final int numberOfWorkers;
     private final ExecutorService workerPool;
     private final CompletionService<Object> completionService;
@@ -54,7 +63,10 @@ public final class TinkerWorkerPool implements AutoCloseable {
     private VertexProgramPool vertexProgramPool;
     private MapReducePool mapReducePool;
     private final Queue<TinkerWorkerMemory> workerMemoryPool = new ConcurrentLinkedQueue<>();
-    private final List<List<Vertex>> workerVertices = new ArrayList<>();
+    private final Vertex[] vertices;
+    private final int[] chunkEnds;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final long[] busyTimes;
 
     public TinkerWorkerPool(final TinkerGraph graph, final TinkerMemory memory, final int numberOfWorkers) {
         this.numberOfWorkers = numberOfWorkers;
@@ -62,26 +74,32 @@ public final class TinkerWorkerPool implements AutoCloseable {
         this.completionService = new ExecutorCompletionService<>(this.workerPool);
         for (int i = 0; i < this.numberOfWorkers; i++) {
             this.workerMemoryPool.add(new TinkerWorkerMemory(memory));
-            this.workerVertices.add(new ArrayList<>());
         }
-        int batchSize = TinkerHelper.getVertices(graph).size() / this.numberOfWorkers;
-        if (0 == batchSize)
-            batchSize = 1;
-        int counter = 0;
-        int index = 0;
-
-        List<Vertex> currentWorkerVertices = this.workerVertices.get(index);
-        final Iterator<Vertex> iterator = graph.vertices();
-        while (iterator.hasNext()) {
-            final Vertex vertex = iterator.next();
-            if (counter++ < batchSize || index == this.workerVertices.size() - 1) {
-                currentWorkerVertices.add(vertex);
-            } else {
-                currentWorkerVertices = this.workerVertices.get(++index);
-                currentWorkerVertices.add(vertex);
-                counter = 1;
+        this.busyTimes = new long[this.numberOfWorkers];
+
+        // the vertices are split into chunks of roughly equal work, where the work of a vertex is taken to grow
+        // with its degree, so that a chunk holding a supernode holds few other vertices
+        final List<Vertex> vertices = new ArrayList<>(TinkerHelper.getVertices(graph).size());
+        graph.vertices().forEachRemaining(vertices::add);
+        this.vertices = vertices.toArray(new Vertex[vertices.size()]);
+
+        final int[] weights = new int[this.vertices.length];
+        long totalWeight = 0;
+        for (int i = 0; i < this.vertices.length; i++) {
+            weights[i] = 1 + TinkerHelper.getDegree((TinkerVertex) this.vertices[i]);
+            totalWeight = totalWeight + weights[i];
+        }
+        final long chunkWeight = Math.max(1, totalWeight / ((long) this.numberOfWorkers * CHUNKS_PER_WORKER));
+        final List<Integer> chunkEnds = new ArrayList<>();
+        long currentWeight = 0;
+        for (int i = 0; i < this.vertices.length; i++) {
+            currentWeight = currentWeight + weights[i];
+            if (currentWeight >= chunkWeight || i == this.vertices.length - 1) {
+                chunkEnds.add(i + 1);
+                currentWeight = 0;
             }
         }
+        this.chunkEnds = chunkEnds.stream().mapToInt(Integer::intValue).toArray();
     }
 
     public void setVertexProgram(final VertexProgram vertexProgram) {
@@ -92,16 +110,22 @@ public final class TinkerWorkerPool implements AutoCloseable {
         this.mapReducePool = new MapReducePool(mapReduce, this.numberOfWorkers);
     }
 
+    /**
+     * Executes the worker once for each of the workers of the pool where each worker is handed the vertices of the
+     * next unprocessed chunk whenever it has finished with its current chunk.
+     */
     public void executeVertexProgram(final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker) throws InterruptedException {
+        this.nextChunk.set(0);
         for (int i = 0; i < this.numberOfWorkers; i++) {
             final int index = i;
             this.completionService.submit(() -> {
+                final long start = System.nanoTime();
                 final VertexProgram vp = this.vertexProgramPool.take();
                 final TinkerWorkerMemory workerMemory = this.workerMemoryPool.poll();
-                final List<Vertex> vertices = this.workerVertices.get(index);
-                worker.accept(vertices.iterator(), vp, workerMemory);
+                worker.accept(new ChunkIterator(), vp, workerMemory);
                 this.vertexProgramPool.offer(vp);
                 this.workerMemoryPool.offer(workerMemory);
+                this.busyTimes[index] = this.busyTimes[index] + (System.nanoTime() - start);
                 return null;
             });
         }
@@ -136,6 +160,13 @@ public final class TinkerWorkerPool implements AutoCloseable {
         }
     }
 
+    /**
+     * Gets the time in nanoseconds that each worker has spent executing the vertex program over all iterations.
+     */
+    public long[] getBusyTimes() {
+        return this.busyTimes.clone();
+    }
+
     public void closeNow() throws Exception {
         this.workerPool.shutdownNow();
     }
@@ -144,4 +175,31 @@ public final class TinkerWorkerPool implements AutoCloseable {
     public void close() throws Exception {
         this.workerPool.shutdown();
     }
-}
\ No newline at end of file
+
+    /**
+     * Iterates the vertices of the chunks claimed from those left in the current iteration.
+     */
+    private final class ChunkIterator implements Iterator<Vertex> {
+        private int current = 0;
+        private int end = 0;
+
+        @Override
+        public boolean hasNext() {
+            if (this.current < this.end)
+                return true;
+            final int chunk = nextChunk.getAndIncrement();
+            if (chunk >= chunkEnds.length)
+                return false;
+            this.current = 0 == chunk ? 0 : chunkEnds[chunk - 1];
+            this.end = chunkEnds[chunk];
+            return true;
+        }
+
+        @Override
+        public Vertex next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            return vertices[this.current++];
+        }
+    }
+}
@@ -31,6 +31,8 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -38,11 +40,21 @@ import java.util.NoSuchElementException;
 public final class TinkerCountGlobalStep<S extends Element> extends AbstractStep<S, Long> {
 
     private final Class<S> elementClass;
+    private final Set<String> labels;
     private boolean done = false;
 
     public TinkerCountGlobalStep(final Traversal.Admin traversal, final Class<S> elementClass) {
+        this(traversal, elementClass, null);
+    }
+
+    /**
+     * Counts the elements of the specified class that have one of the labels or all elements if the labels are
+     * {@code null}.
+     */
+    public TinkerCountGlobalStep(final Traversal.Admin traversal, final Class<S> elementClass, final Set<String> labels) {
         super(traversal);
         this.elementClass = elementClass;
+        this.labels = labels;
     }
 
     @Override
@@ -50,22 +62,30 @@ public final class TinkerCountGlobalStep<S extends Element> extends AbstractStep
         if (!this.done) {
             this.done = true;
             final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-            return this.getTraversal().getTraverserGenerator().generate(Vertex.class.isAssignableFrom(this.elementClass) ?
-                            (long) TinkerHelper.getVertices(graph).size() :
-                            (long) TinkerHelper.getEdges(graph).size(),
-                    (Step) this, 1L);
+            final long count;
+            if (null == this.labels)
+                count = Vertex.class.isAssignableFrom(this.elementClass) ?
+                        TinkerHelper.getVertices(graph).size() :
+                        TinkerHelper.getEdges(graph).size();
+            else
+                count = Vertex.class.isAssignableFrom(this.elementClass) ?
+                        TinkerHelper.countVertexLabelIndex(graph, this.labels) :
+                        TinkerHelper.countEdgeLabelIndex(graph, this.labels);
+            return this.getTraversal().getTraverserGenerator().generate(count, (Step) this, 1L);
         } else
             throw FastNoSuchElementException.instance();
     }
 
     @Override
     public String toString() {
-        return StringFactory.stepString(this, this.elementClass.getSimpleName().toLowerCase());
+        return null == this.labels ?
+                StringFactory.stepString(this, this.elementClass.getSimpleName().toLowerCase()) :
+                StringFactory.stepString(this, this.elementClass.getSimpleName().toLowerCase(), this.labels);
     }
 
     @Override
     public int hashCode() {
-        return super.hashCode() ^ this.elementClass.hashCode();
+        return super.hashCode() ^ this.elementClass.hashCode() ^ Objects.hashCode(this.labels);
     }
 
     @Override
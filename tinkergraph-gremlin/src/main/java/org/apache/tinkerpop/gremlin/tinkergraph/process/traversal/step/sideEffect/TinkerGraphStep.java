@@ -35,8 +35,10 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -61,38 +63,94 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
 
     private Iterator<? extends Edge> edges() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.edges(this.ids));
-        else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                            .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
-                            .collect(Collectors.<Edge>toList()).iterator();
+
+        // an equality lookup on a single key or composite index is used unless the label index holds fewer
+        // elements. without an equality lookup, within() and range lookups are preferred over the label index
+        final List<? extends Edge> indexedEdges = TinkerHelper.queryEdgeIndex(graph, getEqualities());
+        final Set<String> labels = TinkerHelper.getLabels(this.hasContainers);
+        if (null != indexedEdges && (null == labels || indexedEdges.size() <= TinkerHelper.countEdgeLabelIndex(graph, labels)))
+            return indexedEdges.stream()
+                    .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
+                    .collect(Collectors.<Edge>toList()).iterator();
+        else if (null != labels && (null != indexedEdges || null == getIndexKey(Edge.class)))
+            return this.iteratorList(TinkerHelper.queryEdgeLabelIndex(graph, labels));
+
+        final String indexedKey = getIndexKey(Edge.class);
+        return null == indexedKey ?
+                this.iteratorList(graph.edges()) :
+                TinkerHelper.queryEdgeIndex(graph, indexedKey, getIndexPredicates(Edge.class, indexedKey)).stream()
+                        .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
+                        .collect(Collectors.<Edge>toList()).iterator();
     }
 
     private Iterator<? extends Vertex> vertices() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.vertices(this.ids));
-        else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.vertices()) :
-                    IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).iterator(),
-                            vertex -> HasContainer.testAll(vertex, this.hasContainers));
+
+        // an equality lookup on a single key or composite index is used unless the label index holds fewer
+        // elements. without an equality lookup, within() and range lookups are preferred over the label index
+        final List<? extends Vertex> indexedVertices = TinkerHelper.queryVertexIndex(graph, getEqualities());
+        final Set<String> labels = TinkerHelper.getLabels(this.hasContainers);
+        if (null != indexedVertices && (null == labels || indexedVertices.size() <= TinkerHelper.countVertexLabelIndex(graph, labels)))
+            return IteratorUtils.filter(indexedVertices.iterator(),
+                    vertex -> HasContainer.testAll(vertex, this.hasContainers));
+        else if (null != labels && (null != indexedVertices || null == getIndexKey(Vertex.class)))
+            return this.iteratorList(TinkerHelper.queryVertexLabelIndex(graph, labels));
+
+        final String indexedKey = getIndexKey(Vertex.class);
+        return null == indexedKey ?
+                this.iteratorList(graph.vertices()) :
+                IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, indexedKey, getIndexPredicates(Vertex.class, indexedKey)).iterator(),
+                        vertex -> HasContainer.testAll(vertex, this.hasContainers));
     }
 
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
+    /**
+     * Gets the values of the equality checks in the {@link HasContainer}s by key, keeping the first value where a
+     * key is checked more than once as the remaining checks are filtered against the results anyway.
+     */
+    private Map<String, Object> getEqualities() {
+        final Map<String, Object> equalities = new HashMap<>();
+        for (final HasContainer hasContainer : this.hasContainers) {
+            if (hasContainer.getBiPredicate() == Compare.eq && null != hasContainer.getValue())
+                equalities.putIfAbsent(hasContainer.getKey(), hasContainer.getValue());
+        }
+        return equalities;
+    }
 
-        final Iterator<HasContainer> itty = IteratorUtils.filter(hasContainers.iterator(),
-                c -> c.getPredicate().getBiPredicate() == Compare.eq && indexedKeys.contains(c.getKey()));
-        return itty.hasNext() ? itty.next() : null;
+    /**
+     * Selects the key of the index to use for a {@code within()} or range lookup as the one that is estimated to
+     * return the fewest elements. On a tie the first lookup is used.
+     */
+    private String getIndexKey(final Class<? extends Element> indexedClass) {
+        final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
+        String indexedKey = null;
+        long estimate = Long.MAX_VALUE;
+        for (final HasContainer hasContainer : this.hasContainers) {
+            if (!TinkerHelper.canQueryIndex(graph, indexedClass, hasContainer.getKey(), hasContainer.getPredicate()))
+                continue;
+
+            final long current = TinkerHelper.estimateIndex(graph, indexedClass, hasContainer.getKey(), hasContainer.getPredicate());
+            if (null == indexedKey || current < estimate) {
+                indexedKey = hasContainer.getKey();
+                estimate = current;
+            }
+        }
+        return indexedKey;
+    }
 
+    private List<P<?>> getIndexPredicates(final Class<? extends Element> indexedClass, final String indexedKey) {
+        final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
+        final List<P<?>> predicates = new ArrayList<>();
+        for (final HasContainer hasContainer : this.hasContainers) {
+            if (hasContainer.getKey().equals(indexedKey) && TinkerHelper.canQueryIndex(graph, indexedClass, indexedKey, hasContainer.getPredicate()))
+                predicates.add(hasContainer.getPredicate());
+        }
+        return predicates;
     }
 
     @Override
@@ -19,10 +19,13 @@
 
 package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
@@ -32,24 +35,30 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentitySt
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.map.TinkerCountGlobalStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 /**
  * This strategy will do a direct {@link org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper#getVertices}
- * size call if the traversal is a count of the vertices and edges of the graph or a one-to-one map chain thereof.
+ * size call if the traversal is a count of the vertices and edges of the graph or a one-to-one map chain thereof. If
+ * the elements are only filtered by label, the count is taken from the label index of the graph instead.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @example <pre>
  * g.V().count()               // is replaced by TinkerCountGlobalStep
  * g.V().map(out()).count()    // is replaced by TinkerCountGlobalStep
  * g.E().label().count()       // is replaced by TinkerCountGlobalStep
+ * g.V().hasLabel('person').count() // is replaced by TinkerCountGlobalStep
  * </pre>
  */
 public final class TinkerGraphCountStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy> implements TraversalStrategy.ProviderOptimizationStrategy {
@@ -69,7 +78,18 @@ public final class TinkerGraphCountStrategy extends AbstractTraversalStrategy<Tr
                 0 != ((GraphStep) steps.get(0)).getIds().length ||
                 !(steps.get(steps.size() - 1) instanceof CountGlobalStep))
             return;
-        for (int i = 1; i < steps.size() - 1; i++) {
+        // leading label checks are answered by the label index of the graph
+        final List<HasContainer> labelContainers = new ArrayList<>();
+        int i = 1;
+        for (; i < steps.size() - 1 && steps.get(i) instanceof HasStep; i++) {
+            for (final HasContainer hasContainer : ((HasStep<?>) steps.get(i)).getHasContainers()) {
+                if (!hasContainer.getKey().equals(T.label.getAccessor()) ||
+                        !(hasContainer.getBiPredicate() == Compare.eq || hasContainer.getBiPredicate() == Contains.within))
+                    return;
+                labelContainers.add(hasContainer);
+            }
+        }
+        for (; i < steps.size() - 1; i++) {
             final Step current = steps.get(i);
             if (!(current instanceof MapStep ||
                     current instanceof IdentityStep ||
@@ -81,7 +101,8 @@ public final class TinkerGraphCountStrategy extends AbstractTraversalStrategy<Tr
         }
         final Class<? extends Element> elementClass = ((GraphStep<?, ?>) steps.get(0)).getReturnClass();
         TraversalHelper.removeAllSteps(traversal);
-        traversal.addStep(new TinkerCountGlobalStep<>(traversal, elementClass));
+        traversal.addStep(new TinkerCountGlobalStep<>(traversal, elementClass,
+                labelContainers.isEmpty() ? null : TinkerHelper.getLabels(labelContainers)));
     }
 
     @Override
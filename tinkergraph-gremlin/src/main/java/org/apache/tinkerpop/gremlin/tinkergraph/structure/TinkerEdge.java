@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -60,6 +61,10 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         if (null == this.properties) this.properties = new HashMap<>();
         this.properties.put(key, newProperty);
         TinkerHelper.autoUpdateIndex(this, key, value, oldProperty.isPresent() ? oldProperty.value() : null);
+
+        // properties attached while the edge is being added are written to the log along with the edge
+        final TinkerGraph graph = (TinkerGraph) this.graph();
+        if (null != graph.log && graph.edges.containsKey(this.id)) graph.log.edgeProperty(this, key, value);
         return newProperty;
 
     }
@@ -80,18 +85,22 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         final TinkerVertex inVertex = (TinkerVertex) this.inVertex;
 
         if (null != outVertex && null != outVertex.outEdges) {
-            final Set<Edge> edges = outVertex.outEdges.get(this.label());
+            final Collection<Edge> edges = outVertex.outEdges.get(this.label());
             if (null != edges)
                 edges.remove(this);
         }
         if (null != inVertex && null != inVertex.inEdges) {
-            final Set<Edge> edges = inVertex.inEdges.get(this.label());
+            final Collection<Edge> edges = inVertex.inEdges.get(this.label());
             if (null != edges)
                 edges.remove(this);
         }
+        if (!this.removed)
+            ((TinkerGraph) this.graph()).statistics.updateDegrees(this, -1);
 
         TinkerHelper.removeElementIndex(this);
         ((TinkerGraph) this.graph()).edges.remove(this.id());
+        TinkerHelper.removeLabelIndex(((TinkerGraph) this.graph()).edgeLabels, this);
+        if (null != ((TinkerGraph) this.graph()).log) ((TinkerGraph) this.graph()).log.removeEdge(this);
         this.properties = null;
         this.removed = true;
     }
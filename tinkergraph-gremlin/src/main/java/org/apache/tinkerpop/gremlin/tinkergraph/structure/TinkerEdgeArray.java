@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An array backed collection of the edges of a {@link TinkerVertex} for a single label that is used in place of a
+ * {@code HashSet} when the {@link TinkerGraph.AdjacencyStorage#COMPACT} storage is configured. It needs a reference
+ * per edge rather than a hash table entry per edge at the cost of removals being linear in the number of edges. The
+ * order of the edges is not maintained on removal.
+ */
+final class TinkerEdgeArray extends AbstractCollection<Edge> {
+
+    private static final Edge[] EMPTY = new Edge[0];
+
+    private Edge[] edges = EMPTY;
+    private int size = 0;
+
+    /**
+     * Adds the edge without checking if it is already present as every edge is only ever added once to the
+     * adjacency of a vertex.
+     */
+    @Override
+    public boolean add(final Edge edge) {
+        if (this.size == this.edges.length)
+            this.edges = Arrays.copyOf(this.edges, this.size < 2 ? this.size + 1 : this.size + (this.size >> 1));
+        this.edges[this.size++] = edge;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object edge) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.edges[i].equals(edge)) {
+                this.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(final Object edge) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.edges[i].equals(edge))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<Edge> iterator() {
+        return new Iterator<Edge>() {
+            private int current = 0;
+            private boolean removable = false;
+
+            @Override
+            public boolean hasNext() {
+                return this.current < size;
+            }
+
+            @Override
+            public Edge next() {
+                if (this.current >= size)
+                    throw new NoSuchElementException();
+                this.removable = true;
+                return edges[this.current++];
+            }
+
+            @Override
+            public void remove() {
+                if (!this.removable)
+                    throw new IllegalStateException();
+                this.removable = false;
+                // the last edge is moved into the removed slot so it has to be returned by the next call to next()
+                removeAt(--this.current);
+            }
+        };
+    }
+
+    private void removeAt(final int index) {
+        this.edges[index] = this.edges[--this.size];
+        this.edges[this.size] = null;
+        if (0 == this.size)
+            this.edges = EMPTY;
+    }
+}
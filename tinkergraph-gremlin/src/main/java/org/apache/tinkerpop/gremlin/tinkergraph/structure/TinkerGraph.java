@@ -22,9 +22,11 @@ import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
@@ -42,9 +44,14 @@ import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optim
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.File;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,6 +59,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 /**
@@ -81,24 +90,32 @@ public final class TinkerGraph implements Graph {
     public static final String GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER = "gremlin.tinkergraph.edgeIdManager";
     public static final String GREMLIN_TINKERGRAPH_VERTEX_PROPERTY_ID_MANAGER = "gremlin.tinkergraph.vertexPropertyIdManager";
     public static final String GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY = "gremlin.tinkergraph.defaultVertexPropertyCardinality";
+    public static final String GREMLIN_TINKERGRAPH_ADJACENCY_STORAGE = "gremlin.tinkergraph.adjacencyStorage";
     public static final String GREMLIN_TINKERGRAPH_GRAPH_LOCATION = "gremlin.tinkergraph.graphLocation";
     public static final String GREMLIN_TINKERGRAPH_GRAPH_FORMAT = "gremlin.tinkergraph.graphFormat";
+    public static final String GREMLIN_TINKERGRAPH_GRAPH_LOG = "gremlin.tinkergraph.graphLog";
+    public static final String GREMLIN_TINKERGRAPH_GRAPH_LOG_COMPACTION_THRESHOLD = "gremlin.tinkergraph.graphLogCompactionThreshold";
 
     private final TinkerGraphFeatures features = new TinkerGraphFeatures();
+    protected final TinkerGraphStatistics statistics = new TinkerGraphStatistics();
 
     protected AtomicLong currentId = new AtomicLong(-1L);
     protected Map<Object, Vertex> vertices = new ConcurrentHashMap<>();
     protected Map<Object, Edge> edges = new ConcurrentHashMap<>();
+    protected Map<String, Set<Vertex>> vertexLabels = new ConcurrentHashMap<>();
+    protected Map<String, Set<Edge>> edgeLabels = new ConcurrentHashMap<>();
 
     protected TinkerGraphVariables variables = null;
     protected TinkerGraphComputerView graphComputerView = null;
     protected TinkerIndex<TinkerVertex> vertexIndex = null;
     protected TinkerIndex<TinkerEdge> edgeIndex = null;
+    protected TinkerGraphLog log = null;
 
     protected final IdManager<?> vertexIdManager;
     protected final IdManager<?> edgeIdManager;
     protected final IdManager<?> vertexPropertyIdManager;
     protected final VertexProperty.Cardinality defaultVertexPropertyCardinality;
+    protected final AdjacencyStorage adjacencyStorage;
 
     private final Configuration configuration;
     private final String graphLocation;
@@ -114,6 +131,8 @@ public final class TinkerGraph implements Graph {
         vertexPropertyIdManager = selectIdManager(configuration, GREMLIN_TINKERGRAPH_VERTEX_PROPERTY_ID_MANAGER, VertexProperty.class);
         defaultVertexPropertyCardinality = VertexProperty.Cardinality.valueOf(
                 configuration.getString(GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.single.name()));
+        adjacencyStorage = AdjacencyStorage.valueOf(
+                configuration.getString(GREMLIN_TINKERGRAPH_ADJACENCY_STORAGE, AdjacencyStorage.HASH.name()));
 
         graphLocation = configuration.getString(GREMLIN_TINKERGRAPH_GRAPH_LOCATION, null);
         graphFormat = configuration.getString(GREMLIN_TINKERGRAPH_GRAPH_FORMAT, null);
@@ -122,6 +141,10 @@ public final class TinkerGraph implements Graph {
             throw new IllegalStateException(String.format("The %s and %s must both be specified if either is present",
                     GREMLIN_TINKERGRAPH_GRAPH_LOCATION, GREMLIN_TINKERGRAPH_GRAPH_FORMAT));
 
+        if (configuration.getBoolean(GREMLIN_TINKERGRAPH_GRAPH_LOG, false) && null == graphLocation)
+            throw new IllegalStateException(String.format("The %s must be specified if %s is enabled",
+                    GREMLIN_TINKERGRAPH_GRAPH_LOCATION, GREMLIN_TINKERGRAPH_GRAPH_LOG));
+
         if (graphLocation != null) loadGraph();
     }
 
@@ -171,6 +194,9 @@ public final class TinkerGraph implements Graph {
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        TinkerHelper.addLabelIndex(this.vertexLabels, vertex);
+        this.statistics.changed();
+        if (null != this.log) this.log.addVertex(vertex);
 
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         return vertex;
@@ -213,21 +239,29 @@ public final class TinkerGraph implements Graph {
     public void clear() {
         this.vertices.clear();
         this.edges.clear();
+        this.vertexLabels.clear();
+        this.edgeLabels.clear();
         this.variables = null;
         this.currentId.set(-1L);
         this.vertexIndex = null;
         this.edgeIndex = null;
         this.graphComputerView = null;
+        this.statistics.clear();
+        if (null != this.log) this.log.clear();
     }
 
     /**
      * This method only has an effect if the {@link #GREMLIN_TINKERGRAPH_GRAPH_LOCATION} is set, in which case the
-     * data in the graph is persisted to that location. This method may be called multiple times and does not release
-     * resources.
+     * data in the graph is persisted to that location. If the {@link #GREMLIN_TINKERGRAPH_GRAPH_LOG} is enabled then
+     * the data is already persisted and only the log is flushed. This method may be called multiple times and does
+     * not release resources.
      */
     @Override
     public void close() {
-        if (graphLocation != null) saveGraph();
+        if (log != null)
+            log.close();
+        else if (graphLocation != null)
+            saveGraph(false);
     }
 
     @Override
@@ -267,12 +301,29 @@ public final class TinkerGraph implements Graph {
                 throw new RuntimeException(String.format("Could not load graph at %s with %s", graphLocation, graphFormat), ex);
             }
         }
+
+        if (configuration.getBoolean(GREMLIN_TINKERGRAPH_GRAPH_LOG, false)) {
+            final TinkerGraphLog graphLog = new TinkerGraphLog(this, new File(graphLocation + ".log"),
+                    configuration.getLong(GREMLIN_TINKERGRAPH_GRAPH_LOG_COMPACTION_THRESHOLD, 100000L));
+            try {
+                // the log is replayed before it is attached to the graph so that replaying does not write to it
+                graphLog.replay();
+            } catch (Exception ex) {
+                throw new RuntimeException(String.format("Could not replay the log of the graph at %s", graphLocation), ex);
+            }
+            this.log = graphLog;
+        }
     }
 
-    private void saveGraph() {
+    /**
+     * Writes the graph to the {@link #GREMLIN_TINKERGRAPH_GRAPH_LOCATION}. When {@code atomic} the graph is written
+     * to a temporary file that then replaces the persisted graph, so that a failure while writing leaves the previous
+     * graph in place for the {@link #GREMLIN_TINKERGRAPH_GRAPH_LOG} to be replayed over.
+     */
+    void saveGraph(final boolean atomic) {
         final File f = new File(graphLocation);
         if (f.exists()) {
-            f.delete();
+            if (!atomic) f.delete();
         } else {
             final File parent = f.getParentFile();
 
@@ -283,20 +334,35 @@ public final class TinkerGraph implements Graph {
         }
 
         try {
-            if (graphFormat.equals("graphml")) {
-                io(IoCore.graphml()).writeGraph(graphLocation);
-            } else if (graphFormat.equals("graphson")) {
-                io(IoCore.graphson()).writeGraph(graphLocation);
-            } else if (graphFormat.equals("gryo")) {
-                io(IoCore.gryo()).writeGraph(graphLocation);
+            if (!atomic) {
+                writeGraph(graphLocation);
             } else {
-                io(IoCore.createIoBuilder(graphFormat)).writeGraph(graphLocation);
+                final File temp = new File(graphLocation + ".tmp");
+                if (temp.exists()) temp.delete();
+                writeGraph(temp.getPath());
+                try {
+                    Files.move(temp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException amnse) {
+                    Files.move(temp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
             }
         } catch (Exception ex) {
             throw new RuntimeException(String.format("Could not save graph at %s with %s", graphLocation, graphFormat), ex);
         }
     }
 
+    private void writeGraph(final String location) throws Exception {
+        if (graphFormat.equals("graphml")) {
+            io(IoCore.graphml()).writeGraph(location);
+        } else if (graphFormat.equals("graphson")) {
+            io(IoCore.graphson()).writeGraph(location);
+        } else if (graphFormat.equals("gryo")) {
+            io(IoCore.gryo()).writeGraph(location);
+        } else {
+            io(IoCore.createIoBuilder(graphFormat)).writeGraph(location);
+        }
+    }
+
     private <T extends Element> Iterator<T> createElementIterator(final Class<T> clazz, final Map<Object, T> elements,
                                                                   final IdManager idManager,
                                                                   final Object... ids) {
@@ -334,6 +400,15 @@ public final class TinkerGraph implements Graph {
         return features;
     }
 
+    /**
+     * Return TinkerGraph statistics which are read from the label and property indices and the degree distribution
+     * that the graph maintains as elements are added and removed, so they are always current and cheap to get.
+     */
+    @Override
+    public Statistics statistics() {
+        return statistics;
+    }
+
     private void validateHomogenousIds(final List<Object> ids) {
         final Iterator<Object> iterator = ids.iterator();
         Object id = iterator.next();
@@ -460,6 +535,130 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    public class TinkerGraphStatistics implements Statistics {
+
+        // the number of vertices by the highest bit of their degree for each edge label, where zero degrees are not
+        // counted as they are the vertices that are left over
+        private final Map<String, AtomicLongArray> outDegrees = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLongArray> inDegrees = new ConcurrentHashMap<>();
+        private final AtomicLongArray allOutDegrees = new AtomicLongArray(Long.SIZE);
+        private final AtomicLongArray allInDegrees = new AtomicLongArray(Long.SIZE);
+        private final LongAdder changes = new LongAdder();
+
+        private TinkerGraphStatistics() {
+        }
+
+        /**
+         * Gets the number of changes to the elements, their indexed values and the indices of the graph, which are
+         * what the statistics are read from.
+         */
+        @Override
+        public long version() {
+            return this.changes.sum();
+        }
+
+        @Override
+        public long count(final Class<? extends Element> elementClass, final String label) {
+            if (Vertex.class.isAssignableFrom(elementClass))
+                return null == label ? vertices.size() : vertexLabels.getOrDefault(label, Collections.emptySet()).size();
+            else
+                return null == label ? edges.size() : edgeLabels.getOrDefault(label, Collections.emptySet()).size();
+        }
+
+        /**
+         * Gets the degree distribution of the vertices in the graph with degrees grouped by their highest bit, so
+         * that the ranges are zero, one, two to three, four to seven and so on. The distribution is kept up to date
+         * as edges are added and removed. It is only known for the {@link Direction#OUT} and {@link Direction#IN}
+         * directions.
+         */
+        @Override
+        public Map<Long, Long> degreeDistribution(final Direction direction, final String edgeLabel) {
+            if (Direction.BOTH == direction)
+                return Collections.emptyMap();
+            final AtomicLongArray buckets = null == edgeLabel ?
+                    (Direction.OUT == direction ? this.allOutDegrees : this.allInDegrees) :
+                    (Direction.OUT == direction ? this.outDegrees : this.inDegrees).get(edgeLabel);
+            long connected = 0L;
+            for (int i = 1; null != buckets && i < buckets.length(); i++) {
+                connected = connected + buckets.get(i);
+            }
+            final Map<Long, Long> distribution = new LinkedHashMap<>();
+            distribution.put(0L, Math.max(0L, vertices.size() - connected));
+            for (int i = 1; null != buckets && i < buckets.length(); i++) {
+                final long count = buckets.get(i);
+                if (count > 0L)
+                    distribution.put(1L << (i - 1), count);
+            }
+            return distribution;
+        }
+
+        /**
+         * Gets the histogram of a key from its index, so it is only known for indexed keys.
+         */
+        @Override
+        public Map<Object, Long> histogram(final Class<? extends Element> elementClass, final String key) {
+            final TinkerIndex<?> index = Vertex.class.isAssignableFrom(elementClass) ? vertexIndex : edgeIndex;
+            return null == index ? Collections.emptyMap() : index.getValueCounts(key);
+        }
+
+        @Override
+        public Map<String, Set<String>> indexedKeys(final Class<? extends Element> elementClass) {
+            final Set<String> keys = getIndexedKeys(elementClass);
+            return keys.isEmpty() ? Collections.emptyMap() : Collections.singletonMap(null, Collections.unmodifiableSet(keys));
+        }
+
+        /**
+         * Updates the degree distribution for an edge that was added to, or removed from, the adjacency of its
+         * vertices.
+         */
+        void updateDegrees(final TinkerEdge edge, final int change) {
+            this.changed();
+            if (null != edge.outVertex)
+                updateDegrees(((TinkerVertex) edge.outVertex).outEdges, edge.label(), this.outDegrees, this.allOutDegrees, change);
+            if (null != edge.inVertex)
+                updateDegrees(((TinkerVertex) edge.inVertex).inEdges, edge.label(), this.inDegrees, this.allInDegrees, change);
+        }
+
+        void changed() {
+            this.changes.increment();
+        }
+
+        void clear() {
+            this.changed();
+            this.outDegrees.clear();
+            this.inDegrees.clear();
+            for (int i = 0; i < Long.SIZE; i++) {
+                this.allOutDegrees.set(i, 0L);
+                this.allInDegrees.set(i, 0L);
+            }
+        }
+
+        private void updateDegrees(final Map<String, Collection<Edge>> adjacency, final String label,
+                                   final Map<String, AtomicLongArray> degrees, final AtomicLongArray allDegrees,
+                                   final int change) {
+            if (null == adjacency)
+                return;
+            // the adjacency already holds the change so the degree before it is worked out from the degree after it
+            final Collection<Edge> edges = adjacency.get(label);
+            final long degree = null == edges ? 0L : edges.size();
+            moveDegree(degrees.computeIfAbsent(label, k -> new AtomicLongArray(Long.SIZE)), degree - change, degree);
+            long allDegree = 0L;
+            for (final Collection<Edge> labeledEdges : adjacency.values()) {
+                allDegree = allDegree + labeledEdges.size();
+            }
+            moveDegree(allDegrees, allDegree - change, allDegree);
+        }
+
+        private void moveDegree(final AtomicLongArray buckets, final long from, final long to) {
+            final int fromBucket = Long.SIZE - Long.numberOfLeadingZeros(from);
+            final int toBucket = Long.SIZE - Long.numberOfLeadingZeros(to);
+            if (fromBucket != toBucket) {
+                if (fromBucket > 0) buckets.decrementAndGet(fromBucket);
+                if (toBucket > 0) buckets.incrementAndGet(toBucket);
+            }
+        }
+    }
+
     ///////////// GRAPH SPECIFIC INDEXING METHODS ///////////////
 
     /**
@@ -472,12 +671,27 @@ public final class TinkerGraph implements Graph {
      * @param <E>          The type of the element class
      */
     public <E extends Element> void createIndex(final String key, final Class<E> elementClass) {
+        createIndex(key, elementClass, IndexType.HASH);
+    }
+
+    /**
+     * Create an index of the specified {@link IndexType} for said element class ({@link Vertex} or {@link Edge}) and
+     * said property key. An {@link IndexType#ORDERED} index keeps its values sorted so that it can answer range
+     * predicates like {@code gt()}, {@code lt()} and {@code between()} in addition to equality and {@code within()}.
+     * If the key is already indexed with a different {@link IndexType} the existing index is rebuilt.
+     *
+     * @param key          the property key to index
+     * @param elementClass the element class to index
+     * @param indexType    the type of index to create
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final String key, final Class<E> elementClass, final IndexType indexType) {
         if (Vertex.class.isAssignableFrom(elementClass)) {
             if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
-            this.vertexIndex.createKeyIndex(key);
+            this.vertexIndex.createKeyIndex(key, indexType);
         } else if (Edge.class.isAssignableFrom(elementClass)) {
             if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
-            this.edgeIndex.createKeyIndex(key);
+            this.edgeIndex.createKeyIndex(key, indexType);
         } else {
             throw new IllegalArgumentException("Class is not indexable: " + elementClass);
         }
@@ -517,6 +731,153 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Create a composite index for said element class ({@link Vertex} or {@link Edge}) over two or more keys. The
+     * index is used when a traversal has an equality check on each of its keys, e.g. {@code has("tenantId", 1)
+     * .has("externalId", "x")}. To scope a composite index by label, include {@link T#label} as one of the keys by
+     * way of {@code T.label.getAccessor()}. Vertices with multiple values for a key are indexed under each value.
+     *
+     * @param elementClass the element class to index
+     * @param keys         the property keys to index together
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createCompositeIndex(final Class<E> elementClass, final String... keys) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
+            this.vertexIndex.createCompositeIndex(Arrays.asList(keys));
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
+            this.edgeIndex.createCompositeIndex(Arrays.asList(keys));
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Drop the composite index for the specified element class ({@link Vertex} or {@link Edge}) and keys.
+     *
+     * @param elementClass the element class of the index to drop
+     * @param keys         the property keys of the composite index in the order they were created with
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void dropCompositeIndex(final Class<E> elementClass, final String... keys) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null != this.vertexIndex) this.vertexIndex.dropCompositeIndex(Arrays.asList(keys));
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null != this.edgeIndex) this.edgeIndex.dropCompositeIndex(Arrays.asList(keys));
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return the keys of all the composite indices currently defined for said element class ({@link Vertex} or
+     * {@link Edge}).
+     *
+     * @param elementClass the element class to get the composite indices for
+     * @param <E>          The type of the element class
+     * @return the set of key lists currently being indexed together
+     */
+    public <E extends Element> Set<List<String>> getCompositeIndexes(final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? Collections.emptySet() : this.vertexIndex.getCompositeIndexes();
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? Collections.emptySet() : this.edgeIndex.getCompositeIndexes();
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return the {@link IndexType} of the index on the key for said element class ({@link Vertex} or {@link Edge}).
+     *
+     * @param key          the property key of the index
+     * @param elementClass the element class to get the index type for
+     * @param <E>          The type of the element class
+     * @return the type of the index or {@code null} if the key is not indexed
+     */
+    public <E extends Element> IndexType getIndexType(final String key, final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? null : this.vertexIndex.getIndexType(key);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? null : this.edgeIndex.getIndexType(key);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return the number of entries held by the index on the key for said element class ({@link Vertex} or
+     * {@link Edge}), which is the number of elements that have a value for the key unless some elements have more
+     * than one value for it.
+     *
+     * @param key          the property key of the index
+     * @param elementClass the element class to get the count for
+     * @param <E>          The type of the element class
+     * @return the number of entries in the index or {@code 0} if the key is not indexed
+     */
+    public <E extends Element> long getIndexElementCount(final String key, final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? 0 : this.vertexIndex.getElementCount(key);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? 0 : this.edgeIndex.getElementCount(key);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return the number of distinct values held by the index on the key for said element class ({@link Vertex} or
+     * {@link Edge}).
+     *
+     * @param key          the property key of the index
+     * @param elementClass the element class to get the count for
+     * @param <E>          The type of the element class
+     * @return the number of distinct values in the index or {@code 0} if the key is not indexed
+     */
+    public <E extends Element> long getIndexValueCount(final String key, final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? 0 : this.vertexIndex.getValueCount(key);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? 0 : this.edgeIndex.getValueCount(key);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * The types of index that can be created with {@link #createIndex(String, Class, IndexType)}.
+     */
+    public enum IndexType {
+        /**
+         * A hash based index that can answer equality and {@code within()} lookups.
+         */
+        HASH,
+
+        /**
+         * A sorted index that can answer equality, {@code within()} and range lookups such as {@code gt()},
+         * {@code gte()}, {@code lt()}, {@code lte()} and {@code between()}.
+         */
+        ORDERED
+    }
+
+    /**
+     * The ways in which a {@link TinkerVertex} can hold its incident edges as configured by
+     * {@link #GREMLIN_TINKERGRAPH_ADJACENCY_STORAGE}.
+     */
+    public enum AdjacencyStorage {
+        /**
+         * Edges are grouped by label into hash sets which allows for constant time edge removal.
+         */
+        HASH,
+
+        /**
+         * Edges are grouped by label into arrays which need far less memory per edge but make edge removal linear
+         * in the number of edges a vertex has for the label of the removed edge.
+         */
+        COMPACT
+    }
+
     /**
      * Construct an {@link TinkerGraph.IdManager} from the TinkerGraph {@code Configuration}.
      */
@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.io.IoCore;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.KryoException;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An append-only log of the mutations made to a {@link TinkerGraph} that is kept beside the file at the
+ * {@link TinkerGraph#GREMLIN_TINKERGRAPH_GRAPH_LOCATION} when {@link TinkerGraph#GREMLIN_TINKERGRAPH_GRAPH_LOG} is
+ * enabled. Each mutation is written as a record as it happens and the log is replayed over the persisted graph when
+ * the graph is opened. If the number of records has reached the configured threshold when the graph is opened or
+ * closed, the graph is written to its location and the log is started over. Compaction is left to those points so
+ * that a mutation never pays for writing the whole graph.
+ * <p/>
+ * Replaying a record that is already reflected in the graph leaves the graph unchanged, so a failure between writing
+ * the graph and truncating the log is recovered by replaying the log again.
+ */
+final class TinkerGraphLog {
+
+    private static final byte ADD_VERTEX = 1;
+    private static final byte ADD_EDGE = 2;
+    private static final byte VERTEX_PROPERTY = 3;
+    private static final byte META_PROPERTY = 4;
+    private static final byte EDGE_PROPERTY = 5;
+    private static final byte REMOVE_VERTEX = 6;
+    private static final byte REMOVE_EDGE = 7;
+    private static final byte REMOVE_VERTEX_PROPERTY = 8;
+    private static final byte REMOVE_META_PROPERTY = 9;
+    private static final byte REMOVE_EDGE_PROPERTY = 10;
+    private static final byte CLEAR = 11;
+
+    private final TinkerGraph graph;
+    private final File file;
+    private final long compactionThreshold;
+    private final Kryo kryo;
+
+    private Output output = null;
+    private long records = 0;
+
+    TinkerGraphLog(final TinkerGraph graph, final File file, final long compactionThreshold) {
+        this.graph = graph;
+        this.file = file;
+        this.compactionThreshold = compactionThreshold;
+        this.kryo = graph.io(IoCore.gryo()).mapper().create().createMapper();
+    }
+
+    /**
+     * Applies the records of the log to the graph. A record that was only partially written is discarded along with
+     * anything that follows it.
+     */
+    void replay() throws IOException {
+        if (!this.file.exists()) return;
+        long valid = 0;
+        try (final Input input = new Input(new FileInputStream(this.file))) {
+            while (!input.eof()) {
+                this.apply(input);
+                valid = input.total();
+                this.records++;
+            }
+        } catch (KryoException ke) {
+            // the tail of the log was not completely written
+        }
+
+        if (valid < this.file.length()) {
+            try (final RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+                raf.setLength(valid);
+            }
+        }
+
+        this.compactIfNeeded();
+    }
+
+    synchronized void addVertex(final Vertex vertex) {
+        final Output output = this.output();
+        output.writeByte(ADD_VERTEX);
+        this.kryo.writeClassAndObject(output, vertex.id());
+        output.writeString(vertex.label());
+        this.written();
+    }
+
+    /**
+     * Writes the edge along with its properties as they are attached to the edge before it is added to the graph.
+     */
+    synchronized void addEdge(final Edge edge) {
+        final Output output = this.output();
+        output.writeByte(ADD_EDGE);
+        this.kryo.writeClassAndObject(output, edge.id());
+        output.writeString(edge.label());
+        this.kryo.writeClassAndObject(output, edge.outVertex().id());
+        this.kryo.writeClassAndObject(output, edge.inVertex().id());
+        final List<Property> properties = new ArrayList<>();
+        edge.properties().forEachRemaining(properties::add);
+        output.writeInt(properties.size(), true);
+        for (final Property property : properties) {
+            output.writeString(property.key());
+            this.kryo.writeClassAndObject(output, property.value());
+        }
+        this.written();
+    }
+
+    synchronized void vertexProperty(final VertexProperty.Cardinality cardinality, final VertexProperty vertexProperty) {
+        final Output output = this.output();
+        output.writeByte(VERTEX_PROPERTY);
+        this.kryo.writeClassAndObject(output, vertexProperty.element().id());
+        output.writeString(cardinality.name());
+        output.writeString(vertexProperty.key());
+        this.kryo.writeClassAndObject(output, vertexProperty.value());
+        this.kryo.writeClassAndObject(output, vertexProperty.id());
+        this.written();
+    }
+
+    synchronized void metaProperty(final VertexProperty vertexProperty, final String key, final Object value) {
+        final Output output = this.output();
+        output.writeByte(META_PROPERTY);
+        this.kryo.writeClassAndObject(output, vertexProperty.element().id());
+        this.kryo.writeClassAndObject(output, vertexProperty.id());
+        output.writeString(key);
+        this.kryo.writeClassAndObject(output, value);
+        this.written();
+    }
+
+    synchronized void edgeProperty(final Edge edge, final String key, final Object value) {
+        final Output output = this.output();
+        output.writeByte(EDGE_PROPERTY);
+        this.kryo.writeClassAndObject(output, edge.id());
+        output.writeString(key);
+        this.kryo.writeClassAndObject(output, value);
+        this.written();
+    }
+
+    synchronized void removeVertex(final Vertex vertex) {
+        final Output output = this.output();
+        output.writeByte(REMOVE_VERTEX);
+        this.kryo.writeClassAndObject(output, vertex.id());
+        this.written();
+    }
+
+    synchronized void removeEdge(final Edge edge) {
+        final Output output = this.output();
+        output.writeByte(REMOVE_EDGE);
+        this.kryo.writeClassAndObject(output, edge.id());
+        this.written();
+    }
+
+    synchronized void removeVertexProperty(final VertexProperty vertexProperty) {
+        final Output output = this.output();
+        output.writeByte(REMOVE_VERTEX_PROPERTY);
+        this.kryo.writeClassAndObject(output, vertexProperty.element().id());
+        this.kryo.writeClassAndObject(output, vertexProperty.id());
+        this.written();
+    }
+
+    synchronized void removeMetaProperty(final VertexProperty vertexProperty, final String key) {
+        final Output output = this.output();
+        output.writeByte(REMOVE_META_PROPERTY);
+        this.kryo.writeClassAndObject(output, vertexProperty.element().id());
+        this.kryo.writeClassAndObject(output, vertexProperty.id());
+        output.writeString(key);
+        this.written();
+    }
+
+    synchronized void removeEdgeProperty(final Edge edge, final String key) {
+        final Output output = this.output();
+        output.writeByte(REMOVE_EDGE_PROPERTY);
+        this.kryo.writeClassAndObject(output, edge.id());
+        output.writeString(key);
+        this.written();
+    }
+
+    synchronized void clear() {
+        this.output().writeByte(CLEAR);
+        this.written();
+    }
+
+    /**
+     * Flushes and closes the log file, which is opened again on the next mutation, and compacts the log if it has
+     * grown past its threshold.
+     */
+    synchronized void close() {
+        this.closeOutput();
+        this.compactIfNeeded();
+    }
+
+    /**
+     * Writes the graph to its location and starts the log over once the log has grown past its threshold. The graph
+     * replaces the persisted one atomically and the log is only removed after that, so a failure at any point leaves
+     * a persisted graph and a log that together hold every mutation. The lock on the log is held throughout so that
+     * no mutation is written to the log after the graph is written and before the log is removed.
+     */
+    private synchronized void compactIfNeeded() {
+        if (this.records < this.compactionThreshold) return;
+
+        this.closeOutput();
+        this.graph.saveGraph(true);
+        this.file.delete();
+        this.records = 0;
+    }
+
+    private void closeOutput() {
+        if (null != this.output) {
+            this.output.close();
+            this.output = null;
+        }
+    }
+
+    private Output output() {
+        if (null == this.output) {
+            try {
+                this.output = new Output(new FileOutputStream(this.file, true));
+            } catch (IOException ioe) {
+                throw new IllegalStateException(String.format("Could not open the log at %s", this.file), ioe);
+            }
+        }
+        return this.output;
+    }
+
+    /**
+     * Hands the completed record to the operating system so that it survives the process.
+     */
+    private void written() {
+        this.output.flush();
+        this.records++;
+    }
+
+    private void apply(final Input input) {
+        final byte type = input.readByte();
+        switch (type) {
+            case ADD_VERTEX: {
+                final Object id = this.kryo.readClassAndObject(input);
+                final String label = input.readString();
+                if (!this.graph.vertices.containsKey(id))
+                    this.graph.addVertex(T.id, id, T.label, label);
+                break;
+            }
+            case ADD_EDGE: {
+                final Object id = this.kryo.readClassAndObject(input);
+                final String label = input.readString();
+                final Vertex outVertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final Vertex inVertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final int size = input.readInt(true);
+                final Object[] keyValues = new Object[2 + size * 2];
+                keyValues[0] = T.id;
+                keyValues[1] = id;
+                for (int i = 0; i < size; i++) {
+                    keyValues[2 + i * 2] = input.readString();
+                    keyValues[3 + i * 2] = this.kryo.readClassAndObject(input);
+                }
+                if (null != outVertex && null != inVertex && !this.graph.edges.containsKey(id))
+                    outVertex.addEdge(label, inVertex, keyValues);
+                break;
+            }
+            case VERTEX_PROPERTY: {
+                final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final VertexProperty.Cardinality cardinality = VertexProperty.Cardinality.valueOf(input.readString());
+                final String key = input.readString();
+                final Object value = this.kryo.readClassAndObject(input);
+                final Object id = this.kryo.readClassAndObject(input);
+                if (null != vertex) {
+                    final VertexProperty existing = this.vertexProperty(vertex, id);
+                    if (null != existing) existing.remove();
+                    vertex.property(cardinality, key, value, T.id, id);
+                }
+                break;
+            }
+            case META_PROPERTY: {
+                final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final Object id = this.kryo.readClassAndObject(input);
+                final String key = input.readString();
+                final Object value = this.kryo.readClassAndObject(input);
+                final VertexProperty vertexProperty = null == vertex ? null : this.vertexProperty(vertex, id);
+                if (null != vertexProperty) vertexProperty.property(key, value);
+                break;
+            }
+            case EDGE_PROPERTY: {
+                final Edge edge = this.graph.edges.get(this.kryo.readClassAndObject(input));
+                final String key = input.readString();
+                final Object value = this.kryo.readClassAndObject(input);
+                if (null != edge) edge.property(key, value);
+                break;
+            }
+            case REMOVE_VERTEX: {
+                final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                if (null != vertex) vertex.remove();
+                break;
+            }
+            case REMOVE_EDGE: {
+                final Edge edge = this.graph.edges.get(this.kryo.readClassAndObject(input));
+                if (null != edge) edge.remove();
+                break;
+            }
+            case REMOVE_VERTEX_PROPERTY: {
+                final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final Object id = this.kryo.readClassAndObject(input);
+                final VertexProperty vertexProperty = null == vertex ? null : this.vertexProperty(vertex, id);
+                if (null != vertexProperty) vertexProperty.remove();
+                break;
+            }
+            case REMOVE_META_PROPERTY: {
+                final Vertex vertex = this.graph.vertices.get(this.kryo.readClassAndObject(input));
+                final Object id = this.kryo.readClassAndObject(input);
+                final String key = input.readString();
+                final VertexProperty vertexProperty = null == vertex ? null : this.vertexProperty(vertex, id);
+                if (null != vertexProperty) vertexProperty.property(key).remove();
+                break;
+            }
+            case REMOVE_EDGE_PROPERTY: {
+                final Edge edge = this.graph.edges.get(this.kryo.readClassAndObject(input));
+                final String key = input.readString();
+                if (null != edge) edge.property(key).remove();
+                break;
+            }
+            case CLEAR:
+                this.graph.clear();
+                break;
+            default:
+                throw new KryoException(String.format("Unknown log record type %s", type));
+        }
+    }
+
+    private VertexProperty vertexProperty(final Vertex vertex, final Object id) {
+        final Iterator<VertexProperty<Object>> properties = vertex.properties();
+        while (properties.hasNext()) {
+            final VertexProperty<Object> vertexProperty = properties.next();
+            if (vertexProperty.id().equals(id))
+                return vertexProperty;
+        }
+        return null;
+    }
+}
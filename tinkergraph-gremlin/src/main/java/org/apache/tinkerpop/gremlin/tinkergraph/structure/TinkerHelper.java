@@ -20,15 +20,23 @@ package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -64,32 +73,114 @@ public final class TinkerHelper {
         edge = new TinkerEdge(idValue, outVertex, label, inVertex);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
+        TinkerHelper.addLabelIndex(graph.edgeLabels, edge);
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
+        graph.statistics.updateDegrees((TinkerEdge) edge, 1);
+        if (null != graph.log) graph.log.addEdge(edge);
         return edge;
 
     }
 
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.outEdges) vertex.outEdges = new HashMap<>();
-        Set<Edge> edges = vertex.outEdges.get(label);
+        if (null == vertex.outEdges) vertex.outEdges = createAdjacency((TinkerGraph) vertex.graph());
+        Collection<Edge> edges = vertex.outEdges.get(label);
         if (null == edges) {
-            edges = new HashSet<>();
+            edges = createEdges((TinkerGraph) vertex.graph());
             vertex.outEdges.put(label, edges);
         }
         edges.add(edge);
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.inEdges) vertex.inEdges = new HashMap<>();
-        Set<Edge> edges = vertex.inEdges.get(label);
+        if (null == vertex.inEdges) vertex.inEdges = createAdjacency((TinkerGraph) vertex.graph());
+        Collection<Edge> edges = vertex.inEdges.get(label);
         if (null == edges) {
-            edges = new HashSet<>();
+            edges = createEdges((TinkerGraph) vertex.graph());
             vertex.inEdges.put(label, edges);
         }
         edges.add(edge);
     }
 
+    /**
+     * Creates the label to edges map of a vertex where {@link TinkerGraph.AdjacencyStorage#COMPACT} starts with the
+     * smallest possible table given that most vertices only have edges with a few labels.
+     */
+    private static Map<String, Collection<Edge>> createAdjacency(final TinkerGraph graph) {
+        return graph.adjacencyStorage == TinkerGraph.AdjacencyStorage.COMPACT ? new HashMap<>(1) : new HashMap<>();
+    }
+
+    private static Collection<Edge> createEdges(final TinkerGraph graph) {
+        return graph.adjacencyStorage == TinkerGraph.AdjacencyStorage.COMPACT ? new TinkerEdgeArray() : new HashSet<>();
+    }
+
+    protected static <E extends Element> void addLabelIndex(final Map<String, Set<E>> labels, final E element) {
+        labels.compute(element.label(), (label, elements) -> {
+            if (null == elements) elements = ConcurrentHashMap.newKeySet();
+            elements.add(element);
+            return elements;
+        });
+    }
+
+    protected static <E extends Element> void removeLabelIndex(final Map<String, Set<E>> labels, final E element) {
+        labels.computeIfPresent(element.label(), (label, elements) -> {
+            elements.remove(element);
+            return elements.isEmpty() ? null : elements;
+        });
+    }
+
+    public static Iterator<Vertex> queryVertexLabelIndex(final TinkerGraph graph, final Set<String> labels) {
+        return IteratorUtils.flatMap(labels.iterator(), label -> graph.vertexLabels.getOrDefault(label, Collections.emptySet()).iterator());
+    }
+
+    public static Iterator<Edge> queryEdgeLabelIndex(final TinkerGraph graph, final Set<String> labels) {
+        return IteratorUtils.flatMap(labels.iterator(), label -> graph.edgeLabels.getOrDefault(label, Collections.emptySet()).iterator());
+    }
+
+    /**
+     * Gets the labels that elements must have to satisfy the equality and {@code within()} checks on
+     * {@link T#label} in the {@link HasContainer}s or {@code null} if there are no such checks.
+     */
+    public static Set<String> getLabels(final List<HasContainer> hasContainers) {
+        Set<String> labels = null;
+        for (final HasContainer hasContainer : hasContainers) {
+            if (!hasContainer.getKey().equals(T.label.getAccessor()))
+                continue;
+
+            final Set<String> allowed = new HashSet<>();
+            if (hasContainer.getBiPredicate() == Compare.eq && hasContainer.getValue() instanceof String)
+                allowed.add((String) hasContainer.getValue());
+            else if (hasContainer.getBiPredicate() == Contains.within && hasContainer.getValue() instanceof Collection) {
+                for (final Object value : (Collection<?>) hasContainer.getValue()) {
+                    if (value instanceof String) allowed.add((String) value);
+                }
+            } else if (hasContainer.getBiPredicate() != Compare.eq)
+                continue;
+
+            if (null == labels)
+                labels = allowed;
+            else
+                labels.retainAll(allowed);
+        }
+        return labels;
+    }
+
+    public static long countVertexLabelIndex(final TinkerGraph graph, final Set<String> labels) {
+        long count = 0;
+        for (final String label : labels) {
+            count += graph.vertexLabels.getOrDefault(label, Collections.emptySet()).size();
+        }
+        return count;
+    }
+
+    public static long countEdgeLabelIndex(final TinkerGraph graph, final Set<String> labels) {
+        long count = 0;
+        for (final String label : labels) {
+            count += graph.edgeLabels.getOrDefault(label, Collections.emptySet()).size();
+        }
+        return count;
+    }
+
     public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value) {
         return null == graph.vertexIndex ? Collections.emptyList() : graph.vertexIndex.get(key, value);
     }
@@ -98,6 +189,59 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final List<P<?>> predicates) {
+        return null == graph.vertexIndex ? Collections.emptyList() : graph.vertexIndex.get(key, predicates);
+    }
+
+    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final String key, final List<P<?>> predicates) {
+        return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, predicates);
+    }
+
+    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final Map<String, Object> equalities) {
+        return null == graph.vertexIndex ? null : graph.vertexIndex.get(equalities);
+    }
+
+    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final Map<String, Object> equalities) {
+        return null == graph.edgeIndex ? null : graph.edgeIndex.get(equalities);
+    }
+
+    public static boolean canQueryIndex(final TinkerGraph graph, final Class<? extends Element> elementClass, final String key, final P<?> predicate) {
+        final TinkerIndex<?> index = Vertex.class.isAssignableFrom(elementClass) ? graph.vertexIndex : graph.edgeIndex;
+        return null != index && index.canQuery(key, predicate);
+    }
+
+    /**
+     * Estimates the number of elements an index lookup for a predicate accepted by
+     * {@link #canQueryIndex(TinkerGraph, Class, String, P)} returns. Equality and {@code within()} lookups are counted
+     * exactly while a range lookup is bounded by the number of entries in the index of the key.
+     */
+    public static long estimateIndex(final TinkerGraph graph, final Class<? extends Element> elementClass, final String key, final P<?> predicate) {
+        final TinkerIndex<?> index = Vertex.class.isAssignableFrom(elementClass) ? graph.vertexIndex : graph.edgeIndex;
+        if (null == index)
+            return 0;
+        else if (predicate.getBiPredicate() == Compare.eq)
+            return index.count(key, predicate.getValue());
+        else if (predicate.getBiPredicate() == Contains.within) {
+            long count = 0;
+            for (final Object value : (Collection<?>) predicate.getValue()) {
+                count += index.count(key, value);
+            }
+            return count;
+        } else
+            return index.getElementCount(key);
+    }
+
+    /**
+     * Determines if the {@link TinkerVertexProperty} is held by its vertex as opposed to one that is still being
+     * constructed or that belongs to the {@link TinkerGraphComputerView}.
+     */
+    protected static boolean isAttached(final TinkerVertexProperty vertexProperty) {
+        final TinkerVertex vertex = (TinkerVertex) vertexProperty.element();
+        if (null == vertex.properties) return false;
+        final List<VertexProperty> list = vertex.properties.get(vertexProperty.key());
+        return null != list && list.contains(vertexProperty);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
@@ -145,13 +289,31 @@ public final class TinkerHelper {
     public static void removeIndex(final TinkerVertex vertex, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) vertex.graph();
         if (graph.vertexIndex != null)
-            graph.vertexIndex.remove(key, value, vertex);
+            graph.vertexIndex.autoRemove(key, value, vertex);
     }
 
     public static void removeIndex(final TinkerEdge edge, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) edge.graph();
         if (graph.edgeIndex != null)
-            graph.edgeIndex.remove(key, value, edge);
+            graph.edgeIndex.autoRemove(key, value, edge);
+    }
+
+    /**
+     * Gets the number of edges incident to the vertex without materializing them.
+     */
+    public static int getDegree(final TinkerVertex vertex) {
+        int degree = 0;
+        if (null != vertex.outEdges) {
+            for (final Collection<Edge> edges : vertex.outEdges.values()) {
+                degree = degree + edges.size();
+            }
+        }
+        if (null != vertex.inEdges) {
+            for (final Collection<Edge> edges : vertex.inEdges.values()) {
+                degree = degree + edges.size();
+            }
+        }
+        return degree;
     }
 
     public static Iterator<TinkerEdge> getEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
@@ -188,7 +350,7 @@ public final class TinkerHelper {
                 else if (edgeLabels.length == 1)
                     vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
                 else
-                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
+                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).flatMap(Collection::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
             }
         }
         if (direction.equals(Direction.IN) || direction.equals(Direction.BOTH)) {
@@ -198,7 +360,7 @@ public final class TinkerHelper {
                 else if (edgeLabels.length == 1)
                     vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
                 else
-                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
+                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).flatMap(Collection::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
             }
         }
         return (Iterator) vertices.iterator();
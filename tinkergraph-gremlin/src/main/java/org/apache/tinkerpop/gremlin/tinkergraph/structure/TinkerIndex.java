@@ -18,27 +18,48 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerIndex<T extends Element> {
 
+    private static final String LABEL_KEY = org.apache.tinkerpop.gremlin.structure.T.label.getAccessor();
+
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
+    protected Map<String, NavigableMap<Object, Set<T>>> orderedIndex = new ConcurrentHashMap<>();
+    protected Map<List<String>, Map<List<Object>, Set<T>>> compositeIndex = new ConcurrentHashMap<>();
+    private final Map<List<String>, Map<T, List<List<Object>>>> compositeEntries = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
-    private final Set<String> indexedKeys = new HashSet<>();
+    private final Map<String, TinkerGraph.IndexType> indexedKeys = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> elementCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> valueCounts = new ConcurrentHashMap<>();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
@@ -46,36 +67,137 @@ final class TinkerIndex<T extends Element> {
         this.indexClass = indexClass;
     }
 
+    /**
+     * Adds the element to the index under the value. This method may be called concurrently, which is how
+     * {@link #createKeyIndex(String, TinkerGraph.IndexType)} builds an index.
+     */
     protected void put(final String key, final Object value, final T element) {
-        Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (keyMap == null) {
-            keyMap = new ConcurrentHashMap<>();
-            this.index.put(key, keyMap);
-        }
+        final Map<Object, Set<T>> keyMap = isOrdered(key, value) ?
+                this.orderedIndex.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>(TinkerIndex::compareValues)) :
+                this.index.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
         Set<T> objects = keyMap.get(value);
         if (null == objects) {
-            objects = new HashSet<>();
-            keyMap.put(value, objects);
+            final Set<T> created = ConcurrentHashMap.newKeySet();
+            objects = keyMap.putIfAbsent(value, created);
+            if (null == objects) {
+                objects = created;
+                counter(this.valueCounts, key).increment();
+            }
+        }
+        if (objects.add(element)) {
+            counter(this.elementCounts, key).increment();
+            this.graph.statistics.changed();
         }
-        objects.add(element);
-
     }
 
     public List<T> get(final String key, final Object value) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (null == keyMap) {
+        final Set<T> set = this.getSet(key, value);
+        return set.isEmpty() ? Collections.emptyList() : new ArrayList<>(set);
+    }
+
+    /**
+     * Gets the elements of the most selective single key or composite index that can answer the specified equality
+     * lookups, where selectivity is measured by the number of elements the index holds for the looked up values.
+     * Returns {@code null} if none of the indices cover the keys.
+     */
+    public List<T> get(final Map<String, Object> equalities) {
+        Set<T> selected = null;
+        for (final Map.Entry<String, Object> equality : equalities.entrySet()) {
+            if (this.indexedKeys.containsKey(equality.getKey())) {
+                final Set<T> set = this.getSet(equality.getKey(), equality.getValue());
+                if (null == selected || set.size() < selected.size())
+                    selected = set;
+            }
+        }
+
+        for (final Map.Entry<List<String>, Map<List<Object>, Set<T>>> entry : this.compositeIndex.entrySet()) {
+            if (equalities.keySet().containsAll(entry.getKey())) {
+                final List<Object> values = new ArrayList<>(entry.getKey().size());
+                for (final String key : entry.getKey()) {
+                    values.add(equalities.get(key));
+                }
+                final Set<T> set = entry.getValue().getOrDefault(values, Collections.emptySet());
+                if (null == selected || set.size() < selected.size())
+                    selected = set;
+            }
+        }
+
+        return null == selected ? null : new ArrayList<>(selected);
+    }
+
+    /**
+     * Gets the elements that satisfy the specified predicates on the key. Only predicates for which
+     * {@link #canQuery(String, P)} returns {@code true} should be provided. The returned list may contain elements
+     * that do not satisfy the predicates (e.g. numbers of a different type that compare equal) so results should
+     * still be filtered by the caller.
+     */
+    public List<T> get(final String key, final List<P<?>> predicates) {
+        for (final P<?> predicate : predicates) {
+            if (predicate.getBiPredicate() == Compare.eq)
+                return this.get(key, predicate.getValue());
+        }
+
+        for (final P<?> predicate : predicates) {
+            if (predicate.getBiPredicate() == Contains.within) {
+                final Set<T> elements = new LinkedHashSet<>();
+                for (final Object value : (Collection<?>) predicate.getValue()) {
+                    elements.addAll(this.get(key, value));
+                }
+                return new ArrayList<>(elements);
+            }
+        }
+
+        Object lower = null;
+        boolean lowerInclusive = false;
+        Object upper = null;
+        boolean upperInclusive = false;
+        for (final P<?> predicate : predicates) {
+            final Object value = predicate.getValue();
+            final int lowerComparison = null == lower ? 1 : compareValues(value, lower);
+            final int upperComparison = null == upper ? -1 : compareValues(value, upper);
+            if (predicate.getBiPredicate() == Compare.gt && lowerComparison >= 0) {
+                lower = value;
+                lowerInclusive = false;
+            } else if (predicate.getBiPredicate() == Compare.gte && lowerComparison > 0) {
+                lower = value;
+                lowerInclusive = true;
+            } else if (predicate.getBiPredicate() == Compare.lt && upperComparison <= 0) {
+                upper = value;
+                upperInclusive = false;
+            } else if (predicate.getBiPredicate() == Compare.lte && upperComparison < 0) {
+                upper = value;
+                upperInclusive = true;
+            }
+        }
+
+        final NavigableMap<Object, Set<T>> keyMap = this.orderedIndex.get(key);
+        if (null == keyMap || (null == lower && null == upper))
             return Collections.emptyList();
-        } else {
-            Set<T> set = keyMap.get(value);
-            if (null == set)
+
+        final NavigableMap<Object, Set<T>> range;
+        if (null != lower && null != upper) {
+            if (compareValues(lower, upper) > 0)
                 return Collections.emptyList();
-            else
-                return new ArrayList<>(set);
+            range = keyMap.subMap(lower, lowerInclusive, upper, upperInclusive);
+        } else if (null != lower) {
+            range = keyMap.tailMap(lower, lowerInclusive);
+        } else {
+            range = keyMap.headMap(upper, upperInclusive).descendingMap();
         }
+
+        // values are grouped by type so stop at the first value that could not be compared to the bound itself
+        final Object bound = null == lower ? upper : lower;
+        final List<T> elements = new ArrayList<>();
+        for (final Map.Entry<Object, Set<T>> entry : range.entrySet()) {
+            if (!sameGroup(bound, entry.getKey()))
+                break;
+            elements.addAll(entry.getValue());
+        }
+        return elements;
     }
 
     public long count(final String key, final Object value) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
         if (null == keyMap) {
             return 0;
         } else {
@@ -88,50 +210,129 @@ final class TinkerIndex<T extends Element> {
     }
 
     public void remove(final String key, final Object value, final T element) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
         if (null != keyMap) {
             Set<T> objects = keyMap.get(value);
             if (null != objects) {
-                objects.remove(element);
-                if (objects.size() == 0) {
-                    keyMap.remove(value);
+                if (objects.remove(element)) {
+                    counter(this.elementCounts, key).decrement();
+                    this.graph.statistics.changed();
+                }
+                if (objects.size() == 0 && keyMap.remove(value, objects)) {
+                    counter(this.valueCounts, key).decrement();
                 }
             }
         }
     }
 
+    /**
+     * Removes the element from every index it is held by. The values of the element are always in step with the
+     * values it is indexed under, so they are used to find its entries rather than searching the index. This means
+     * that the element must still hold its properties when this method is called.
+     */
     public void removeElement(final T element) {
         if (this.indexClass.isAssignableFrom(element.getClass())) {
-            for (Map<Object, Set<T>> map : index.values()) {
-                for (Set<T> set : map.values()) {
-                    set.remove(element);
-                }
+            for (final String key : this.indexedKeys.keySet()) {
+                element.properties(key).forEachRemaining(property -> this.remove(key, property.value(), element));
+            }
+            for (List<String> keys : compositeIndex.keySet()) {
+                this.removeComposite(keys, element);
             }
         }
     }
 
+    /**
+     * Gets the number of entries in the index of the key, which is the number of elements the index holds unless
+     * elements have more than one value for the key.
+     */
+    public long getElementCount(final String key) {
+        final LongAdder count = this.elementCounts.get(key);
+        return null == count ? 0 : count.sum();
+    }
+
+    /**
+     * Gets the number of distinct values in the index of the key.
+     */
+    public long getValueCount(final String key) {
+        final LongAdder count = this.valueCounts.get(key);
+        return null == count ? 0 : count.sum();
+    }
+
+    /**
+     * Gets a live view of the number of elements the index of the key holds for each of its values, which is empty
+     * if the key is not indexed.
+     */
+    public Map<Object, Long> getValueCounts(final String key) {
+        if (!this.indexedKeys.containsKey(key))
+            return Collections.emptyMap();
+        return new AbstractMap<Object, Long>() {
+            @Override
+            public Long get(final Object value) {
+                if (null == value)
+                    return null;
+                final int count = getSet(key, value).size();
+                return 0 == count ? null : (long) count;
+            }
+
+            @Override
+            public boolean containsKey(final Object value) {
+                return null != this.get(value);
+            }
+
+            @Override
+            public int size() {
+                return (int) getValueCount(key);
+            }
+
+            @Override
+            public Set<Entry<Object, Long>> entrySet() {
+                return new AbstractSet<Entry<Object, Long>>() {
+                    @Override
+                    public int size() {
+                        return (int) getValueCount(key);
+                    }
+
+                    @Override
+                    public Iterator<Entry<Object, Long>> iterator() {
+                        return Stream.of(index.get(key), orderedIndex.get(key))
+                                .filter(Objects::nonNull)
+                                .flatMap(keyMap -> keyMap.entrySet().stream())
+                                .filter(entry -> !entry.getValue().isEmpty())
+                                .<Entry<Object, Long>>map(entry -> new SimpleImmutableEntry<>(entry.getKey(), (long) entry.getValue().size()))
+                                .iterator();
+                    }
+                };
+            }
+        };
+    }
+
     public void autoUpdate(final String key, final Object newValue, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key)) {
+        if (this.indexedKeys.containsKey(key)) {
             if (oldValue != null)
                 this.remove(key, oldValue, element);
             this.put(key, newValue, element);
         }
+        this.autoUpdateComposite(key, element);
     }
 
     public void autoRemove(final String key, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key))
+        if (this.indexedKeys.containsKey(key))
             this.remove(key, oldValue, element);
+        this.autoUpdateComposite(key, element);
     }
 
-    public void createKeyIndex(final String key) {
+    public void createKeyIndex(final String key, final TinkerGraph.IndexType indexType) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        if (null == indexType)
+            throw Graph.Exceptions.argumentCanNotBeNull("indexType");
 
-        if (this.indexedKeys.contains(key))
+        if (indexType == this.indexedKeys.get(key))
             return;
-        this.indexedKeys.add(key);
+        this.dropKeyIndex(key);
+        this.indexedKeys.put(key, indexType);
 
         (Vertex.class.isAssignableFrom(this.indexClass) ?
                 this.graph.vertices.values().<T>parallelStream() :
@@ -139,16 +340,213 @@ final class TinkerIndex<T extends Element> {
                 .map(e -> new Object[]{((T) e).property(key), e})
                 .filter(a -> ((Property) a[0]).isPresent())
                 .forEach(a -> this.put(key, ((Property) a[0]).value(), (T) a[1]));
+        // the key is now indexed even if no element has a value for it
+        this.graph.statistics.changed();
     }
 
     public void dropKeyIndex(final String key) {
         if (this.index.containsKey(key))
             this.index.remove(key).clear();
+        if (this.orderedIndex.containsKey(key))
+            this.orderedIndex.remove(key).clear();
 
         this.indexedKeys.remove(key);
+        this.elementCounts.remove(key);
+        this.valueCounts.remove(key);
+        this.graph.statistics.changed();
     }
 
     public Set<String> getIndexedKeys() {
-        return this.indexedKeys;
+        return this.indexedKeys.keySet();
+    }
+
+    public void createCompositeIndex(final List<String> keys) {
+        if (null == keys)
+            throw Graph.Exceptions.argumentCanNotBeNull("keys");
+        if (keys.size() < 2)
+            throw new IllegalArgumentException("A composite index requires at least two keys - use createIndex() for a single key");
+        if (keys.contains(null))
+            throw Graph.Exceptions.argumentCanNotBeNull("key");
+        if (keys.contains(""))
+            throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        if (new HashSet<>(keys).size() != keys.size())
+            throw new IllegalArgumentException("The keys for a composite index must be unique: " + keys);
+
+        final List<String> compositeKeys = Collections.unmodifiableList(new ArrayList<>(keys));
+        if (this.compositeIndex.containsKey(compositeKeys))
+            return;
+        this.compositeIndex.put(compositeKeys, new ConcurrentHashMap<>());
+        this.compositeEntries.put(compositeKeys, new ConcurrentHashMap<>());
+
+        (Vertex.class.isAssignableFrom(this.indexClass) ?
+                this.graph.vertices.values() :
+                this.graph.edges.values())
+                .forEach(e -> this.updateComposite(compositeKeys, (T) e));
+    }
+
+    public void dropCompositeIndex(final List<String> keys) {
+        if (this.compositeIndex.containsKey(keys))
+            this.compositeIndex.remove(keys).clear();
+        if (this.compositeEntries.containsKey(keys))
+            this.compositeEntries.remove(keys).clear();
+    }
+
+    public Set<List<String>> getCompositeIndexes() {
+        return this.compositeIndex.keySet();
+    }
+
+    public TinkerGraph.IndexType getIndexType(final String key) {
+        return this.indexedKeys.get(key);
+    }
+
+    /**
+     * Determines if the predicate can be answered by the index on the key. Equality and {@code within} lookups are
+     * supported by all index types, while range lookups require a {@link TinkerGraph.IndexType#ORDERED} index.
+     */
+    public boolean canQuery(final String key, final P<?> predicate) {
+        final TinkerGraph.IndexType indexType = this.indexedKeys.get(key);
+        if (null == indexType || null == predicate.getValue())
+            return false;
+
+        if (predicate.getBiPredicate() == Compare.eq)
+            return true;
+        else if (predicate.getBiPredicate() == Contains.within)
+            return predicate.getValue() instanceof Collection && !((Collection) predicate.getValue()).contains(null);
+        else
+            return indexType == TinkerGraph.IndexType.ORDERED && isOrderable(predicate.getValue()) &&
+                    (predicate.getBiPredicate() == Compare.gt || predicate.getBiPredicate() == Compare.gte ||
+                            predicate.getBiPredicate() == Compare.lt || predicate.getBiPredicate() == Compare.lte);
+    }
+
+    private Set<T> getSet(final String key, final Object value) {
+        final Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
+        if (null == keyMap)
+            return Collections.emptySet();
+        final Set<T> set = keyMap.get(value);
+        return null == set ? Collections.emptySet() : set;
+    }
+
+    private void autoUpdateComposite(final String key, final T element) {
+        for (final List<String> keys : this.compositeIndex.keySet()) {
+            if (keys.contains(key))
+                this.updateComposite(keys, element);
+        }
+    }
+
+    /**
+     * Re-indexes the element in the composite index by discarding the values it was last indexed under and
+     * indexing it under the combination of its current values.
+     */
+    private void updateComposite(final List<String> keys, final T element) {
+        this.removeComposite(keys, element);
+        final Map<List<Object>, Set<T>> keyMap = this.compositeIndex.get(keys);
+        final Map<T, List<List<Object>>> entries = this.compositeEntries.get(keys);
+        if (null == keyMap || null == entries)
+            return;
+
+        final List<List<Object>> combinations = compositeValues(keys, element);
+        if (!combinations.isEmpty()) {
+            entries.put(element, combinations);
+            for (final List<Object> values : combinations) {
+                keyMap.computeIfAbsent(values, v -> ConcurrentHashMap.newKeySet()).add(element);
+            }
+        }
+    }
+
+    private void removeComposite(final List<String> keys, final T element) {
+        final Map<List<Object>, Set<T>> keyMap = this.compositeIndex.get(keys);
+        final Map<T, List<List<Object>>> entries = this.compositeEntries.get(keys);
+        if (null == keyMap || null == entries)
+            return;
+
+        final List<List<Object>> combinations = entries.remove(element);
+        if (null != combinations) {
+            for (final List<Object> values : combinations) {
+                final Set<T> objects = keyMap.get(values);
+                if (null != objects) {
+                    objects.remove(element);
+                    if (objects.size() == 0) {
+                        keyMap.remove(values);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets every combination of values the element has for the keys with the label key resolving to the label of the
+     * element. The list is empty if the element is missing a value for any of the keys.
+     */
+    private static List<List<Object>> compositeValues(final List<String> keys, final Element element) {
+        List<List<Object>> combinations = Collections.singletonList(Collections.emptyList());
+        for (final String key : keys) {
+            final Set<Object> values = new LinkedHashSet<>();
+            if (key.equals(LABEL_KEY))
+                values.add(element.label());
+            else
+                element.properties(key).forEachRemaining(property -> values.add(property.value()));
+
+            if (values.isEmpty())
+                return Collections.emptyList();
+
+            final List<List<Object>> next = new ArrayList<>(combinations.size() * values.size());
+            for (final List<Object> combination : combinations) {
+                for (final Object value : values) {
+                    final List<Object> extended = new ArrayList<>(combination);
+                    extended.add(value);
+                    next.add(extended);
+                }
+            }
+            combinations = next;
+        }
+        return combinations;
+    }
+
+    private static LongAdder counter(final Map<String, LongAdder> counts, final String key) {
+        return counts.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private Map<Object, Set<T>> getKeyMap(final String key, final Object value) {
+        return isOrdered(key, value) ? this.orderedIndex.get(key) : this.index.get(key);
+    }
+
+    private boolean isOrdered(final String key, final Object value) {
+        return this.indexedKeys.get(key) == TinkerGraph.IndexType.ORDERED && isOrderable(value);
+    }
+
+    private static boolean isOrderable(final Object value) {
+        return value instanceof Comparable;
+    }
+
+    private static boolean sameGroup(final Object first, final Object second) {
+        return (first instanceof Number && second instanceof Number) || first.getClass().equals(second.getClass());
+    }
+
+    /**
+     * Orders values so that those that {@link Compare} can evaluate against one another sit next to each other.
+     * {@link Number} values are compared by their numeric value regardless of their type and all other values are
+     * grouped by class and compared by their natural ordering.
+     */
+    private static int compareValues(final Object first, final Object second) {
+        if (first instanceof Number && second instanceof Number) {
+            if (first.getClass().equals(second.getClass()))
+                return ((Comparable) first).compareTo(second);
+            else if (isFinite((Number) first) && isFinite((Number) second))
+                return new BigDecimal(first.toString()).compareTo(new BigDecimal(second.toString()));
+            else
+                return Double.compare(((Number) first).doubleValue(), ((Number) second).doubleValue());
+        } else if (first instanceof Number) {
+            return -1;
+        } else if (second instanceof Number) {
+            return 1;
+        } else if (first.getClass().equals(second.getClass())) {
+            return ((Comparable) first).compareTo(second);
+        } else {
+            return first.getClass().getName().compareTo(second.getClass().getName());
+        }
+    }
+
+    private static boolean isFinite(final Number number) {
+        return !(number instanceof Double || number instanceof Float) || !Double.isInfinite(number.doubleValue()) && !Double.isNaN(number.doubleValue());
     }
 }
@@ -79,8 +79,14 @@ public final class TinkerProperty<V> implements Property<V> {
         if (this.element instanceof Edge) {
             ((TinkerEdge) this.element).properties.remove(this.key);
             TinkerHelper.removeIndex((TinkerEdge) this.element, this.key, this.value);
+            final TinkerGraph graph = (TinkerGraph) this.element.graph();
+            if (null != graph.log) graph.log.removeEdgeProperty((TinkerEdge) this.element, this.key);
         } else {
-            ((TinkerVertexProperty) this.element).properties.remove(this.key);
+            final TinkerVertexProperty vertexProperty = (TinkerVertexProperty) this.element;
+            vertexProperty.properties.remove(this.key);
+            final TinkerGraph graph = (TinkerGraph) vertexProperty.graph();
+            if (null != graph.log && TinkerHelper.isAttached(vertexProperty))
+                graph.log.removeMetaProperty(vertexProperty, this.key);
         }
     }
 }
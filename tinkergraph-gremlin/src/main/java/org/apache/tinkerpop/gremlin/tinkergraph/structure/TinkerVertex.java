@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -43,8 +44,8 @@ import java.util.stream.Collectors;
 public final class TinkerVertex extends TinkerElement implements Vertex {
 
     protected Map<String, List<VertexProperty>> properties;
-    protected Map<String, Set<Edge>> outEdges;
-    protected Map<String, Set<Edge>> inEdges;
+    protected Map<String, Collection<Edge>> outEdges;
+    protected Map<String, Collection<Edge>> inEdges;
     private final TinkerGraph graph;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
@@ -101,10 +102,15 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
             final VertexProperty<V> vertexProperty = new TinkerVertexProperty<V>(idValue, this, key, value);
 
             if (null == this.properties) this.properties = new HashMap<>();
-            final List<VertexProperty> list = this.properties.getOrDefault(key, new ArrayList<>());
+            // most keys only ever hold a single property so the list starts small rather than at the default size
+            List<VertexProperty> list = this.properties.get(key);
+            if (null == list) {
+                list = new ArrayList<>(1);
+                this.properties.put(key, list);
+            }
             list.add(vertexProperty);
-            this.properties.put(key, list);
             TinkerHelper.autoUpdateIndex(this, key, value, null);
+            if (null != this.graph.log) this.graph.log.vertexProperty(cardinality, vertexProperty);
             ElementHelper.attachProperties(vertexProperty, keyValues);
             return vertexProperty;
         }
@@ -130,9 +136,12 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
         final List<Edge> edges = new ArrayList<>();
         this.edges(Direction.BOTH).forEachRemaining(edges::add);
         edges.stream().filter(edge -> !((TinkerEdge) edge).removed).forEach(Edge::remove);
-        this.properties = null;
         TinkerHelper.removeElementIndex(this);
+        this.properties = null;
         this.graph.vertices.remove(this.id);
+        TinkerHelper.removeLabelIndex(this.graph.vertexLabels, this);
+        this.graph.statistics.changed();
+        if (null != this.graph.log) this.graph.log.removeVertex(this);
         this.removed = true;
     }
 
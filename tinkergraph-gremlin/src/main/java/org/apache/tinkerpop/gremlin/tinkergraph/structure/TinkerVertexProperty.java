@@ -117,9 +117,11 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
     @Override
     public <U> Property<U> property(final String key, final U value) {
         if (this.removed) throw elementAlreadyRemoved(VertexProperty.class, id);
+        final TinkerGraph graph = (TinkerGraph) this.vertex.graph();
         final Property<U> property = new TinkerProperty<>(this, key, value);
         if (this.properties == null) this.properties = new HashMap<>();
         this.properties.put(key, property);
+        if (null != graph.log && TinkerHelper.isAttached(this)) graph.log.metaProperty(this, key, value);
         return property;
     }
 
@@ -142,6 +144,8 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
                     delete.set(false);
             });
             if (delete.get()) TinkerHelper.removeIndex(this.vertex, this.key, this.value);
+            final TinkerGraph graph = (TinkerGraph) this.vertex.graph();
+            if (null != graph.log) graph.log.removeVertexProperty(this);
             this.properties = null;
             this.removed = true;
         }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+
+public class TinkerMessengerTest {
+
+    private final MessageCombiner<Integer> sum = (a, b) -> a + b;
+
+    private Vertex marko;
+    private List<Vertex> senders;
+
+    @Before
+    public void setup() {
+        final Graph graph = TinkerFactory.createModern();
+        this.marko = graph.vertices(1).next();
+        this.senders = Arrays.asList(graph.vertices(2).next(), graph.vertices(3).next(), graph.vertices(4).next());
+    }
+
+    @Test
+    public void shouldCombineMessagesSentToSameVertex() {
+        final TinkerMessageBoard<Integer> messageBoard = new TinkerMessageBoard<>();
+        final MessageScope.Global toMarko = MessageScope.Global.of(marko);
+        for (int i = 0; i < senders.size(); i++) {
+            new TinkerMessenger<>(senders.get(i), messageBoard, Optional.of(sum)).sendMessage(toMarko, i + 1);
+        }
+        messageBoard.completeIteration();
+
+        assertEquals(Collections.singletonList(6), IteratorUtils.list(new TinkerMessenger<>(marko, messageBoard, Optional.of(sum)).receiveMessages()));
+        assertEquals(0, IteratorUtils.count(new TinkerMessenger<>(senders.get(0), messageBoard, Optional.of(sum)).receiveMessages()));
+    }
+
+    @Test
+    public void shouldNotCombineMessagesWithoutCombiner() {
+        final TinkerMessageBoard<Integer> messageBoard = new TinkerMessageBoard<>();
+        final MessageScope.Global toMarko = MessageScope.Global.of(marko);
+        for (int i = 0; i < senders.size(); i++) {
+            new TinkerMessenger<>(senders.get(i), messageBoard, Optional.<MessageCombiner<Integer>>empty()).sendMessage(toMarko, i + 1);
+        }
+        messageBoard.completeIteration();
+
+        final List<Integer> messages = IteratorUtils.list(new TinkerMessenger<>(marko, messageBoard, Optional.<MessageCombiner<Integer>>empty()).receiveMessages());
+        Collections.sort(messages);
+        assertEquals(Arrays.asList(1, 2, 3), messages);
+    }
+
+    @Test
+    public void shouldNotReceiveCombinedMessagesOfEarlierIterations() {
+        final TinkerMessageBoard<Integer> messageBoard = new TinkerMessageBoard<>();
+        final MessageScope.Global toMarko = MessageScope.Global.of(marko);
+        senders.forEach(v -> new TinkerMessenger<>(v, messageBoard, Optional.of(sum)).sendMessage(toMarko, 1));
+        messageBoard.completeIteration();
+        assertEquals(Collections.singletonList(3), IteratorUtils.list(new TinkerMessenger<>(marko, messageBoard, Optional.of(sum)).receiveMessages()));
+
+        // the maps of combined messages are reused across iterations so they must not carry the earlier messages
+        new TinkerMessenger<>(senders.get(0), messageBoard, Optional.of(sum)).sendMessage(toMarko, 10);
+        messageBoard.completeIteration();
+        assertEquals(Collections.singletonList(10), IteratorUtils.list(new TinkerMessenger<>(marko, messageBoard, Optional.of(sum)).receiveMessages()));
+
+        messageBoard.completeIteration();
+        assertEquals(0, IteratorUtils.count(new TinkerMessenger<>(marko, messageBoard, Optional.of(sum)).receiveMessages()));
+    }
+}
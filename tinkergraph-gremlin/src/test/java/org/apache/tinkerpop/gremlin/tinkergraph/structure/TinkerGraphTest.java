@@ -22,8 +22,16 @@ import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.GraphHelper;
 import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.CompilationCacheStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ParallelStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CostBasedFilterStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -42,6 +50,9 @@ import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoClassResolverV1d0;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerMemory;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerWorkerPool;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
@@ -59,18 +70,27 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -227,6 +247,384 @@ public class TinkerGraphTest {
         }, 35)).has("name", "stephen").count().next());
     }
 
+    @Test
+    public void shouldUseOrderedVertexIndexForRangeLookups() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "vadas", "age", 27L);
+        g.addVertex("name", "josh", "age", 32);
+        g.addVertex("name", "peter", "age", 35.0d);
+        g.addVertex("name", "lop", "age", "old");
+
+        // spy into the pipeline to ensure that only vertices within the range are evaluated
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("josh") || t.equals("peter"));
+            return true;
+        }, "x")).has("age", P.gt(29)).count().next());
+
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("marko") || t.equals("josh"));
+            return true;
+        }, "x")).has("age", P.between(28L, 35)).count().next());
+
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("vadas") || t.equals("marko"));
+            return true;
+        }, "x")).has("age", P.lte(29.0d)).count().next());
+
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("marko") || t.equals("lop"));
+            return true;
+        }, "x")).has("age", P.within(29, "old")).count().next());
+
+        assertEquals(new Long(1), g.traversal().V().has("age", P.gte("a")).count().next());
+    }
+
+    @Test
+    public void shouldMaintainIndexStatistics() {
+        final TinkerGraph g = TinkerGraph.open();
+        for (int i = 0; i < 10000; i++) {
+            g.addVertex("group", i % 100, "name", "v" + i);
+        }
+
+        // the index is built in parallel
+        g.createIndex("group", Vertex.class);
+        assertEquals(10000, g.getIndexElementCount("group", Vertex.class));
+        assertEquals(100, g.getIndexValueCount("group", Vertex.class));
+        assertEquals(new Long(100), g.traversal().V().has("group", 7).count().next());
+
+        final Vertex v = g.vertices(g.traversal().V().has("group", 7).id().next()).next();
+        v.property("group", 1000);
+        assertEquals(10000, g.getIndexElementCount("group", Vertex.class));
+        assertEquals(101, g.getIndexValueCount("group", Vertex.class));
+
+        v.remove();
+        assertEquals(9999, g.getIndexElementCount("group", Vertex.class));
+        assertEquals(100, g.getIndexValueCount("group", Vertex.class));
+        assertEquals(new Long(0), g.traversal().V().has("group", 1000).count().next());
+
+        g.vertices().next().property("group").remove();
+        assertEquals(9998, g.getIndexElementCount("group", Vertex.class));
+
+        g.dropIndex("group", Vertex.class);
+        assertEquals(0, g.getIndexElementCount("group", Vertex.class));
+        assertEquals(0, g.getIndexValueCount("group", Vertex.class));
+    }
+
+    @Test
+    public void shouldUseMostSelectiveIndexForWithinAndRangeLookups() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+        g.createIndex("name", Vertex.class);
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "vadas", "age", 27);
+        g.addVertex("name", "josh", "age", 32);
+        g.addVertex("name", "peter", "age", 35);
+        g.addVertex("name", "vadas", "age", 40);
+        g.addVertex("name", "vadas", "age", 41);
+
+        // the range on "age" is bounded by all six vertices while the within() matches four of them
+        assertEquals(new Long(1), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("marko") || t.equals("vadas"));
+            return t.equals("marko");
+        }, "x")).has("name", P.within("vadas", "marko")).has("age", P.lt(30)).count().next());
+
+        // the within() matches two vertices which is fewer than the vertices held by the "age" index
+        assertEquals(new Long(1), g.traversal().V().has("age", P.test((t, u) -> {
+            assertTrue(t.equals(29) || t.equals(32));
+            return true;
+        }, 0)).has("age", P.gt(30)).has("name", P.within("josh", "marko")).count().next());
+    }
+
+    @Test
+    public void shouldMaintainOrderedVertexIndexOnUpdate() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.addVertex("name", "marko", "age", 29);
+        final Vertex v = g.addVertex("name", "josh", "age", 32);
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.ORDERED);
+        assertEquals(TinkerGraph.IndexType.ORDERED, g.getIndexType("age", Vertex.class));
+
+        assertEquals(new Long(1), g.traversal().V().has("age", P.gt(30)).count().next());
+        v.property("age", 25);
+        assertEquals(new Long(0), g.traversal().V().has("age", P.gt(30)).count().next());
+        assertEquals(new Long(2), g.traversal().V().has("age", P.lt(30)).count().next());
+        v.remove();
+        assertEquals(new Long(1), g.traversal().V().has("age", P.lt(30)).count().next());
+
+        g.createIndex("age", Vertex.class);
+        assertEquals(TinkerGraph.IndexType.HASH, g.getIndexType("age", Vertex.class));
+        assertEquals(new Long(1), g.traversal().V().has("age", P.lt(30)).count().next());
+    }
+
+    @Test
+    public void shouldUseOrderedEdgeIndexForRangeLookups() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("weight", Edge.class, TinkerGraph.IndexType.ORDERED);
+
+        final Vertex v = g.addVertex();
+        v.addEdge("friend", v, "oid", "1", "weight", 0.5f);
+        v.addEdge("friend", v, "oid", "2", "weight", 0.6f);
+        v.addEdge("friend", v, "oid", "3", "weight", 1.0f);
+
+        assertEquals(new Long(1), g.traversal().E().has("oid", P.test((t, u) -> {
+            assertEquals("2", t);
+            return true;
+        }, "x")).has("weight", P.between(0.55f, 1.0f)).count().next());
+    }
+
+    @Test
+    public void shouldUseCompositeVertexIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.addVertex(T.label, "person", "tenantId", 1, "externalId", "a", "name", "marko");
+        g.addVertex(T.label, "person", "tenantId", 1, "externalId", "b", "name", "vadas");
+        g.addVertex(T.label, "person", "tenantId", 2, "externalId", "a", "name", "josh");
+        g.addVertex(T.label, "software", "tenantId", 1, "externalId", "a", "name", "lop");
+        g.addVertex(T.label, "software", "tenantId", 1, "externalId", "c", "name", "ripple");
+        g.createCompositeIndex(Vertex.class, T.label.getAccessor(), "tenantId", "externalId");
+        g.createIndex("tenantId", Vertex.class);
+        g.createIndex("externalId", Vertex.class);
+
+        // only the single vertex that satisfies all three equality checks should be evaluated
+        assertEquals(new Long(1), g.traversal().V().has("name", P.test((t, u) -> {
+            assertEquals("marko", t);
+            return true;
+        }, "x")).hasLabel("person").has("tenantId", 1).has("externalId", "a").count().next());
+
+        // without the label the composite index cannot be used so the more selective "externalId" index is used
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("marko") || t.equals("josh") || t.equals("lop"));
+            return true;
+        }, "x")).has("tenantId", 1).has("externalId", "a").count().next());
+    }
+
+    @Test
+    public void shouldMaintainCompositeVertexIndexOnUpdate() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createCompositeIndex(Vertex.class, "tenantId", "externalId");
+        assertEquals(1, g.getCompositeIndexes(Vertex.class).size());
+        assertTrue(g.getCompositeIndexes(Vertex.class).contains(Arrays.asList("tenantId", "externalId")));
+
+        final Vertex v = g.addVertex("tenantId", 1, "externalId", "a");
+        assertEquals(new Long(1), g.traversal().V().has("tenantId", 1).has("externalId", "a").count().next());
+
+        v.property("externalId", "b");
+        assertEquals(new Long(0), g.traversal().V().has("tenantId", 1).has("externalId", "a").count().next());
+        assertEquals(new Long(1), g.traversal().V().has("tenantId", 1).has("externalId", "b").count().next());
+
+        v.property(VertexProperty.Cardinality.list, "externalId", "c");
+        assertEquals(new Long(1), g.traversal().V().has("tenantId", 1).has("externalId", "b").count().next());
+        assertEquals(new Long(1), g.traversal().V().has("tenantId", 1).has("externalId", "c").count().next());
+
+        v.properties("externalId").forEachRemaining(p -> {
+            if (p.value().equals("b")) p.remove();
+        });
+        assertEquals(new Long(0), g.traversal().V().has("tenantId", 1).has("externalId", "b").count().next());
+        assertEquals(new Long(1), g.traversal().V().has("tenantId", 1).has("externalId", "c").count().next());
+
+        v.remove();
+        assertEquals(new Long(0), g.traversal().V().has("tenantId", 1).has("externalId", "c").count().next());
+
+        g.dropCompositeIndex(Vertex.class, "tenantId", "externalId");
+        assertEquals(0, g.getCompositeIndexes(Vertex.class).size());
+    }
+
+    @Test
+    public void shouldUseCompositeEdgeIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createCompositeIndex(Edge.class, T.label.getAccessor(), "oid");
+
+        final Vertex v = g.addVertex();
+        v.addEdge("friend", v, "oid", "1", "weight", 0.5f);
+        v.addEdge("friend", v, "oid", "2", "weight", 0.6f);
+        final Edge e = v.addEdge("knows", v, "oid", "1", "weight", 0.7f);
+
+        assertEquals(new Long(1), g.traversal().E().has("weight", P.test((t, u) -> {
+            assertEquals(0.7f, t);
+            return true;
+        }, 0.5)).hasLabel("knows").has("oid", "1").count().next());
+
+        e.property("oid").remove();
+        assertEquals(new Long(0), g.traversal().E().hasLabel("knows").has("oid", "1").count().next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateCompositeIndexWithOneKey() {
+        TinkerGraph.open().createCompositeIndex(Vertex.class, "name");
+    }
+
+    @Test
+    public void shouldUseLabelIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex marko = g.addVertex(T.label, "person", "name", "marko");
+        final Vertex vadas = g.addVertex(T.label, "person", "name", "vadas");
+        g.addVertex(T.label, "software", "name", "lop");
+        g.addVertex(T.label, "animal", "name", "fido");
+        marko.addEdge("knows", vadas, "weight", 0.5f);
+        marko.addEdge("created", marko, "weight", 0.4f);
+
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("marko") || t.equals("vadas"));
+            return true;
+        }, "x")).hasLabel("person").count().next());
+
+        assertEquals(new Long(3), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(!t.equals("fido"));
+            return true;
+        }, "x")).hasLabel("person", "software").count().next());
+
+        assertEquals(new Long(1), g.traversal().E().has("weight", P.test((t, u) -> {
+            assertEquals(0.5f, t);
+            return true;
+        }, 0.5)).hasLabel("knows").count().next());
+
+        assertEquals(new Long(0), g.traversal().V().hasLabel("person").hasLabel("software").count().next());
+        assertEquals(new Long(2), g.traversal().V().hasLabel("person").count().next());
+        assertEquals(new Long(1), g.traversal().E().hasLabel("created").count().next());
+
+        vadas.remove();
+        assertEquals(new Long(1), g.traversal().V().hasLabel("person").count().next());
+        assertEquals(new Long(0), g.traversal().E().hasLabel("knows").count().next());
+        assertEquals(1, g.traversal().V().hasLabel("person").toList().size());
+
+        g.clear();
+        assertEquals(new Long(0), g.traversal().V().hasLabel("person").count().next());
+    }
+
+    @Test
+    public void shouldProvideStatistics() {
+        final TinkerGraph g = TinkerGraph.open();
+        final Graph.Statistics statistics = g.statistics();
+        assertEquals(0, statistics.count(Vertex.class, null));
+        assertEquals(0, statistics.count(Vertex.class, "person"));
+
+        final Vertex marko = g.addVertex(T.label, "person", "name", "marko");
+        final Vertex vadas = g.addVertex(T.label, "person", "name", "vadas");
+        final Vertex lop = g.addVertex(T.label, "software", "name", "lop");
+        marko.addEdge("knows", vadas);
+        marko.addEdge("created", lop);
+        vadas.addEdge("created", lop);
+
+        assertEquals(3, statistics.count(Vertex.class, null));
+        assertEquals(2, statistics.count(Vertex.class, "person"));
+        assertEquals(0, statistics.count(Vertex.class, "animal"));
+        assertEquals(3, statistics.count(Edge.class, null));
+        assertEquals(2, statistics.count(Edge.class, "created"));
+        assertEquals(1.0d, statistics.averageDegree(Direction.OUT, null), 0.0001d);
+        assertEquals(2.0d, statistics.averageDegree(Direction.BOTH, null), 0.0001d);
+        assertEquals(2.0d / 3.0d, statistics.averageDegree(Direction.IN, "created"), 0.0001d);
+        assertEquals("{0=1, 1=1, 2=1}", statistics.degreeDistribution(Direction.OUT, null).toString());
+        assertEquals("{0=2, 2=1}", statistics.degreeDistribution(Direction.IN, "created").toString());
+        assertEquals("{0=3}", statistics.degreeDistribution(Direction.IN, "uses").toString());
+        assertTrue(statistics.degreeDistribution(Direction.BOTH, null).isEmpty());
+
+        vadas.remove();
+        assertEquals(1, statistics.count(Vertex.class, "person"));
+        assertEquals(1, statistics.count(Edge.class, "created"));
+        assertEquals("{0=1, 1=1}", statistics.degreeDistribution(Direction.OUT, null).toString());
+        assertEquals("{0=1, 1=1}", statistics.degreeDistribution(Direction.IN, "created").toString());
+
+        assertFalse(statistics.isIndexed(Vertex.class, "person", "name"));
+        assertTrue(statistics.histogram(Vertex.class, "name").isEmpty());
+        g.createIndex("name", Vertex.class);
+        assertTrue(statistics.isIndexed(Vertex.class, "person", "name"));
+        assertFalse(statistics.isIndexed(Edge.class, null, "name"));
+        assertEquals(Collections.singletonMap(null, Collections.singleton("name")), statistics.indexedKeys(Vertex.class));
+        assertEquals(1L, (long) statistics.histogram(Vertex.class, "name").get("marko"));
+        assertNull(statistics.histogram(Vertex.class, "name").get("vadas"));
+        assertEquals(2, statistics.histogram(Vertex.class, "name").size());
+
+        g.clear();
+        assertEquals("{0=0}", statistics.degreeDistribution(Direction.OUT, null).toString());
+    }
+
+    @Test
+    public void shouldChangeStatisticsVersionOnChangesToStatistics() {
+        final TinkerGraph g = TinkerGraph.open();
+        final Graph.Statistics statistics = g.statistics();
+        final Vertex marko = g.addVertex(T.label, "person", "name", "marko");
+        final Vertex lop = g.addVertex(T.label, "software", "name", "lop");
+
+        long version = statistics.version();
+        final Edge created = marko.addEdge("created", lop);
+        assertTrue(version != (version = statistics.version()));
+        created.remove();
+        assertTrue(version != (version = statistics.version()));
+        g.createIndex("name", Vertex.class);
+        assertTrue(version != (version = statistics.version()));
+        marko.property("name", "marko a. rodriguez");
+        assertTrue(version != (version = statistics.version()));
+        // values of keys that are not indexed are not part of the statistics
+        marko.property("age", 29);
+        assertEquals(version, statistics.version());
+        lop.remove();
+        assertTrue(version != (version = statistics.version()));
+        g.dropIndex("name", Vertex.class);
+        assertTrue(version != statistics.version());
+    }
+
+    @Test
+    public void shouldRecompileCachedTraversalsWhenStatisticsChange() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final CompilationCacheStrategy cache = CompilationCacheStrategy.build().create();
+        final GraphTraversalSource g = graph.traversal().withStrategies(cache);
+        final GraphTraversalSource costBased = g.withStrategies(CostBasedFilterStrategy.instance());
+
+        g.V().has("name", "marko").hasLabel("person").out().iterate();
+        costBased.V().has("name", "marko").hasLabel("person").out().iterate();
+        assertEquals(2, cache.size());
+        assertTrue(cache.getCompiled(g.V().has("name", "marko").hasLabel("person").out().asAdmin()).isPresent());
+        assertTrue(cache.getCompiled(costBased.V().has("name", "marko").hasLabel("person").out().asAdmin()).isPresent());
+
+        // only the traversal that was compiled with statistics is out of date
+        graph.addVertex(T.label, "person", "name", "daniel");
+        assertTrue(cache.getCompiled(g.V().has("name", "marko").hasLabel("person").out().asAdmin()).isPresent());
+        assertFalse(cache.getCompiled(costBased.V().has("name", "marko").hasLabel("person").out().asAdmin()).isPresent());
+        assertEquals(1, cache.size());
+
+        assertEquals(3, costBased.V().has("name", "marko").hasLabel("person").out().count().next().intValue());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldShareWorkOfSkewedGraphBetweenWorkers() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex hub = graph.addVertex(T.id, 0);
+        for (int i = 1; i < 2000; i++) {
+            final Vertex v = graph.addVertex(T.id, i);
+            hub.addEdge("link", v);
+            if (i % 10 == 0) v.addEdge("link", graph.vertices(i - 1).next());
+        }
+
+        final TinkerGraphComputer single = (TinkerGraphComputer) graph.compute().workers(1);
+        final Graph singleResult = single.program(PageRankVertexProgram.build().create(graph)).submit().get().graph();
+        final int workers = graph.compute().features().getMaxWorkers();
+        final TinkerGraphComputer multiple = (TinkerGraphComputer) graph.compute().workers(workers);
+        final Graph multipleResult = multiple.program(PageRankVertexProgram.build().create(graph)).submit().get().graph();
+
+        assertEquals(1, single.getWorkerBusyTimes().size());
+        assertEquals(workers, multiple.getWorkerBusyTimes().size());
+        singleResult.vertices().forEachRemaining(v -> assertEquals(
+                (double) v.value(PageRankVertexProgram.PAGE_RANK),
+                (double) multipleResult.vertices(v.id()).next().value(PageRankVertexProgram.PAGE_RANK), 0.00001d));
+
+        // every vertex is handed out exactly once no matter how the workers share the chunks
+        final VertexProgram<?> vertexProgram = PageRankVertexProgram.build().create(graph);
+        try (final TinkerWorkerPool pool = new TinkerWorkerPool(graph, new TinkerMemory(vertexProgram, Collections.emptySet()), 4)) {
+            pool.setVertexProgram(vertexProgram);
+            for (int i = 0; i < 2; i++) {
+                final Map<Object, Integer> visits = new ConcurrentHashMap<>();
+                pool.executeVertexProgram((vertices, vp, workerMemory) ->
+                        vertices.forEachRemaining(v -> visits.merge(v.id(), 1, Integer::sum)));
+                assertEquals(2000, visits.size());
+                assertTrue(visits.values().stream().allMatch(count -> count == 1));
+            }
+            assertEquals(4, pool.getBusyTimes().length);
+        }
+    }
+
     @Test
     public void shouldUpdateEdgeIndicesInNewGraph() {
         final TinkerGraph g = TinkerGraph.open();
@@ -507,6 +905,127 @@ public class TinkerGraphTest {
         reloadedGraph.close();
     }
 
+    @Test(expected = IllegalStateException.class)
+    public void shouldRequireGraphLocationIfLogIsEnabled() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOG, true);
+        TinkerGraph.open(conf);
+    }
+
+    @Test
+    public void shouldPersistToLogWithoutClosing() {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldPersistToLogWithoutClosing.kryo";
+        new File(graphLocation).delete();
+        new File(graphLocation + ".log").delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "gryo");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOG, true);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateTheCrew(graph);
+        final Vertex v = graph.addVertex("name", "temp");
+        v.addEdge("uses", graph.vertices(1).next(), "since", 2017);
+        v.remove();
+        final VertexProperty<?> location = graph.vertices(1).next().properties("location").next();
+        location.property("temp", true);
+        location.property("temp").remove();
+        final Edge e = graph.edges(13).next();
+        e.property("temp", "x");
+        e.property("temp").remove();
+
+        // the graph is not closed so everything has to come from the log
+        assertEquals(false, new File(graphLocation).exists());
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        IoTest.assertCrewGraph(reloadedGraph, false);
+        reloadedGraph.close();
+    }
+
+    @Test
+    public void shouldCompactLog() throws Exception {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldCompactLog.kryo";
+        new File(graphLocation).delete();
+        new File(graphLocation + ".log").delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "gryo");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOG, true);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOG_COMPACTION_THRESHOLD, 5);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+        graph.close();
+
+        assertTrue(new File(graphLocation).exists());
+        final TinkerGraph snapshotGraph = TinkerGraph.open();
+        snapshotGraph.io(IoCore.gryo()).readGraph(graphLocation);
+        assertTrue(IteratorUtils.count(snapshotGraph.vertices()) > 0);
+
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        IoTest.assertModernGraph(reloadedGraph, true, false);
+        reloadedGraph.close();
+    }
+
+    @Test
+    public void shouldCompactLogOnlyWhenOpenedOrClosed() throws Exception {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldCompactLogOnlyWhenOpenedOrClosed.kryo";
+        new File(graphLocation).delete();
+        new File(graphLocation + ".log").delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "gryo");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOG, true);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOG_COMPACTION_THRESHOLD, 5);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+
+        // mutations past the threshold do not write the graph
+        assertFalse(new File(graphLocation).exists());
+
+        // the graph is not closed so the log is compacted as it is replayed
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        assertTrue(new File(graphLocation).exists());
+        assertFalse(new File(graphLocation + ".log").exists());
+        assertFalse(new File(graphLocation + ".tmp").exists());
+        IoTest.assertModernGraph(reloadedGraph, true, false);
+        reloadedGraph.close();
+
+        final TinkerGraph lastGraph = TinkerGraph.open(conf);
+        IoTest.assertModernGraph(lastGraph, true, false);
+        lastGraph.close();
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteLogRecord() throws Exception {
+        final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldIgnoreIncompleteLogRecord.kryo";
+        new File(graphLocation).delete();
+        new File(graphLocation + ".log").delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "gryo");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOG, true);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+        graph.close();
+
+        // a record that was cut short as if the process died while writing it
+        try (final OutputStream out = new FileOutputStream(graphLocation + ".log", true)) {
+            out.write(new byte[]{3, 1});
+        }
+
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        IoTest.assertModernGraph(reloadedGraph, true, false);
+        reloadedGraph.addVertex(T.id, 100, "name", "stephen");
+        reloadedGraph.close();
+
+        final TinkerGraph lastGraph = TinkerGraph.open(conf);
+        assertEquals(7, IteratorUtils.count(lastGraph.vertices()));
+        assertEquals("stephen", lastGraph.vertices(100).next().value("name"));
+        lastGraph.close();
+    }
+
     @Test
     public void shouldPersistToAnyGraphFormat() {
         final String graphLocation = TestHelper.makeTestDataDirectory(TinkerGraphTest.class) + "shouldPersistToAnyGraphFormat.dat";
@@ -624,6 +1143,53 @@ public class TinkerGraphTest {
             clone.traversal().V().has("name", "stephen").next());
     }
 
+    @Test
+    public void shouldInterruptParallelPartitionsWhenTraversalIsInterrupted() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            vertices.add(graph.addVertex());
+        }
+        for (final Vertex outV : vertices) {
+            for (final Vertex inV : vertices) {
+                if (outV != inV)
+                    outV.addEdge("knows", inV);
+            }
+        }
+
+        // futures of this executor are cancelled without an interrupt, so the partitions have to stop on their own
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(3, 3, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        try {
+            final GraphTraversalSource g = graph.traversal().withStrategies(
+                    ParallelStrategy.build().parallelism(4).executor(executor).create());
+            final AtomicReference<Throwable> error = new AtomicReference<>();
+            final Thread traversalThread = new Thread(() -> {
+                try {
+                    g.V().repeat(__.both()).times(8).path().count().next();
+                } catch (final Throwable t) {
+                    error.set(t);
+                }
+            });
+            traversalThread.start();
+            while (executor.getActiveCount() < 3) {
+                Thread.sleep(10);
+            }
+
+            traversalThread.interrupt();
+            traversalThread.join(10000);
+            assertFalse(traversalThread.isAlive());
+            assertTrue(error.get() instanceof TraversalInterruptedException);
+
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (executor.getActiveCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, executor.getActiveCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Coerces a {@code Color} to a {@link TinkerGraph} during serialization.  Demonstrates how custom serializers
      * can be developed that can coerce one value to another during serialization.